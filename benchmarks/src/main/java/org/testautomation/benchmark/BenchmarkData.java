@@ -0,0 +1,72 @@
+package org.testautomation.benchmark;
+
+import org.testautomation.batch.SeedDataLoader;
+import org.testautomation.domain.CartItemRequest;
+import org.testautomation.domain.CheckoutItemRequest;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.UserCartItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Builds detached entities and request payloads with the same generator the seed job uses,
+ * with ids assigned as if they had been loaded from the database.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static List<Product> products(int count) {
+        List<Category> categories = SeedDataLoader.newCategories();
+        for (int i = 0; i < categories.size(); i++) {
+            categories.get(i).setId((long) i + 1);
+        }
+
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = SeedDataLoader.newProduct(i, categories);
+            product.setId((long) i);
+            products.add(product);
+        }
+        return products;
+    }
+
+    public static List<UserCartItem> cartItems(List<Product> products) {
+        List<UserCartItem> items = new ArrayList<>(products.size());
+        for (Product product : products) {
+            UserCartItem item = new UserCartItem();
+            item.setId(product.getId());
+            item.setProduct(product);
+            item.setQuantity(ThreadLocalRandom.current().nextInt(1, 6));
+            items.add(item);
+        }
+        return items;
+    }
+
+    public static List<CheckoutItemRequest> checkoutItems(List<UserCartItem> cartItems) {
+        List<CheckoutItemRequest> items = new ArrayList<>(cartItems.size());
+        for (UserCartItem cartItem : cartItems) {
+            CheckoutItemRequest item = new CheckoutItemRequest();
+            item.setProductId(cartItem.getProduct().getId());
+            item.setQuantity(cartItem.getQuantity());
+            item.setUnitPrice(cartItem.getProduct().getPrice());
+            items.add(item);
+        }
+        return items;
+    }
+
+    public static List<CartItemRequest> cartRequests(List<UserCartItem> cartItems) {
+        List<CartItemRequest> items = new ArrayList<>(cartItems.size());
+        for (UserCartItem cartItem : cartItems) {
+            CartItemRequest item = new CartItemRequest();
+            item.setProductId(cartItem.getProduct().getId());
+            item.setQuantity(cartItem.getQuantity());
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,102 @@
+package org.testautomation.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and exits with status 1 when a benchmark got slower than the
+ * baseline by more than the threshold (default 10%).
+ *
+ * <pre>java -cp target/benchmarks.jar org.testautomation.benchmark.CompareResults baseline.json current.json [thresholdPercent]</pre>
+ */
+public class CompareResults {
+
+    static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode baseline = objectMapper.readTree(Path.of(args[0]).toFile());
+        JsonNode current = objectMapper.readTree(Path.of(args[1]).toFile());
+
+        List<Comparison> comparisons = compare(baseline, current, threshold);
+        boolean regressed = false;
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Comparison comparison : comparisons) {
+            System.out.printf("%-90s %14.3f %14.3f %8.1f%% %s%s%n",
+                    comparison.name(),
+                    comparison.baseline(),
+                    comparison.current(),
+                    comparison.changePercent(),
+                    comparison.unit(),
+                    comparison.regressed() ? "  REGRESSION" : "");
+            regressed |= comparison.regressed();
+        }
+        if (regressed) {
+            System.err.printf("Benchmarks regressed by more than %.1f%%%n", threshold);
+            System.exit(1);
+        }
+    }
+
+    static List<Comparison> compare(JsonNode baseline, JsonNode current, double thresholdPercent) {
+        Map<String, JsonNode> baselineByName = index(baseline);
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : index(current).entrySet()) {
+            JsonNode before = baselineByName.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double baselineScore = before.path("primaryMetric").path("score").asDouble();
+            double currentScore = after.path("primaryMetric").path("score").asDouble();
+            // Throughput is better when higher; every other JMH mode reports time per operation
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double changePercent = baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore * 100;
+            double worsePercent = higherIsBetter ? -changePercent : changePercent;
+            comparisons.add(new Comparison(
+                    entry.getKey(),
+                    baselineScore,
+                    currentScore,
+                    changePercent,
+                    after.path("primaryMetric").path("scoreUnit").asText(),
+                    worsePercent > thresholdPercent));
+        }
+        return comparisons;
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byName = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            byName.put(name(result), result);
+        }
+        return byName;
+    }
+
+    private static String name(JsonNode result) {
+        StringBuilder name = new StringBuilder(result.path("benchmark").asText());
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        params.forEach((key, value) -> name.append(' ').append(key).append('=').append(value));
+        return name.toString();
+    }
+
+    record Comparison(String name, double baseline, double current, double changePercent, String unit, boolean regressed) {
+    }
+}
@@ -0,0 +1,117 @@
+package org.testautomation.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the application repeatedly in each startup mode and prints the time until it reported ready. Needs the
+ * jar built with {@code mvn package -Pfast-startup} and a reachable database; application arguments after
+ * {@code --} are passed to every run, e.g. {@code --spring.datasource.url=...}.
+ *
+ * <pre>java -cp target/benchmarks.jar org.testautomation.benchmark.StartupBenchmark [runs] [-- app args]</pre>
+ */
+public class StartupBenchmark {
+
+    static final Pattern STARTUP_LINE = Pattern.compile("^STARTUP ready_ms=(\\d+) jvm_uptime_ms=(\\d+) aot=(\\w+) cds=(\\w+)");
+    private static final Path APP_JAR = Path.of("target/TestAutomationTarget-1.0-SNAPSHOT.jar");
+    private static final Path CDS_ARCHIVE = Path.of("target/app.jsa");
+    private static final long TIMEOUT_SECONDS = 300;
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        List<String> own = Arrays.asList(args).subList(0, separator < 0 ? args.length : separator);
+        List<String> appArgs = separator < 0 ? List.of() : Arrays.asList(args).subList(separator + 1, args.length);
+        int runs = own.isEmpty() ? 5 : Integer.parseInt(own.get(0));
+        if (!Files.exists(APP_JAR) || !Files.exists(CDS_ARCHIVE)) {
+            System.err.println("Build the application with mvn package -Pfast-startup first (run from the repository root)");
+            System.exit(2);
+        }
+
+        List<Variant> variants = List.of(
+                new Variant("default", List.of(), List.of()),
+                new Variant("flyway-validate", List.of(), List.of("--spring.profiles.active=fast-startup")),
+                new Variant("aot", List.of("-Dspring.aot.enabled=true"), List.of("--spring.profiles.active=fast-startup")),
+                new Variant("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Xlog:cds=error"),
+                        List.of("--spring.profiles.active=fast-startup")));
+
+        System.out.printf("%-16s %10s %10s %10s %12s%n", "mode", "min ms", "median ms", "max ms", "ready ms");
+        for (Variant variant : variants) {
+            List<Long> wall = new ArrayList<>();
+            List<Long> ready = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                long[] result = start(variant, appArgs);
+                wall.add(result[0]);
+                ready.add(result[1]);
+            }
+            wall.sort(null);
+            ready.sort(null);
+            System.out.printf("%-16s %10d %10d %10d %12d%n",
+                    variant.name(), wall.get(0), median(wall), wall.get(wall.size() - 1), median(ready));
+        }
+    }
+
+    // Returns {wall-clock ms from launch to the STARTUP line, ready_ms reported by the application}
+    private static long[] start(Variant variant, List<String> appArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(variant.jvmArgs());
+        command.add("-jar");
+        command.add(APP_JAR.toString());
+        command.add("--server.port=0");
+        command.add("--spring.batch.job.enabled=false");
+        command.add("--seed.enabled=false");
+        command.add("--app.startup.report=true");
+        command.addAll(variant.appArgs());
+        command.addAll(appArgs);
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Thread.ofVirtual().start(() -> {
+            try {
+                if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<String> tail = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTUP_LINE.matcher(line);
+                if (matcher.find()) {
+                    long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    return new long[]{wallMillis, Long.parseLong(matcher.group(1))};
+                }
+                tail.add(line);
+                if (tail.size() > 40) {
+                    tail.remove(0);
+                }
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        throw new IllegalStateException(variant.name() + " did not report startup:\n" + String.join("\n", tail));
+    }
+
+    static long median(List<Long> sorted) {
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private record Variant(String name, List<String> jvmArgs, List<String> appArgs) {
+    }
+}
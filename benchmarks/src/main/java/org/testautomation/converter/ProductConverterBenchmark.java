@@ -0,0 +1,46 @@
+package org.testautomation.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testautomation.benchmark.BenchmarkData;
+import org.testautomation.domain.ProductDTO;
+import org.testautomation.entity.Product;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProductConverterBenchmark {
+
+    // Default and maximum page size of GET /api/products
+    @Param({"12", "100"})
+    public int pageSize;
+
+    private ProductConverter productConverter;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        productConverter = new ProductConverter(new CategoryConverter());
+        products = BenchmarkData.products(pageSize);
+    }
+
+    @Benchmark
+    public List<ProductDTO> toDtoPage() {
+        return products.stream().map(productConverter::toDto).toList();
+    }
+}
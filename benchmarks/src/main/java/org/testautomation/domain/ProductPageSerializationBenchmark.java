@@ -0,0 +1,53 @@
+package org.testautomation.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.testautomation.benchmark.BenchmarkData;
+import org.testautomation.converter.CategoryConverter;
+import org.testautomation.converter.ProductConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProductPageSerializationBenchmark {
+
+    private static final int TOTAL_ELEMENTS = 1000;
+
+    @Param({"12", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ProductPageResponse page;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the ObjectMapper used by the REST controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ProductConverter productConverter = new ProductConverter(new CategoryConverter());
+        List<ProductDTO> items = BenchmarkData.products(pageSize).stream().map(productConverter::toDto).toList();
+        page = new ProductPageResponse(items, 0, pageSize, TOTAL_ELEMENTS, (TOTAL_ELEMENTS + pageSize - 1) / pageSize);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
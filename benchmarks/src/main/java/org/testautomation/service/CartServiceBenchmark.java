@@ -0,0 +1,46 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testautomation.benchmark.BenchmarkData;
+import org.testautomation.domain.CartItemRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CartServiceBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int cartSize;
+
+    private CartService cartService;
+    private List<CartItemRequest> payload;
+
+    @Setup
+    public void setUp() {
+        cartService = new CartService(null, null, null, null, new SimpleMeterRegistry());
+        payload = BenchmarkData.cartRequests(BenchmarkData.cartItems(BenchmarkData.products(cartSize)));
+    }
+
+    @Benchmark
+    public Map<Long, Integer> normalize() {
+        return cartService.normalize(payload);
+    }
+}
@@ -0,0 +1,54 @@
+package org.testautomation.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testautomation.benchmark.BenchmarkData;
+import org.testautomation.domain.CheckoutItemRequest;
+import org.testautomation.entity.UserCartItem;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CheckoutServiceBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int cartSize;
+
+    private List<UserCartItem> cartItems;
+    private List<CheckoutItemRequest> checkoutItems;
+
+    @Setup
+    public void setUp() {
+        // Only the pure validation and pricing steps of a checkout are measured; they do not touch the repositories
+        cartItems = BenchmarkData.cartItems(BenchmarkData.products(cartSize));
+        checkoutItems = BenchmarkData.checkoutItems(cartItems);
+    }
+
+    @Benchmark
+    public void validateItemsMatchCart(Blackhole blackhole) {
+        CheckoutCart.requireItemsMatch(cartItems, checkoutItems);
+        blackhole.consume(cartItems);
+    }
+
+    @Benchmark
+    public BigDecimal calculateSubtotal() {
+        return CheckoutCart.subtotal(cartItems);
+    }
+}
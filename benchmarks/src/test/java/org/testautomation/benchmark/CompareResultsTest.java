@@ -0,0 +1,57 @@
+package org.testautomation.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompareResultsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void flagsAverageTimeIncreaseAboveThreshold() throws Exception {
+        JsonNode baseline = results("avgt", 100.0, 50.0);
+        JsonNode current = results("avgt", 115.0, 52.0);
+
+        List<CompareResults.Comparison> comparisons = CompareResults.compare(baseline, current, 10.0);
+
+        assertThat(comparisons).hasSize(2);
+        assertThat(comparisons.get(0).name()).isEqualTo("org.example.Bench.run cartSize=1");
+        assertThat(comparisons.get(0).regressed()).isTrue();
+        assertThat(comparisons.get(0).changePercent()).isEqualTo(15.0);
+        assertThat(comparisons.get(1).regressed()).isFalse();
+    }
+
+    @Test
+    void flagsThroughputDropAboveThreshold() throws Exception {
+        JsonNode baseline = results("thrpt", 1000.0, 1000.0);
+        JsonNode current = results("thrpt", 850.0, 1200.0);
+
+        List<CompareResults.Comparison> comparisons = CompareResults.compare(baseline, current, 10.0);
+
+        assertThat(comparisons).extracting(CompareResults.Comparison::regressed).containsExactly(true, false);
+    }
+
+    @Test
+    void skipsBenchmarksMissingFromBaseline() throws Exception {
+        JsonNode baseline = objectMapper.readTree("[]");
+        JsonNode current = results("avgt", 100.0, 50.0);
+
+        assertThat(CompareResults.compare(baseline, current, 10.0)).isEmpty();
+    }
+
+    private JsonNode results(String mode, double first, double second) throws Exception {
+        return objectMapper.readTree("""
+                [
+                  {"benchmark": "org.example.Bench.run", "mode": "%1$s", "params": {"cartSize": "1"},
+                   "primaryMetric": {"score": %2$s, "scoreUnit": "ns/op"}},
+                  {"benchmark": "org.example.Bench.run", "mode": "%1$s", "params": {"cartSize": "10"},
+                   "primaryMetric": {"score": %3$s, "scoreUnit": "ns/op"}}
+                ]
+                """.formatted(mode, first, second));
+    }
+}
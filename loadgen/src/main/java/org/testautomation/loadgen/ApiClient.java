@@ -0,0 +1,103 @@
+package org.testautomation.loadgen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+final class ApiClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final LatencyReport report;
+
+    ApiClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, Duration requestTimeout, LatencyReport report) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.report = report;
+    }
+
+    ApiClient withReport(LatencyReport report) {
+        return new ApiClient(httpClient, objectMapper, baseUrl, requestTimeout, report);
+    }
+
+    JsonNode get(Session session, String endpoint, String path) {
+        return exchange(session, endpoint, "GET", path, null, Map.of());
+    }
+
+    JsonNode post(Session session, String endpoint, String path, Object body) {
+        return exchange(session, endpoint, "POST", path, body, Map.of());
+    }
+
+    JsonNode post(Session session, String endpoint, String path, Object body, Map<String, String> headers) {
+        return exchange(session, endpoint, "POST", path, body, headers);
+    }
+
+    JsonNode put(Session session, String endpoint, String path, Object body) {
+        return exchange(session, endpoint, "PUT", path, body, Map.of());
+    }
+
+    /**
+     * Sends one request and records its latency under {@code endpoint}, a route template such as
+     * {@code GET /api/products/{id}} so percentiles are not split per id.
+     */
+    private JsonNode exchange(Session session, String endpoint, String method, String path, Object body,
+                              Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+        headers.forEach(builder::header);
+        String cookies = session.cookieHeader();
+        if (!cookies.isEmpty()) {
+            builder.header("Cookie", cookies);
+        }
+        if (body == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(toJson(body)));
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException ex) {
+            report.recordFailure(endpoint, System.nanoTime() - start, "io");
+            throw new ScenarioAbortedException(endpoint + " failed: " + ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ScenarioAbortedException(endpoint + " interrupted");
+        }
+        report.record(endpoint, System.nanoTime() - start, response.statusCode());
+        session.update(response.headers());
+
+        if (response.statusCode() >= 400) {
+            throw new ScenarioAbortedException(endpoint + " returned " + response.statusCode());
+        }
+        try {
+            return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (IOException ex) {
+            throw new ScenarioAbortedException(endpoint + " returned invalid JSON");
+        }
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.testautomation.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms. Requests record into lock-free HdrHistogram recorders; the
+ * reporting thread periodically drains them into cumulative histograms.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile long startedAt = System.nanoTime();
+
+    void record(String endpoint, long nanos, int status) {
+        EndpointStats stats = stats(endpoint);
+        stats.recorder.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+        if (status >= 400) {
+            countError(stats, String.valueOf(status));
+        }
+    }
+
+    /**
+     * Records a request or scenario run that ended without an HTTP status, e.g. {@code io} or {@code aborted}.
+     */
+    void recordFailure(String endpoint, long nanos, String reason) {
+        EndpointStats stats = stats(endpoint);
+        stats.recorder.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+        countError(stats, reason);
+    }
+
+    private static void countError(EndpointStats stats, String reason) {
+        stats.errors.increment();
+        stats.errorsByReason.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Drops everything recorded so far, used at the end of the warm-up period.
+     */
+    synchronized void reset() {
+        for (EndpointStats stats : endpoints.values()) {
+            stats.recorder.getIntervalHistogram();
+            stats.total.reset();
+            stats.errors.reset();
+            stats.errorsByReason.clear();
+        }
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * Drains the recorders and returns the number of requests and the highest p99 seen since the previous call.
+     */
+    synchronized Interval drain() {
+        long count = 0;
+        long worstP99 = 0;
+        for (EndpointStats stats : endpoints.values()) {
+            Histogram interval = stats.recorder.getIntervalHistogram();
+            stats.total.add(interval);
+            count += interval.getTotalCount();
+            if (interval.getTotalCount() > 0) {
+                worstP99 = Math.max(worstP99, interval.getValueAtPercentile(99));
+            }
+        }
+        return new Interval(count, worstP99 / NANOS_PER_MILLI);
+    }
+
+    synchronized void print(PrintStream out) {
+        drain();
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        out.printf("%-36s %9s %7s %8s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors by reason");
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram total = stats.total;
+            out.printf("%-36s %9d %7d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    entry.getKey(),
+                    total.getTotalCount(),
+                    stats.errors.sum(),
+                    total.getTotalCount() / seconds,
+                    total.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    total.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    total.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    total.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    total.getMaxValue() / NANOS_PER_MILLI,
+                    statusSummary(stats));
+        }
+    }
+
+    /**
+     * Writes {@code summary.json} plus one HdrHistogram percentile distribution ({@code .hgrm}, in ms) per endpoint.
+     */
+    synchronized void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        drain();
+        Files.createDirectories(directory);
+        ArrayNode summary = objectMapper.createArrayNode();
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram total = stats.total;
+            ObjectNode node = summary.addObject();
+            node.put("endpoint", entry.getKey());
+            node.put("count", total.getTotalCount());
+            node.put("errors", stats.errors.sum());
+            ObjectNode percentiles = node.putObject("percentilesMs");
+            for (double percentile : new double[]{50, 75, 90, 95, 99, 99.9, 100}) {
+                percentiles.put(String.valueOf(percentile), total.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+            }
+            ObjectNode reasons = node.putObject("errorsByReason");
+            new TreeMap<>(stats.errorsByReason).forEach((reason, counter) -> reasons.put(reason, counter.sum()));
+
+            Path histogramFile = directory.resolve(fileName(entry.getKey()) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(histogramFile))) {
+                total.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("summary.json").toFile(), summary);
+    }
+
+    long count(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        return stats == null ? 0 : stats.total.getTotalCount();
+    }
+
+    long errors(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        return stats == null ? 0 : stats.errors.sum();
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+
+    private static String statusSummary(EndpointStats stats) {
+        StringBuilder summary = new StringBuilder();
+        new TreeMap<>(stats.errorsByReason).forEach((reason, counter) -> summary.append(reason).append('=').append(counter.sum()).append(' '));
+        return summary.toString().trim();
+    }
+
+    static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+
+    record Interval(long count, double worstP99Millis) {
+    }
+
+    private static final class EndpointStats {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> errorsByReason = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,160 @@
+package org.testautomation.loadgen;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: scenario runs arrive at a target rate regardless of how long earlier runs take,
+ * each on its own virtual thread. Scenario latencies are measured from the scheduled arrival time so a slow
+ * server or a lagging scheduler shows up in the numbers instead of silently lowering the offered load.
+ */
+public class LoadGenerator {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private final LoadOptions options;
+    private final ApiClient api;
+    private final LatencyReport report = new LatencyReport();
+    private final Workload workload = new Workload();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    LoadGenerator(LoadOptions options, HttpClient httpClient, ObjectMapper objectMapper) {
+        this.options = options;
+        this.api = new ApiClient(httpClient, objectMapper, options.getBaseUrl(), options.getRequestTimeout(), report);
+        this.scenarios = options.getMix().keySet().toArray(Scenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int sum = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            sum += options.getMix().get(scenarios[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadOptions options = LoadOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(options.getRequestTimeout())
+                .build();
+
+        LoadGenerator generator = new LoadGenerator(options, httpClient, objectMapper);
+        generator.prepare();
+        generator.run();
+
+        System.out.println();
+        generator.report.print(System.out);
+        System.out.printf("%nscenario runs aborted: %d, arrivals dropped at max-in-flight: %d%n",
+                generator.aborted.sum(), generator.dropped.sum());
+        if (options.getReportDir() != null) {
+            generator.report.write(options.getReportDir(), objectMapper);
+            System.out.println("Report written to " + options.getReportDir().toAbsolutePath());
+        }
+    }
+
+    void prepare() {
+        System.out.printf("Preparing %s: loading catalog and signing up %d users...%n", options.getBaseUrl(), options.getUsers());
+        workload.prepare(api.withReport(new LatencyReport()), options.getUsers(), options.getAdminToken());
+        System.out.printf("Running %s at %.1f scenarios/s (%s arrivals) for %s, warm-up %s, mix %s%n",
+                options.getBaseUrl(), options.getRate(), options.isPoisson() ? "poisson" : "constant",
+                options.getDuration(), options.getWarmup(), options.getMix());
+    }
+
+    void run() {
+        long start = System.nanoTime();
+        long end = start + options.getDuration().toNanos();
+        long warmupEnd = start + options.getWarmup().toNanos();
+        boolean warmingUp = !options.getWarmup().isZero();
+        long nextProgress = start + PROGRESS_INTERVAL.toNanos();
+        long nextArrival = start;
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.getRate();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (nextArrival < end) {
+                long now = System.nanoTime();
+                if (warmingUp && now >= warmupEnd) {
+                    report.reset();
+                    warmingUp = false;
+                    System.out.println("Warm-up finished, recording");
+                }
+                if (now >= nextProgress) {
+                    printProgress(now - start);
+                    nextProgress += PROGRESS_INTERVAL.toNanos();
+                }
+                if (now < nextArrival) {
+                    LockSupport.parkNanos(Math.min(nextArrival - now, nextProgress - now));
+                    continue;
+                }
+
+                launch(executor, pickScenario(), nextArrival);
+                nextArrival += nextInterval(meanIntervalNanos);
+            }
+            System.out.println("Arrivals finished, waiting for " + inFlight.get() + " runs in flight");
+        }
+    }
+
+    private void launch(ExecutorService executor, Scenario scenario, long scheduledAt) {
+        if (inFlight.incrementAndGet() > options.getMaxInFlight()) {
+            inFlight.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        executor.submit(() -> {
+            try {
+                scenario.run(api, workload);
+                report.record(scenario.endpoint(), System.nanoTime() - scheduledAt, 200);
+            } catch (ScenarioAbortedException ex) {
+                aborted.increment();
+                report.recordFailure(scenario.endpoint(), System.nanoTime() - scheduledAt, "aborted");
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    Scenario pickScenario() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private long nextInterval(double meanIntervalNanos) {
+        if (!options.isPoisson()) {
+            return (long) meanIntervalNanos;
+        }
+        // Exponential inter-arrival times give a Poisson arrival process
+        return (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+    }
+
+    private void printProgress(long elapsedNanos) {
+        LatencyReport.Interval interval = report.drain();
+        System.out.printf("%4ds  %7.1f req/s  worst endpoint p99 %8.1f ms  in flight %d%n",
+                TimeUnit.NANOSECONDS.toSeconds(elapsedNanos),
+                interval.count() / (double) PROGRESS_INTERVAL.toSeconds(),
+                interval.worstP99Millis(),
+                inFlight.get());
+    }
+
+    LatencyReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,130 @@
+package org.testautomation.loadgen;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options in {@code --name=value} form, e.g.
+ * {@code --base-url=http://localhost:8080 --rate=20 --duration=PT2M --mix=browse:60,cart:20,checkout:10,orders:5,signup:5}.
+ */
+final class LoadOptions {
+
+    private String baseUrl = "http://localhost:8080";
+    private double rate = 5.0;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private int users = 50;
+    private int maxInFlight = 1000;
+    private boolean poisson = true;
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    private Path reportDir;
+    private String adminToken;
+    private Map<Scenario, Integer> mix = parseMix("browse:60,cart:15,checkout:10,orders:10,signup:5");
+
+    static LoadOptions parse(String... args) {
+        LoadOptions options = new LoadOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "base-url" -> options.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "rate" -> options.rate = positive(name, Double.parseDouble(value));
+                case "duration" -> options.duration = Duration.parse(value);
+                case "warmup" -> options.warmup = Duration.parse(value);
+                case "users" -> options.users = (int) positive(name, Integer.parseInt(value));
+                case "max-in-flight" -> options.maxInFlight = (int) positive(name, Integer.parseInt(value));
+                case "arrivals" -> options.poisson = switch (value) {
+                    case "poisson" -> true;
+                    case "constant" -> false;
+                    default -> throw new IllegalArgumentException("arrivals must be poisson or constant");
+                };
+                case "request-timeout" -> options.requestTimeout = Duration.parse(value);
+                case "report-dir" -> options.reportDir = Path.of(value);
+                case "admin-token" -> options.adminToken = value.isBlank() ? null : value;
+                case "mix" -> options.mix = parseMix(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        if (options.warmup.compareTo(options.duration) >= 0) {
+            throw new IllegalArgumentException("warmup must be shorter than duration");
+        }
+        return options;
+    }
+
+    static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("mix entries must be scenario:weight but got: " + entry);
+            }
+            Scenario scenario = Scenario.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix weights must not be negative");
+            }
+            mix.put(scenario, weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix needs at least one positive weight");
+        }
+        return mix;
+    }
+
+    private static double positive(String name, double value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return value;
+    }
+
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    double getRate() {
+        return rate;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+
+    int getUsers() {
+        return users;
+    }
+
+    int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    boolean isPoisson() {
+        return poisson;
+    }
+
+    Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    Path getReportDir() {
+        return reportDir;
+    }
+
+    String getAdminToken() {
+        return adminToken;
+    }
+
+    Map<Scenario, Integer> getMix() {
+        return mix;
+    }
+}
@@ -0,0 +1,146 @@
+package org.testautomation.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * User journeys against the REST API. Each run uses a fresh cookie session and stops at the first failed request.
+ */
+enum Scenario {
+
+    BROWSE {
+        @Override
+        void run(ApiClient api, Workload workload) {
+            Session session = new Session();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            api.get(session, "GET /api/categories", "/api/categories");
+            api.get(session, "GET /api/products", "/api/products?page=" + random.nextInt(5) + "&size=12");
+            api.get(session, "GET /api/products?categoryId", "/api/products?categoryId=" + workload.randomCategoryId() + "&size=12");
+            String searchTerm = workload.randomSearchTerm();
+            for (int typed = 1; typed <= Math.min(3, searchTerm.length()); typed++) {
+                api.get(session, "GET /api/products/suggestions", "/api/products/suggestions?q=" + searchTerm.substring(0, typed));
+            }
+            api.get(session, "GET /api/products?search", "/api/products?search=" + searchTerm + "&size=12");
+            api.get(session, "GET /api/products/{id}", "/api/products/" + workload.randomProductId());
+        }
+    },
+
+    SIGNUP {
+        @Override
+        void run(ApiClient api, Workload workload) {
+            Session session = new Session();
+            String email = workload.signUp(api, session, "POST /api/auth/signup");
+            signIn(api, session, email);
+            api.get(session, "GET /api/auth/me", "/api/auth/me");
+            workload.release(email);
+        }
+    },
+
+    CART {
+        @Override
+        void run(ApiClient api, Workload workload) {
+            String email = workload.leaseUser(api);
+            try {
+                Session session = new Session();
+                signIn(api, session, email);
+                api.get(session, "GET /api/products", "/api/products?size=12");
+                api.put(session, "PUT /api/cart", "/api/cart", randomCart(workload));
+                api.get(session, "GET /api/cart", "/api/cart");
+            } finally {
+                workload.release(email);
+            }
+        }
+    },
+
+    CHECKOUT {
+        @Override
+        void run(ApiClient api, Workload workload) {
+            String email = workload.leaseUser(api);
+            try {
+                Session session = new Session();
+                signIn(api, session, email);
+                JsonNode cart = api.put(session, "PUT /api/cart", "/api/cart", randomCart(workload));
+                api.post(session, "POST /api/checkout", "/api/checkout", checkoutRequest(email, cart));
+                api.get(session, "GET /api/orders", "/api/orders");
+            } finally {
+                workload.release(email);
+            }
+        }
+    },
+
+    ORDERS {
+        @Override
+        void run(ApiClient api, Workload workload) {
+            String email = workload.leaseUser(api);
+            try {
+                Session session = new Session();
+                signIn(api, session, email);
+                api.get(session, "GET /api/orders", "/api/orders");
+                api.get(session, "GET /api/orders/stats", "/api/orders/stats");
+            } finally {
+                workload.release(email);
+            }
+        }
+    };
+
+    abstract void run(ApiClient api, Workload workload);
+
+    String endpoint() {
+        return "scenario " + name().toLowerCase();
+    }
+
+    private static void signIn(ApiClient api, Session session, String email) {
+        api.post(session, "POST /api/auth/signin", "/api/auth/signin",
+                Map.of("email", email, "password", Workload.PASSWORD, "rememberMe", false));
+    }
+
+    private static List<Map<String, Object>> randomCart(Workload workload) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        int lines = Math.min(random.nextInt(1, 6), workload.productCount());
+        while (quantities.size() < lines) {
+            quantities.put(workload.randomProductId(), random.nextInt(1, 4));
+        }
+        List<Map<String, Object>> cart = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> cart.add(Map.of("productId", productId, "quantity", quantity)));
+        return cart;
+    }
+
+    /**
+     * Builds the checkout payload from the cart the server returned, the same way the frontend does.
+     */
+    static Map<String, Object> checkoutRequest(String email, JsonNode cart) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (JsonNode item : cart.path("items")) {
+            BigDecimal price = item.path("product").path("price").decimalValue();
+            int quantity = item.path("quantity").asInt();
+            items.add(Map.of("productId", item.path("product").path("id").asLong(), "quantity", quantity, "unitPrice", price));
+            subtotal = subtotal.add(price.multiply(BigDecimal.valueOf(quantity)));
+        }
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("shipping", Map.of(
+                "fullName", "Load Test",
+                "email", email,
+                "address", "1 Benchmark Way",
+                "city", "Oslo",
+                "postalCode", "0150",
+                "country", "Norway"));
+        request.put("payment", Map.of(
+                "method", "card",
+                "cardNumber", "4111111111111111",
+                "cardExpiry", "12/30",
+                "cardCvc", "123"));
+        request.put("items", items);
+        request.put("subtotal", subtotal);
+        request.put("currency", "USD");
+        return request;
+    }
+}
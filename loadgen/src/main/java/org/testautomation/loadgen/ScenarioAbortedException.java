@@ -0,0 +1,11 @@
+package org.testautomation.loadgen;
+
+/**
+ * Ends the current scenario run after a failed request; the failure itself is already recorded.
+ */
+class ScenarioAbortedException extends RuntimeException {
+
+    ScenarioAbortedException(String message) {
+        super(message, null, false, false);
+    }
+}
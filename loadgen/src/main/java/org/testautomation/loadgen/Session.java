@@ -0,0 +1,31 @@
+package org.testautomation.loadgen;
+
+import java.net.http.HttpHeaders;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Cookie jar for one virtual user. Kept per scenario run instead of using a CookieManager so all
+ * sessions can share a single HttpClient.
+ */
+final class Session {
+
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    synchronized void update(HttpHeaders headers) {
+        for (String header : headers.allValues("Set-Cookie")) {
+            String pair = header.split(";", 2)[0];
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                cookies.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+            }
+        }
+    }
+
+    synchronized String cookieHeader() {
+        return cookies.entrySet().stream()
+                .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                .collect(Collectors.joining("; "));
+    }
+}
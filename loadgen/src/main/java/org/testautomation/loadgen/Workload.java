@@ -0,0 +1,128 @@
+package org.testautomation.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data shared by all scenario runs: catalog ids discovered before the run and a pool of signed-up users.
+ * A user is leased by one scenario at a time so concurrent runs never replace each other's cart.
+ */
+final class Workload {
+
+    static final String PASSWORD = "LoadTest123!";
+    private static final int PROVISIONING_BATCH = 1000;
+    // Name fragments the seed job uses, so searches hit a realistic share of the catalog
+    private static final String[] SEARCH_TERMS = {"Widget", "Gadget", "Pro", "Kit", "Alpha", "Max", "Deluxe", "Lite"};
+
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicInteger userSequence = new AtomicInteger();
+    private final Queue<String> idleUsers = new ConcurrentLinkedQueue<>();
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+
+    /**
+     * Loads catalog ids and signs up {@code users} accounts. Setup requests are recorded in a separate report.
+     * With an admin token the accounts are created through the bulk provisioning endpoint.
+     */
+    void prepare(ApiClient api, int users, String adminToken) {
+        Session session = new Session();
+        for (JsonNode category : api.get(session, "setup", "/api/categories")) {
+            categoryIds.add(category.path("id").asLong());
+        }
+        JsonNode page = api.get(session, "setup", "/api/products?page=0&size=100");
+        int totalPages = Math.min(page.path("totalPages").asInt(), 10);
+        addProducts(page);
+        for (int i = 1; i < totalPages; i++) {
+            addProducts(api.get(session, "setup", "/api/products?page=" + i + "&size=100"));
+        }
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("The target has no products; start it with seed.enabled=true");
+        }
+
+        if (adminToken != null && provision(api, session, users, adminToken)) {
+            return;
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.submit(() -> idleUsers.add(signUp(api, new Session(), "setup")));
+            }
+        }
+    }
+
+    String signUp(ApiClient api, Session session, String endpoint) {
+        String email = nextEmail();
+        api.post(session, endpoint, "/api/auth/signup", Map.of("name", "Load Test", "email", email, "password", PASSWORD));
+        return email;
+    }
+
+    /**
+     * Creates the pool through the admin-only bulk endpoint of the load-test profile. Returns false when the target
+     * does not offer it or rejects the token, so the caller falls back to one sign-up per user.
+     */
+    private boolean provision(ApiClient api, Session session, int users, String adminToken) {
+        for (int created = 0; created < users; created += PROVISIONING_BATCH) {
+            List<Map<String, String>> batch = new ArrayList<>();
+            for (int i = created; i < Math.min(created + PROVISIONING_BATCH, users); i++) {
+                batch.add(Map.of("name", "Load Test", "email", nextEmail(), "password", PASSWORD));
+            }
+            try {
+                api.post(session, "setup", "/api/admin/test-data/users", Map.of("users", batch),
+                        Map.of("X-Admin-Token", adminToken));
+            } catch (ScenarioAbortedException ex) {
+                if (created == 0) {
+                    return false;
+                }
+                throw ex;
+            }
+            batch.forEach(user -> idleUsers.add(user.get("email")));
+        }
+        return true;
+    }
+
+    private String nextEmail() {
+        return "loadgen-" + runId + "-" + userSequence.incrementAndGet() + "@example.test";
+    }
+
+    /**
+     * Takes an idle pool user, or signs up a new one when every pooled user is busy.
+     */
+    String leaseUser(ApiClient api) {
+        String email = idleUsers.poll();
+        return email != null ? email : signUp(api, new Session(), "POST /api/auth/signup");
+    }
+
+    void release(String email) {
+        idleUsers.add(email);
+    }
+
+    long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    long randomCategoryId() {
+        return categoryIds.get(ThreadLocalRandom.current().nextInt(categoryIds.size()));
+    }
+
+    String randomSearchTerm() {
+        return SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)];
+    }
+
+    int productCount() {
+        return productIds.size();
+    }
+
+    private void addProducts(JsonNode page) {
+        for (JsonNode product : page.path("items")) {
+            productIds.add(product.path("id").asLong());
+        }
+    }
+}
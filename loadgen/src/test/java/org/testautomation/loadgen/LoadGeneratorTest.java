@@ -0,0 +1,112 @@
+package org.testautomation.loadgen;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadGeneratorTest {
+
+    private static final String PRODUCT = "{\"id\":7,\"name\":\"Widget Alpha 7\",\"price\":12.50}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private HttpServer server;
+
+    @BeforeEach
+    void startStubApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/categories", exchange -> respond(exchange, "[{\"id\":1,\"name\":\"Books\"}]"));
+        server.createContext("/api/products", exchange -> respond(exchange,
+                exchange.getRequestURI().getPath().equals("/api/products")
+                        ? "{\"items\":[" + PRODUCT + "],\"totalPages\":1}"
+                        : PRODUCT));
+        server.createContext("/api/auth/signup", exchange -> respond(exchange, "{\"message\":\"ok\"}"));
+        server.createContext("/api/auth/signin", exchange -> {
+            exchange.getResponseHeaders().add("Set-Cookie", "JSESSIONID=abc; Path=/; HttpOnly");
+            respond(exchange, "{}");
+        });
+        server.createContext("/api/auth/me", exchange -> respondIfSignedIn(exchange, "{}"));
+        server.createContext("/api/cart", exchange -> respondIfSignedIn(exchange,
+                "{\"items\":[{\"product\":" + PRODUCT + ",\"quantity\":2}]}"));
+        server.createContext("/api/checkout", exchange -> respondIfSignedIn(exchange, "{\"orderId\":\"1\"}"));
+        server.createContext("/api/orders", exchange -> respondIfSignedIn(exchange, "[]"));
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubApi() {
+        server.stop(0);
+    }
+
+    @Test
+    void runsEveryScenarioAndWritesReport(@TempDir Path reportDir) throws Exception {
+        LoadOptions options = LoadOptions.parse(
+                "--base-url=http://localhost:" + server.getAddress().getPort(),
+                "--rate=100",
+                "--duration=PT1S",
+                "--warmup=PT0S",
+                "--users=3",
+                "--report-dir=" + reportDir);
+        LoadGenerator generator = new LoadGenerator(options, HttpClient.newHttpClient(), objectMapper);
+
+        generator.prepare();
+        generator.run();
+        generator.getReport().write(reportDir, objectMapper);
+
+        LatencyReport report = generator.getReport();
+        for (Scenario scenario : Scenario.values()) {
+            assertThat(report.count(scenario.endpoint())).as(scenario.name()).isPositive();
+            assertThat(report.errors(scenario.endpoint())).as(scenario.name()).isZero();
+        }
+        assertThat(report.count("POST /api/checkout")).isPositive();
+        assertThat(report.count("setup")).isZero();
+
+        JsonNode summary = objectMapper.readTree(reportDir.resolve("summary.json").toFile());
+        assertThat(summary.findValuesAsText("endpoint")).contains("GET /api/products/{id}", "scenario checkout");
+        assertThat(Files.exists(reportDir.resolve("GET_api_products_id.hgrm"))).isTrue();
+    }
+
+    @Test
+    void buildsCheckoutFromReturnedCart() throws Exception {
+        JsonNode cart = objectMapper.readTree("{\"items\":[{\"product\":" + PRODUCT + ",\"quantity\":2}]}");
+
+        assertThat((BigDecimal) Scenario.checkoutRequest("a@example.test", cart).get("subtotal"))
+                .isEqualByComparingTo("25.00");
+    }
+
+    private static void respondIfSignedIn(HttpExchange exchange, String body) throws IOException {
+        String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+        if (cookie == null || !cookie.contains("JSESSIONID=abc")) {
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+            return;
+        }
+        respond(exchange, body);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,48 @@
+package org.testautomation.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadOptionsTest {
+
+    @Test
+    void parsesOptions() {
+        LoadOptions options = LoadOptions.parse(
+                "--base-url=http://target:9090/",
+                "--rate=25.5",
+                "--duration=PT2M",
+                "--warmup=PT15S",
+                "--arrivals=constant",
+                "--admin-token=load-admin",
+                "--mix=browse:3,checkout:1");
+
+        assertThat(options.getBaseUrl()).isEqualTo("http://target:9090");
+        assertThat(options.getRate()).isEqualTo(25.5);
+        assertThat(options.getDuration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(options.getWarmup()).isEqualTo(Duration.ofSeconds(15));
+        assertThat(options.isPoisson()).isFalse();
+        assertThat(options.getAdminToken()).isEqualTo("load-admin");
+        assertThat(options.getMix()).isEqualTo(Map.of(Scenario.BROWSE, 3, Scenario.CHECKOUT, 1));
+    }
+
+    @Test
+    void rejectsInvalidOptions() {
+        assertThatThrownBy(() -> LoadOptions.parse("--rate=0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("rate must be positive");
+        assertThatThrownBy(() -> LoadOptions.parse("--threads=4"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown option: --threads");
+        assertThatThrownBy(() -> LoadOptions.parse("--duration=PT10S", "--warmup=PT10S"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("warmup must be shorter than duration");
+        assertThatThrownBy(() -> LoadOptions.parse("--mix=browse:0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mix needs at least one positive weight");
+    }
+}
@@ -0,0 +1,207 @@
+package org.testautomation.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testautomation.config.AccountPurgeConfig;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.repository.UserAccountRepository;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes soft-deleted accounts a bounded chunk of rows per transaction, children before parents,
+ * so no single statement holds locks across a user's whole history.
+ */
+@Component
+@ConditionalOnProperty(name = "app.account-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class AccountPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountPurger.class);
+
+    // Deletion order matters: order items before orders, everything before the account row.
+    private static final Map<String, String> CHUNKED_DELETES = new LinkedHashMap<>();
+
+    static {
+        CHUNKED_DELETES.put("user_cart_items",
+                "DELETE FROM user_cart_items WHERE id IN (SELECT id FROM user_cart_items WHERE user_id = ? LIMIT ?)");
+        CHUNKED_DELETES.put("user_addresses",
+                "DELETE FROM user_addresses WHERE id IN (SELECT id FROM user_addresses WHERE user_id = ? LIMIT ?)");
+        CHUNKED_DELETES.put("user_payment_methods",
+                "DELETE FROM user_payment_methods WHERE id IN (SELECT id FROM user_payment_methods WHERE user_id = ? LIMIT ?)");
+        CHUNKED_DELETES.put("user_order_category_stats",
+                "DELETE FROM user_order_category_stats WHERE (user_id, category_id) IN "
+                        + "(SELECT user_id, category_id FROM user_order_category_stats WHERE user_id = ? LIMIT ?)");
+        CHUNKED_DELETES.put("user_order_stats",
+                "DELETE FROM user_order_stats WHERE user_id IN (SELECT user_id FROM user_order_stats WHERE user_id = ? LIMIT ?)");
+        CHUNKED_DELETES.put("user_order_items",
+                "DELETE FROM user_order_items WHERE (id, created_at) IN (SELECT i.id, i.created_at FROM user_order_items i "
+                        + "JOIN user_orders o ON o.id = i.order_id AND o.created_at = i.created_at WHERE o.user_id = ? LIMIT ?)");
+        CHUNKED_DELETES.put("user_orders",
+                "DELETE FROM user_orders WHERE (id, created_at) IN (SELECT id, created_at FROM user_orders WHERE user_id = ? LIMIT ?)");
+    }
+
+    private final JobLauncher jobLauncher;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserAccountRepository userAccountRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AccountPurgeConfig.AccountPurgeProperties properties;
+    private final Job accountPurgeJob;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter accountsPurged;
+    private final MeterRegistry meterRegistry;
+
+    public AccountPurger(
+            JobLauncher jobLauncher,
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate,
+            UserAccountRepository userAccountRepository,
+            EntityManagerFactory entityManagerFactory,
+            AccountPurgeConfig.AccountPurgeProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userAccountRepository = userAccountRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // Built here rather than exposed as a @Bean so Boot's startup job runner keeps a single candidate job.
+        this.accountPurgeJob = new JobBuilder("accountPurgeJob", jobRepository)
+                .start(purgeStep(jobRepository, transactionManager))
+                .build();
+
+        Gauge.builder("account.purge.backlog", backlog, AtomicLong::get)
+                .description("Soft-deleted accounts waiting to be purged")
+                .register(meterRegistry);
+        this.accountsPurged = Counter.builder("account.purge.accounts")
+                .description("Accounts fully purged")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.account-purge.interval:PT1M}")
+    public void purge() {
+        backlog.set(userAccountRepository.countByDeletedAtNotNull());
+        if (backlog.get() == 0) {
+            return;
+        }
+        try {
+            JobExecution execution = jobLauncher.run(
+                    accountPurgeJob,
+                    new JobParametersBuilder()
+                            .addLong("ts", System.currentTimeMillis())
+                            .toJobParameters()
+            );
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                log.warn("Account purge finished with status {}", execution.getStatus());
+            }
+        } catch (Exception ex) {
+            log.warn("Account purge failed", ex);
+        } finally {
+            backlog.set(userAccountRepository.countByDeletedAtNotNull());
+        }
+    }
+
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    // ── Step – One bounded delete per transaction until the backlog is empty ──
+
+    private Step purgeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("purgeDeletedAccountsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Optional<UserAccount> next = userAccountRepository.findFirstByDeletedAtNotNullOrderByDeletedAtAscIdAsc();
+                    if (next.isEmpty()) {
+                        return RepeatStatus.FINISHED;
+                    }
+                    contribution.incrementWriteCount(purgeChunk(next.get().getId()));
+                    return RepeatStatus.CONTINUABLE;
+                }, transactionManager)
+                .listener(new ChunkListener() {
+                    // Runs after each chunk's transaction commits, so the pause never holds row locks.
+                    @Override
+                    public void afterChunk(ChunkContext context) {
+                        throttle();
+                    }
+                })
+                .build();
+    }
+
+    private int purgeChunk(Long userId) {
+        int chunkSize = properties.getChunkSize();
+        for (Map.Entry<String, String> delete : CHUNKED_DELETES.entrySet()) {
+            int deleted = jdbcTemplate.update(delete.getValue(), userId, chunkSize);
+            if (deleted > 0) {
+                meterRegistry.counter("account.purge.rows", "table", delete.getKey()).increment(deleted);
+                return deleted;
+            }
+        }
+
+        int deleted = jdbcTemplate.update("DELETE FROM app_users WHERE id = ? AND deleted_at IS NOT NULL", userId);
+        if (deleted > 0) {
+            accountsPurged.increment();
+            log.info("Purged account {}", userId);
+            evictFromSecondLevelCache(userId);
+        }
+        return deleted;
+    }
+
+    // The row went away behind Hibernate's back; evict after commit so a concurrent read cannot re-cache it first
+    private void evictFromSecondLevelCache(Long userId) {
+        Runnable evict = () -> {
+            entityManagerFactory.getCache().evict(UserAccount.class, userId);
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictNaturalIdData(UserAccount.class);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict.run();
+            }
+        });
+    }
+
+    private void throttle() {
+        Duration pause = properties.getThrottle();
+        if (pause == null || pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.testautomation.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.service.CoPurchaseIndex;
+import org.testautomation.service.RecommendationService;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Configuration
+@ConditionalOnProperty(name = "recommendations.rebuild.enabled", havingValue = "true")
+public class CoPurchaseRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(CoPurchaseRebuilder.class);
+    private static final int CHUNK_SIZE = 500;
+
+    // ── Job ─────────────────────────────────────────────────────────────
+
+    @Bean
+    public Job coPurchaseRebuildJob(JobRepository jobRepository, Step rebuildCoPurchaseIndexStep) {
+        return new JobBuilder("coPurchaseRebuildJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(rebuildCoPurchaseIndexStep)
+                .build();
+    }
+
+    // ── Step – Replay order baskets into a fresh index (Chunk-oriented) ─
+
+    @Bean
+    public Step rebuildCoPurchaseIndexStep(JobRepository jobRepository,
+                                           PlatformTransactionManager tx,
+                                           ItemReader<Long> coPurchaseOrderIdReader,
+                                           RecommendationService recommendationService) {
+        AtomicReference<CoPurchaseIndex> staging = new AtomicReference<>();
+        return new StepBuilder("rebuildCoPurchaseIndexStep", jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, tx)
+                .reader(coPurchaseOrderIdReader)
+                .writer(orderIds -> {
+                    recommendationService.addOrders(staging.get(), List.copyOf(orderIds.getItems()));
+                    log.debug("Replayed {} orders into co-purchase index", orderIds.size());
+                })
+                .listener(new StepExecutionListener() {
+                    @Override
+                    public void beforeStep(StepExecution stepExecution) {
+                        staging.set(recommendationService.newIndex());
+                    }
+
+                    @Override
+                    public ExitStatus afterStep(StepExecution stepExecution) {
+                        if (ExitStatus.COMPLETED.equals(stepExecution.getExitStatus())) {
+                            recommendationService.replaceIndex(staging.get());
+                        }
+                        staging.set(null);
+                        return stepExecution.getExitStatus();
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemReader<Long> coPurchaseOrderIdReader(UserOrderRepository userOrderRepository) {
+        return new ItemReader<>() {
+            private final Deque<Long> buffer = new ArrayDeque<>();
+            private long lastOrderId = 0L;
+            private boolean exhausted;
+
+            @Override
+            public Long read() {
+                if (buffer.isEmpty() && !exhausted) {
+                    buffer.addAll(userOrderRepository.findOrderIdsAfter(lastOrderId, PageRequest.of(0, CHUNK_SIZE)));
+                    exhausted = buffer.size() < CHUNK_SIZE;
+                }
+                Long next = buffer.poll();
+                if (next != null) {
+                    lastOrderId = next;
+                }
+                return next;
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package org.testautomation.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testautomation.config.OrderConfig;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@ConditionalOnProperty(name = "app.orders.partitions.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class OrderPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPartitionMaintenance.class);
+    private static final String ORDERS = "user_orders";
+    private static final String ORDER_ITEMS = "user_order_items";
+    private static final String ARCHIVE_SCHEMA = "order_archive";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("^" + ORDERS + "_(\\d{4})_(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderConfig.Partitions properties;
+
+    public OrderPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            OrderConfig.OrderProperties orderProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = orderProperties.getPartitions();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.orders.partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        try {
+            createUpcomingPartitions(current);
+            archivePartitionsBefore(current.minusMonths(properties.getRetentionMonths()));
+        } catch (DataAccessException ex) {
+            log.warn("Order partition maintenance failed", ex);
+        }
+    }
+
+    void createUpcomingPartitions(YearMonth current) {
+        for (int offset = 0; offset <= properties.getPremakeMonths(); offset++) {
+            YearMonth month = current.plusMonths(offset);
+            // Also moves rows that already landed in the default partitions for this month
+            jdbcTemplate.queryForObject("SELECT create_order_partitions(?)", String.class, month.atDay(1));
+        }
+    }
+
+    void archivePartitionsBefore(YearMonth cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                WHERE parent.relname = ?
+                ORDER BY child.relname
+                """, String.class, ORDERS);
+
+        for (String partition : partitions) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.isBefore(cutoff)) {
+                archive(month);
+            }
+        }
+    }
+
+    private void archive(YearMonth month) {
+        String suffix = month.format(SUFFIX);
+        String orderPartition = ORDERS + "_" + suffix;
+        String itemPartition = ORDER_ITEMS + "_" + suffix;
+
+        transactionTemplate.executeWithoutResult((status) -> {
+            // Items go first: the orders partition cannot be detached while attached items still reference it.
+            if (isAttached(itemPartition, ORDER_ITEMS)) {
+                jdbcTemplate.execute("ALTER TABLE " + ORDER_ITEMS + " DETACH PARTITION " + itemPartition);
+                List<String> foreignKeys = jdbcTemplate.queryForList("""
+                        SELECT conname FROM pg_constraint
+                        WHERE conrelid = ?::regclass AND confrelid = ?::regclass AND contype = 'f'
+                        """, String.class, itemPartition, ORDERS);
+                for (String foreignKey : foreignKeys) {
+                    jdbcTemplate.execute("ALTER TABLE " + itemPartition + " DROP CONSTRAINT \"" + foreignKey.replace("\"", "\"\"") + "\"");
+                }
+                jdbcTemplate.execute("ALTER TABLE " + itemPartition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + ORDERS + " DETACH PARTITION " + orderPartition);
+            jdbcTemplate.execute("ALTER TABLE " + orderPartition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+        });
+
+        log.info("Archived order partitions for {} to schema {}", month, ARCHIVE_SCHEMA);
+    }
+
+    private boolean isAttached(String partition, String parent) {
+        Boolean attached = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM pg_inherits
+                    WHERE inhrelid = to_regclass(?) AND inhparent = to_regclass(?)
+                )
+                """, Boolean.class, partition, parent);
+        return Boolean.TRUE.equals(attached);
+    }
+}
@@ -0,0 +1,86 @@
+package org.testautomation.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.service.OrderStatsService;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+@Configuration
+@ConditionalOnProperty(name = "order-stats.backfill.enabled", havingValue = "true")
+public class OrderStatsBackfiller {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatsBackfiller.class);
+    private static final int CHUNK_SIZE = 200;
+
+    // ── Job ─────────────────────────────────────────────────────────────
+
+    @Bean
+    public Job orderStatsBackfillJob(JobRepository jobRepository, Step backfillOrderStatsStep) {
+        return new JobBuilder("orderStatsBackfillJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(backfillOrderStatsStep)
+                .build();
+    }
+
+    // ── Step – Rebuild stats per user (Chunk-oriented) ──────────────────
+
+    @Bean
+    public Step backfillOrderStatsStep(JobRepository jobRepository,
+                                       PlatformTransactionManager tx,
+                                       ItemReader<Long> orderStatsUserIdReader,
+                                       ItemWriter<Long> orderStatsWriter) {
+        return new StepBuilder("backfillOrderStatsStep", jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, tx)
+                .reader(orderStatsUserIdReader)
+                .writer(orderStatsWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemReader<Long> orderStatsUserIdReader(UserOrderRepository userOrderRepository) {
+        return new ItemReader<>() {
+            private final Deque<Long> buffer = new ArrayDeque<>();
+            private long lastUserId = 0L;
+            private boolean exhausted;
+
+            @Override
+            public Long read() {
+                if (buffer.isEmpty() && !exhausted) {
+                    buffer.addAll(userOrderRepository.findUserIdsWithOrdersAfter(lastUserId, PageRequest.of(0, CHUNK_SIZE)));
+                    exhausted = buffer.size() < CHUNK_SIZE;
+                }
+                Long next = buffer.poll();
+                if (next != null) {
+                    lastUserId = next;
+                }
+                return next;
+            }
+        };
+    }
+
+    @Bean
+    public ItemWriter<Long> orderStatsWriter(OrderStatsService orderStatsService) {
+        return userIds -> {
+            userIds.forEach(orderStatsService::rebuild);
+            log.debug("Rebuilt order stats for {} users", userIds.size());
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package org.testautomation.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.testautomation.service.RecommendationService;
+import org.testautomation.service.TestDataRestoredEvent;
+
+@Component
+@ConditionalOnProperty(name = "recommendations.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class RecommendationIndexWarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationIndexWarmUp.class);
+
+    private final RecommendationService recommendationService;
+
+    public RecommendationIndexWarmUp(RecommendationService recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    // A coPurchaseRebuildJob launched at startup has already loaded the index by the time the application is ready
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (recommendationService.isLoaded()) {
+            log.info("Co-purchase index already built by coPurchaseRebuildJob, skipping warm-up");
+            return;
+        }
+        warmUp();
+    }
+
+    @EventListener(TestDataRestoredEvent.class)
+    public void warmUp() {
+        try {
+            recommendationService.rebuild();
+        } catch (DataAccessException ex) {
+            log.warn("Co-purchase index warm-up failed", ex);
+        }
+    }
+}
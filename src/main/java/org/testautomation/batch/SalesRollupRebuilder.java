@@ -0,0 +1,106 @@
+package org.testautomation.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testautomation.repository.SalesRollupRepository;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.service.SalesAnalyticsService;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+@Configuration
+@ConditionalOnProperty(name = "analytics.rollup-rebuild.enabled", havingValue = "true")
+public class SalesRollupRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupRebuilder.class);
+    private static final int CHUNK_SIZE = 1000;
+
+    // ── Job ─────────────────────────────────────────────────────────────
+
+    @Bean
+    public Job salesRollupRebuildJob(JobRepository jobRepository,
+                                     Step clearSalesRollupsStep,
+                                     Step rebuildSalesRollupsStep) {
+        return new JobBuilder("salesRollupRebuildJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(clearSalesRollupsStep)
+                .next(rebuildSalesRollupsStep)
+                .build();
+    }
+
+    // ── Step 1 – Clear existing rollups (Tasklet) ───────────────────────
+
+    @Bean
+    public Step clearSalesRollupsStep(JobRepository jobRepository,
+                                      PlatformTransactionManager tx,
+                                      SalesRollupRepository salesRollupRepository) {
+        return new StepBuilder("clearSalesRollupsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    salesRollupRepository.deleteAllInBatch();
+                    log.info("Cleared sales rollups");
+                    return RepeatStatus.FINISHED;
+                }, tx)
+                .build();
+    }
+
+    // ── Step 2 – Re-aggregate order items (Chunk-oriented) ──────────────
+
+    @Bean
+    public Step rebuildSalesRollupsStep(JobRepository jobRepository,
+                                        PlatformTransactionManager tx,
+                                        ItemReader<UserOrderRepository.ItemSale> itemSaleReader,
+                                        ItemWriter<UserOrderRepository.ItemSale> salesRollupWriter) {
+        return new StepBuilder("rebuildSalesRollupsStep", jobRepository)
+                .<UserOrderRepository.ItemSale, UserOrderRepository.ItemSale>chunk(CHUNK_SIZE, tx)
+                .reader(itemSaleReader)
+                .writer(salesRollupWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemReader<UserOrderRepository.ItemSale> itemSaleReader(UserOrderRepository userOrderRepository) {
+        return new ItemReader<>() {
+            private final Deque<UserOrderRepository.ItemSale> buffer = new ArrayDeque<>();
+            private long lastItemId = 0L;
+            private boolean exhausted;
+
+            @Override
+            public UserOrderRepository.ItemSale read() {
+                if (buffer.isEmpty() && !exhausted) {
+                    buffer.addAll(userOrderRepository.findItemSalesAfter(lastItemId, PageRequest.of(0, CHUNK_SIZE)));
+                    exhausted = buffer.size() < CHUNK_SIZE;
+                }
+                UserOrderRepository.ItemSale next = buffer.poll();
+                if (next != null) {
+                    lastItemId = next.getItemId();
+                }
+                return next;
+            }
+        };
+    }
+
+    @Bean
+    public ItemWriter<UserOrderRepository.ItemSale> salesRollupWriter(SalesAnalyticsService salesAnalyticsService) {
+        return items -> {
+            salesAnalyticsService.recordItems(items.getItems());
+            log.debug("Aggregated {} order items into sales rollups", items.size());
+        };
+    }
+}
@@ -29,6 +29,7 @@ import org.testautomation.repository.ProductRepository;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -109,9 +110,7 @@ public class SeedDataLoader {
                 return RepeatStatus.FINISHED;
             }
             log.info("Seeding categories...");
-            for (String name : CATEGORY_NAMES) {
-                categoryRepository.save(new Category(name, "Category: " + name));
-            }
+            categoryRepository.saveAll(newCategories());
             log.info("Seeded {} categories", CATEGORY_NAMES.length);
             return RepeatStatus.FINISHED;
         };
@@ -155,19 +154,32 @@ public class SeedDataLoader {
                 int i = counter.incrementAndGet();
                 if (i > seedCount) return null;
 
-                ThreadLocalRandom rnd = ThreadLocalRandom.current();
-                String name = PREFIXES[rnd.nextInt(PREFIXES.length)] + " "
-                        + SUFFIXES[rnd.nextInt(SUFFIXES.length)] + " " + i;
-                String desc = DESCRIPTIONS[rnd.nextInt(DESCRIPTIONS.length)];
-                BigDecimal price = BigDecimal.valueOf(rnd.nextDouble(1.0, 999.99))
-                        .setScale(2, RoundingMode.HALF_UP);
-                Category category = categories.get(rnd.nextInt(categories.size()));
-
-                return new Product(name, desc, price, category);
+                return newProduct(i, categories);
             }
         };
     }
 
+    // Also used by the JMH benchmarks so they run on the same shape of data as the seeded database
+    public static List<Category> newCategories() {
+        List<Category> categories = new ArrayList<>(CATEGORY_NAMES.length);
+        for (String name : CATEGORY_NAMES) {
+            categories.add(new Category(name, "Category: " + name));
+        }
+        return categories;
+    }
+
+    public static Product newProduct(int index, List<Category> categories) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        String name = PREFIXES[rnd.nextInt(PREFIXES.length)] + " "
+                + SUFFIXES[rnd.nextInt(SUFFIXES.length)] + " " + index;
+        String desc = DESCRIPTIONS[rnd.nextInt(DESCRIPTIONS.length)];
+        BigDecimal price = BigDecimal.valueOf(rnd.nextDouble(1.0, 999.99))
+                .setScale(2, RoundingMode.HALF_UP);
+        Category category = categories.get(rnd.nextInt(categories.size()));
+
+        return new Product(name, desc, price, category);
+    }
+
     @Bean
     public ItemWriter<Product> productItemWriter(ProductRepository productRepository) {
         return items -> {
@@ -0,0 +1,50 @@
+package org.testautomation.batch;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.testautomation.service.TestDataSnapshots;
+
+@Configuration
+@ConditionalOnProperty(name = "test-data.reset.enabled", havingValue = "true")
+public class TestDataReset {
+
+    // ── Job ─────────────────────────────────────────────────────────────
+
+    @Bean
+    public Job testDataResetJob(JobRepository jobRepository, Step resetTestDataStep) {
+        return new JobBuilder("testDataResetJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(resetTestDataStep)
+                .build();
+    }
+
+    // ── Step – Capture or restore the snapshot (Tasklet) ────────────────
+
+    // TestDataSnapshots runs its own transaction, so the step does not hold one open around it
+    @Bean
+    public Step resetTestDataStep(JobRepository jobRepository,
+                                  TestDataSnapshots testDataSnapshots,
+                                  @Value("${test-data.reset.snapshot:baseline}") String snapshot,
+                                  @Value("${test-data.reset.capture:false}") boolean capture) {
+        return new StepBuilder("resetTestDataStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    if (capture) {
+                        testDataSnapshots.capture(snapshot);
+                    } else {
+                        testDataSnapshots.restore(snapshot);
+                    }
+                    return RepeatStatus.FINISHED;
+                }, new ResourcelessTransactionManager())
+                .build();
+    }
+}
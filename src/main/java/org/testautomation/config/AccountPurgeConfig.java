@@ -0,0 +1,47 @@
+package org.testautomation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class AccountPurgeConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.account-purge")
+    public AccountPurgeProperties accountPurgeProperties() {
+        return new AccountPurgeProperties();
+    }
+
+    public static class AccountPurgeProperties {
+        private boolean enabled = true;
+        private int chunkSize = 500;
+        private Duration throttle = Duration.ofMillis(100);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public Duration getThrottle() {
+            return throttle;
+        }
+
+        public void setThrottle(Duration throttle) {
+            this.throttle = throttle;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class AdaptiveConcurrencyConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.concurrency-limits")
+    public AdaptiveConcurrencyProperties adaptiveConcurrencyProperties() {
+        return new AdaptiveConcurrencyProperties();
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyFilter> adaptiveConcurrencyFilter(
+            AdaptiveConcurrencyProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registration =
+                new FilterRegistrationBean<>(new AdaptiveConcurrencyFilter(properties, System::nanoTime, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Sheds before the bulkheads queue anything; bulkhead 503s then count as failures for the limit
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+
+    public static class AdaptiveConcurrencyProperties {
+        private boolean enabled = true;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        private Duration pressureWindow = Duration.ofSeconds(1);
+        private Map<String, RouteClass> classes = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+
+        public Duration getPressureWindow() {
+            return pressureWindow;
+        }
+
+        public void setPressureWindow(Duration pressureWindow) {
+            this.pressureWindow = pressureWindow;
+        }
+
+        public Map<String, RouteClass> getClasses() {
+            return classes;
+        }
+
+        public void setClasses(Map<String, RouteClass> classes) {
+            this.classes = classes;
+        }
+    }
+
+    public static class RouteClass {
+        private List<String> paths = new ArrayList<>();
+        private int priority;
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double tolerance = 1.5;
+        private double smoothing = 0.2;
+        private double backoffRatio = 0.9;
+        private int shortWindow = 10;
+        private int longWindow = 500;
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public void setPriority(int priority) {
+            this.priority = priority;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        public double getSmoothing() {
+            return smoothing;
+        }
+
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public int getShortWindow() {
+            return shortWindow;
+        }
+
+        public void setShortWindow(int shortWindow) {
+            this.shortWindow = shortWindow;
+        }
+
+        public int getLongWindow() {
+            return longWindow;
+        }
+
+        public void setLongWindow(int longWindow) {
+            this.longWindow = longWindow;
+        }
+    }
+}
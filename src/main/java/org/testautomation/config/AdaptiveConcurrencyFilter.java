@@ -0,0 +1,113 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Rejects requests beyond an adaptive per route class concurrency limit with 503 instead of letting them queue on
+ * Tomcat and the Hikari pool. While a class sees latency above its baseline, every class with a lower priority has
+ * its limit scaled down by the same gradient, so catalog browsing is shed before checkout.
+ */
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<AdaptiveConcurrencyLimit> limits = new ArrayList<>();
+    private final Map<String, Counter> rejected = new HashMap<>();
+    private final LongSupplier clock;
+    private final long pressureWindowNanos;
+    private final String retryAfterSeconds;
+
+    public AdaptiveConcurrencyFilter(
+            AdaptiveConcurrencyConfig.AdaptiveConcurrencyProperties properties,
+            LongSupplier clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.clock = clock;
+        this.pressureWindowNanos = properties.getPressureWindow().toNanos();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+        for (Map.Entry<String, AdaptiveConcurrencyConfig.RouteClass> entry : properties.getClasses().entrySet()) {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(entry.getKey(), entry.getValue());
+            limits.add(limit);
+            rejected.put(limit.getName(), Counter.builder("http.concurrency.rejected")
+                    .tag("class", limit.getName())
+                    .register(meterRegistry));
+            Gauge.builder("http.concurrency.limit", limit, l -> l.effectiveLimit(pressure(l)))
+                    .tag("class", limit.getName())
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("class", limit.getName())
+                    .register(meterRegistry);
+        }
+        limits.sort(Comparator.comparingInt(AdaptiveConcurrencyLimit::getPriority).reversed());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = resolve(request.getRequestURI().substring(request.getContextPath().length()));
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limit.tryAcquire(pressure(limit))) {
+            rejected.get(limit.getName()).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Server is busy. Please retry.\"}");
+            return;
+        }
+
+        long start = clock.getAsLong();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            long now = clock.getAsLong();
+            limit.release(now - start, failed, now);
+        }
+    }
+
+    AdaptiveConcurrencyLimit resolve(String path) {
+        for (AdaptiveConcurrencyLimit limit : limits) {
+            for (String pattern : limit.getSettings().getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return limit;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Product of the gradients of all classes with a higher priority
+    double pressure(AdaptiveConcurrencyLimit limit) {
+        long now = clock.getAsLong();
+        double pressure = 1.0;
+        for (AdaptiveConcurrencyLimit other : limits) {
+            if (other.getPriority() > limit.getPriority()) {
+                pressure *= other.pressure(now, pressureWindowNanos);
+            }
+        }
+        return pressure;
+    }
+}
@@ -0,0 +1,108 @@
+package org.testautomation.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for one route class that follows observed latency, after the gradient algorithm in Netflix's
+ * concurrency-limits. Each successful request moves the limit towards {@code limit * gradient + sqrt(limit)}, where
+ * the gradient is the long-term average latency over the recent one (times a tolerance, capped to 0.5..1). Failed
+ * requests cut the limit by {@code backoff-ratio}.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private final String name;
+    private final AdaptiveConcurrencyConfig.RouteClass settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final double shortAlpha;
+    private final double longAlpha;
+    private volatile double limit;
+    private volatile double gradient = 1.0;
+    private volatile long gradientUpdatedAt;
+    private double shortRtt;
+    private double longRtt;
+
+    AdaptiveConcurrencyLimit(String name, AdaptiveConcurrencyConfig.RouteClass settings) {
+        this.name = name;
+        this.settings = settings;
+        this.limit = Math.max(settings.getMinLimit(), Math.min(settings.getInitialLimit(), settings.getMaxLimit()));
+        this.shortAlpha = 2.0 / (settings.getShortWindow() + 1);
+        this.longAlpha = 2.0 / (settings.getLongWindow() + 1);
+    }
+
+    // Admits the request unless the limit, scaled down by pressure from higher priority classes, is used up
+    boolean tryAcquire(double pressure) {
+        int max = effectiveLimit(pressure);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long rttNanos, boolean failed, long now) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion, failed, now);
+    }
+
+    synchronized void update(long rttNanos, int inFlightAtCompletion, boolean failed, long now) {
+        if (failed) {
+            limit = Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio());
+            return;
+        }
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) * shortAlpha;
+        longRtt += (rttNanos - longRtt) * longAlpha;
+        // After a lasting latency drop, let the baseline catch up instead of growing the limit for hundreds of samples
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        gradient = Math.max(0.5, Math.min(1.0, settings.getTolerance() * longRtt / shortRtt));
+        gradientUpdatedAt = now;
+        // Traffic that uses less than half the limit says nothing about whether a higher limit is safe
+        if (inFlightAtCompletion < current / 2) {
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        double smoothed = current * (1 - settings.getSmoothing()) + target * settings.getSmoothing();
+        limit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), smoothed));
+    }
+
+    int effectiveLimit(double pressure) {
+        return Math.max(settings.getMinLimit(), (int) (limit * pressure));
+    }
+
+    // 1.0 unless this class saw rising latency within the window; lower priority classes shrink by this factor
+    double pressure(long now, long windowNanos) {
+        return now - gradientUpdatedAt <= windowNanos ? gradient : 1.0;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getPriority() {
+        return settings.getPriority();
+    }
+
+    AdaptiveConcurrencyConfig.RouteClass getSettings() {
+        return settings;
+    }
+
+    double getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
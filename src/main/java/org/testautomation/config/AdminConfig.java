@@ -0,0 +1,28 @@
+package org.testautomation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdminConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.admin")
+    public AdminProperties adminProperties() {
+        return new AdminProperties();
+    }
+
+    public static class AdminProperties {
+        // Shared secret for /api/admin/**; blank leaves the admin endpoints unreachable
+        private String token = "";
+
+        public String getToken() {
+            return token;
+        }
+
+        public void setToken(String token) {
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.testautomation.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Grants {@code ROLE_ADMIN} for one request to callers sending the configured {@value #HEADER}. Only the
+ * {@code /api/admin/**} and {@code /api/analytics/**} endpoints and the Prometheus scrape endpoint require that role.
+ */
+public class AdminTokenFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-Admin-Token";
+    private static final List<String> ADMIN_PATHS = List.of("/api/admin/", "/api/analytics/", "/actuator/prometheus");
+
+    private final byte[] token;
+
+    public AdminTokenFilter(String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return ADMIN_PATHS.stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+        if (presented != null && MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+            SecurityContextHolder.setContext(context);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,126 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.testautomation.service.RateLimiter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class AuthRateLimitConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.auth-rate-limits")
+    public AuthRateLimitProperties authRateLimitProperties() {
+        return new AuthRateLimitProperties();
+    }
+
+    @Bean
+    public RateLimiter emailRateLimiter(AuthRateLimitProperties properties, MeterRegistry meterRegistry) {
+        Limit limit = properties.getPerEmail();
+        return new RateLimiter("email", properties.isEnabled(), limit.getCapacity(), limit.getRefillInterval(),
+                properties.getSlots(), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter(
+            AuthRateLimitProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        Limit limit = properties.getPerIp();
+        RateLimiter limiter = new RateLimiter("ip", properties.isEnabled(), limit.getCapacity(), limit.getRefillInterval(),
+                properties.getSlots(), meterRegistry);
+        FilterRegistrationBean<AuthRateLimitFilter> registration =
+                new FilterRegistrationBean<>(new AuthRateLimitFilter(limiter, Set.copyOf(properties.getPaths())));
+        registration.addUrlPatterns("/api/*");
+        // First of all filters, so limited requests do not count against concurrency limits or bulkheads
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+
+    public static class AuthRateLimitProperties {
+        private boolean enabled = true;
+        private List<String> paths = new ArrayList<>(List.of("/api/auth/signin", "/api/auth/signup"));
+        // Timestamps per row of the bucket sketch; memory is 2 * slots * 8 bytes per limiter
+        private int slots = 16384;
+        private Limit perIp = new Limit(20, Duration.ofSeconds(3));
+        private Limit perEmail = new Limit(5, Duration.ofSeconds(12));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public int getSlots() {
+            return slots;
+        }
+
+        public void setSlots(int slots) {
+            this.slots = slots;
+        }
+
+        public Limit getPerIp() {
+            return perIp;
+        }
+
+        public void setPerIp(Limit perIp) {
+            this.perIp = perIp;
+        }
+
+        public Limit getPerEmail() {
+            return perEmail;
+        }
+
+        public void setPerEmail(Limit perEmail) {
+            this.perEmail = perEmail;
+        }
+    }
+
+    public static class Limit {
+        private int capacity;
+        private Duration refillInterval;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration refillInterval) {
+            this.capacity = capacity;
+            this.refillInterval = refillInterval;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getRefillInterval() {
+            return refillInterval;
+        }
+
+        public void setRefillInterval(Duration refillInterval) {
+            this.refillInterval = refillInterval;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.testautomation.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.testautomation.service.RateLimitedException;
+import org.testautomation.service.RateLimiter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Per-client-address limit on the credential endpoints, applied before anything else runs so a flood of sign-in
+ * attempts is turned away without reaching BCrypt, the session or the database. The per-email limit is applied by
+ * {@link org.testautomation.service.AuthService} once the request body has been parsed.
+ */
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter limiter;
+    private final Set<String> paths;
+
+    public AuthRateLimitFilter(RateLimiter limiter, Set<String> paths) {
+        this.limiter = limiter;
+        this.paths = paths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long wait = limiter.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            RateLimitedException limited = new RateLimitedException(Duration.ofNanos(wait));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(limited.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"" + limited.getMessage() + "\"}");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
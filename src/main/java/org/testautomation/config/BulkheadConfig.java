@@ -0,0 +1,110 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.bulkheads")
+    public BulkheadProperties bulkheadProperties() {
+        return new BulkheadProperties();
+    }
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+            BulkheadProperties bulkheadProperties,
+            ProfileConfig.ProfileProperties profileProperties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize
+    ) {
+        checkPoolBudget(bulkheadProperties, profileProperties.getSectionLoaders(), poolSize);
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(new BulkheadFilter(bulkheadProperties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Ahead of Spring Security so rejected requests never touch the session or the database.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setEnabled(bulkheadProperties.isEnabled());
+        return registration;
+    }
+
+    // Every admitted request may hold a connection, and profile section loaders take theirs on top. Keeping the
+    // total below the pool leaves a connection for scheduled jobs, so a full bulkhead never waits on Hikari.
+    // On platform threads the bulkheads are off and Tomcat's threads are not budgeted, but the section loaders
+    // still have to leave room for the request threads that take one connection each.
+    static void checkPoolBudget(BulkheadProperties properties, int sectionLoaders, int poolSize) {
+        int total = sectionLoaders;
+        if (properties.isEnabled()) {
+            for (Group group : properties.getGroups().values()) {
+                total += group.getMaxConcurrent();
+            }
+        }
+        if (total >= poolSize) {
+            throw new IllegalStateException("app.bulkheads group limits plus app.profile.section-loaders add up to "
+                    + total + " connections, which must stay below spring.datasource.hikari.maximum-pool-size ("
+                    + poolSize + ")");
+        }
+    }
+
+    public static class BulkheadProperties {
+        private boolean enabled = true;
+        private Map<String, Group> groups = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Map<String, Group> getGroups() {
+            return groups;
+        }
+
+        public void setGroups(Map<String, Group> groups) {
+            this.groups = groups;
+        }
+    }
+
+    public static class Group {
+        private List<String> paths = new ArrayList<>();
+        private int maxConcurrent = 10;
+        private Duration maxWait = Duration.ofMillis(500);
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+}
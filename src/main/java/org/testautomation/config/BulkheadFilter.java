@@ -0,0 +1,103 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps concurrent requests per endpoint group. With virtual threads Tomcat no longer limits
+ * concurrency, so without this every request would queue on the Hikari pool instead.
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+    public BulkheadFilter(BulkheadConfig.BulkheadProperties properties, MeterRegistry meterRegistry) {
+        for (Map.Entry<String, BulkheadConfig.Group> entry : properties.getGroups().entrySet()) {
+            bulkheads.add(new Bulkhead(entry.getKey(), entry.getValue(), meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = resolve(request.getRequestURI().substring(request.getContextPath().length()));
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.permits.tryAcquire(bulkhead.group.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            bulkhead.rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Server is busy. Please retry.\"}");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.permits.release();
+        }
+    }
+
+    Bulkhead resolve(String path) {
+        for (Bulkhead bulkhead : bulkheads) {
+            for (String pattern : bulkhead.group.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return bulkhead;
+                }
+            }
+        }
+        return null;
+    }
+
+    static final class Bulkhead {
+        private final String name;
+        private final BulkheadConfig.Group group;
+        private final Semaphore permits;
+        private final Counter rejected;
+
+        Bulkhead(String name, BulkheadConfig.Group group, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.group = group;
+            this.permits = new Semaphore(group.getMaxConcurrent(), true);
+            this.rejected = Counter.builder("http.bulkhead.rejected")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("http.bulkhead.in.flight", permits, p -> group.getMaxConcurrent() - p.availablePermits())
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.testautomation.domain.CategoryDTO;
+import org.testautomation.domain.ProductDTO;
+import org.testautomation.service.SingleFlight;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Configuration
+public class CoalescingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.coalescing")
+    public CoalescingProperties coalescingProperties() {
+        return new CoalescingProperties();
+    }
+
+    @Bean
+    public SingleFlight<Long, Optional<ProductDTO>> productLookups(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new SingleFlight<>("product", properties.isEnabled(), properties.getTimeout(), meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<Long, Optional<CategoryDTO>> categoryLookups(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new SingleFlight<>("category", properties.isEnabled(), properties.getTimeout(), meterRegistry);
+    }
+
+    public static class CoalescingProperties {
+        private boolean enabled = true;
+        private Duration timeout = Duration.ofSeconds(2);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.reactivestreams.Publisher;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Configuration
+@ConditionalOnProperty(name = "app.fault-injection.enabled", havingValue = "true")
+public class FaultInjectionConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.fault-injection")
+    public FaultInjectionProperties faultInjectionProperties() {
+        return new FaultInjectionProperties();
+    }
+
+    @Bean
+    public FaultInjector faultInjector(FaultInjectionProperties faultInjectionProperties, MeterRegistry meterRegistry) {
+        return new FaultInjector(faultInjectionProperties.getMaxDelay(), meterRegistry);
+    }
+
+    @Bean
+    public static FaultInjectionDataSourcePostProcessor faultInjectionDataSourcePostProcessor(ObjectProvider<FaultInjector> faultInjector) {
+        return new FaultInjectionDataSourcePostProcessor(SingletonSupplier.of(faultInjector::getObject));
+    }
+
+    @Bean
+    public static FaultInjectionRepositoryPostProcessor faultInjectionRepositoryPostProcessor(ObjectProvider<FaultInjector> faultInjector) {
+        return new FaultInjectionRepositoryPostProcessor(SingletonSupplier.of(faultInjector::getObject));
+    }
+
+    @Bean
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(FaultInjector faultInjector) {
+        FilterRegistrationBean<FaultInjectionFilter> registration = new FilterRegistrationBean<>(new FaultInjectionFilter(faultInjector));
+        registration.addUrlPatterns("/api/*");
+        // Behind the rate limits, concurrency limits and bulkheads, so injected latency holds their slots
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        return registration;
+    }
+
+    // PriorityOrdered so it is registered before the batch job registry post-processor initialises the DataSource
+    static class FaultInjectionDataSourcePostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final Supplier<FaultInjector> faultInjector;
+
+        FaultInjectionDataSourcePostProcessor(Supplier<FaultInjector> faultInjector) {
+            this.faultInjector = faultInjector;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource dataSource ? FaultInjectionProxy.wrap(dataSource, faultInjector) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    // Rules name repository methods as <interface>.<method>; reactive methods are skipped so no event loop sleeps
+    static class FaultInjectionRepositoryPostProcessor implements BeanPostProcessor {
+
+        private final Supplier<FaultInjector> faultInjector;
+
+        FaultInjectionRepositoryPostProcessor(Supplier<FaultInjector> faultInjector) {
+            this.faultInjector = faultInjector;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof Repository<?, ?>)) {
+                return bean;
+            }
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(bean);
+            String repository = interfaces[0].getSimpleName();
+            ProxyFactory proxyFactory = new ProxyFactory();
+            proxyFactory.setTarget(bean);
+            proxyFactory.setInterfaces(interfaces);
+            proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                if (!Publisher.class.isAssignableFrom(invocation.getMethod().getReturnType())) {
+                    faultInjector.get().beforeRepository(repository + "." + invocation.getMethod().getName());
+                }
+                return invocation.proceed();
+            });
+            return proxyFactory.getProxy(bean.getClass().getClassLoader());
+        }
+    }
+
+    public static class FaultInjectionProperties {
+        private boolean enabled;
+        // Upper bound for the summed delay of one call, whatever the rules say
+        private Duration maxDelay = Duration.ofSeconds(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.testautomation.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Admin endpoints are never delayed or failed, so rules can always be removed again
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjector faultInjector;
+
+    public FaultInjectionFilter(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/api/admin/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        int status = faultInjector.beforeRoute(request.getMethod(), path);
+        if (status != 0) {
+            response.setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Injected fault\"}");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,111 @@
+package org.testautomation.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * JDK proxies around the JDBC objects handed out by the pool that run {@link FaultInjector} JDBC rules before
+ * every statement execution. The delay happens before the driver is called, so no driver lock is held meanwhile,
+ * but the caller still holds its pooled connection and whatever its transaction has locked.
+ */
+final class FaultInjectionProxy {
+
+    private FaultInjectionProxy() {
+    }
+
+    static DataSource wrap(DataSource dataSource, Supplier<FaultInjector> faultInjector) {
+        return new FaultInjectingDataSource(dataSource, faultInjector);
+    }
+
+    private static Connection wrapConnection(Connection connection, Supplier<FaultInjector> faultInjector) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, (String) args[0], faultInjector);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0], faultInjector);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null, faultInjector);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T statement, String preparedSql,
+                                                         Supplier<FaultInjector> faultInjector) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                if (faultInjector.get().beforeStatement(sql)) {
+                    throw new SQLTransientConnectionException("Injected fault", "08006");
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    // A class rather than a JDK proxy, so the bean keeps the pool's close() and is still shut down with the context
+    private static final class FaultInjectingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+        private final Supplier<FaultInjector> faultInjector;
+
+        private FaultInjectingDataSource(DataSource dataSource, Supplier<FaultInjector> faultInjector) {
+            super(dataSource);
+            this.faultInjector = faultInjector;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(obtainTargetDataSource().getConnection(), faultInjector);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(obtainTargetDataSource().getConnection(username, password), faultInjector);
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (obtainTargetDataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.testautomation.domain.FaultRuleRequest;
+import org.testautomation.domain.FaultRuleRequest.Distribution;
+import org.testautomation.domain.FaultRuleRequest.Target;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Runtime latency and error rules for routes, repository methods and JDBC statements. Every matching rule adds
+ * its sampled delay; the first rule whose error roll hits decides the failure. Delays sleep the calling thread,
+ * which unmounts a virtual thread from its carrier, so callers must not hold a monitor while injecting.
+ * Repository and JDBC delays run where the call is made: inside a transaction the caller keeps its pooled
+ * connection and row locks while it sleeps, like a slow query would. Route delays run before any of that.
+ */
+public class FaultInjector {
+
+    private final Duration maxDelay;
+    private final LongSupplier clock;
+    private final AtomicLong ids = new AtomicLong();
+    private final AntPathMatcher routeMatcher = new AntPathMatcher();
+    private final AntPathMatcher repositoryMatcher = new AntPathMatcher(".");
+    private final Map<Target, Counter> delays = new EnumMap<>(Target.class);
+    private final Map<Target, Counter> errors = new EnumMap<>(Target.class);
+    private volatile List<FaultRule> rules = List.of();
+
+    public FaultInjector(Duration maxDelay, MeterRegistry meterRegistry) {
+        this(maxDelay, System::currentTimeMillis, meterRegistry);
+    }
+
+    FaultInjector(Duration maxDelay, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.maxDelay = maxDelay;
+        this.clock = clock;
+        for (Target target : Target.values()) {
+            String tag = target.name().toLowerCase(Locale.ROOT);
+            delays.put(target, meterRegistry.counter("faults.injected", "target", tag, "fault", "delay"));
+            errors.put(target, meterRegistry.counter("faults.injected", "target", tag, "fault", "error"));
+        }
+        Gauge.builder("faults.rules.active", this, injector -> injector.rules.size()).register(meterRegistry);
+    }
+
+    public List<FaultRule> rules() {
+        long now = clock.getAsLong();
+        return rules.stream().filter(rule -> !rule.isExpired(now)).toList();
+    }
+
+    public synchronized FaultRule add(FaultRuleRequest request) {
+        Duration delay = request.getDelay() == null ? Duration.ZERO : request.getDelay();
+        Distribution distribution = request.getDistribution() == null ? Distribution.FIXED : request.getDistribution();
+        if (delay.isNegative() || isNegative(request.getMaxDelay()) || isNegative(request.getJitter())) {
+            throw new IllegalArgumentException("Delays must not be negative");
+        }
+        if (distribution == Distribution.UNIFORM && (request.getMaxDelay() == null || request.getMaxDelay().compareTo(delay) < 0)) {
+            throw new IllegalArgumentException("A uniform delay needs maxDelay of at least delay");
+        }
+        if (distribution == Distribution.NORMAL && request.getJitter() == null) {
+            throw new IllegalArgumentException("A normal delay needs jitter");
+        }
+        if (request.getExpiresAfter() != null && !request.getExpiresAfter().isPositive()) {
+            throw new IllegalArgumentException("expiresAfter must be positive");
+        }
+
+        Instant expiresAt = request.getExpiresAfter() == null
+                ? null
+                : Instant.ofEpochMilli(clock.getAsLong()).plus(request.getExpiresAfter());
+        String method = request.getMethod() == null || request.getMethod().isBlank()
+                ? null
+                : request.getMethod().toUpperCase(Locale.ROOT);
+        FaultRule rule = new FaultRule(ids.incrementAndGet(), request.getTarget(), request.getPattern().trim(), method,
+                distribution, delay, request.getMaxDelay(), request.getJitter(), request.getErrorRate(),
+                request.getErrorStatus(), expiresAt);
+        List<FaultRule> updated = new ArrayList<>(rules());
+        updated.add(rule);
+        rules = List.copyOf(updated);
+        return rule;
+    }
+
+    public synchronized boolean remove(long id) {
+        List<FaultRule> updated = new ArrayList<>(rules());
+        boolean removed = updated.removeIf(rule -> rule.id() == id);
+        rules = List.copyOf(updated);
+        return removed;
+    }
+
+    public synchronized void clear() {
+        rules = List.of();
+    }
+
+    /** Delays a request to the path and returns the status of an injected error, or 0 to carry on. */
+    public int beforeRoute(String httpMethod, String path) {
+        FaultRule failed = inject(Target.ROUTE, rule -> (rule.method() == null || rule.method().equals(httpMethod))
+                && routeMatcher.match(rule.pattern(), path));
+        return failed == null ? 0 : failed.errorStatus();
+    }
+
+    /** Delays a repository call such as {@code ProductRepository.findById}, or fails it. */
+    public void beforeRepository(String method) {
+        if (inject(Target.REPOSITORY, rule -> repositoryMatcher.match(rule.pattern(), method)) != null) {
+            throw new InjectedFaultException("Injected fault in " + method);
+        }
+    }
+
+    /** Delays a JDBC statement, or fails it. */
+    public boolean beforeStatement(String sql) {
+        String text = sql == null ? "" : sql.toLowerCase(Locale.ROOT);
+        return inject(Target.JDBC, rule -> rule.pattern().equals("*")
+                || text.contains(rule.pattern().toLowerCase(Locale.ROOT))) != null;
+    }
+
+    private FaultRule inject(Target target, Predicate<FaultRule> matches) {
+        List<FaultRule> current = rules;
+        if (current.isEmpty()) {
+            return null;
+        }
+        Injection injection = evaluate(current, target, matches);
+        if (injection.delayNanos() > 0) {
+            delays.get(target).increment();
+            sleep(injection.delayNanos());
+        }
+        if (injection.failed() != null) {
+            errors.get(target).increment();
+        }
+        return injection.failed();
+    }
+
+    Injection evaluate(List<FaultRule> current, Target target, Predicate<FaultRule> matches) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = clock.getAsLong();
+        long delayNanos = 0;
+        FaultRule failed = null;
+        for (FaultRule rule : current) {
+            if (rule.target() != target || rule.isExpired(now) || !matches.test(rule)) {
+                continue;
+            }
+            delayNanos += rule.sampleDelayNanos(random);
+            if (failed == null && rule.errorRate() > 0 && random.nextDouble() < rule.errorRate()) {
+                failed = rule;
+            }
+        }
+        return new Injection(Math.min(delayNanos, maxDelay.toNanos()), failed);
+    }
+
+    // Thread.sleep parks a virtual thread and frees its carrier; interruption ends the delay early
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isNegative(Duration duration) {
+        return duration != null && duration.isNegative();
+    }
+
+    record Injection(long delayNanos, FaultRule failed) {
+    }
+
+    public record FaultRule(
+            long id,
+            Target target,
+            String pattern,
+            String method,
+            Distribution distribution,
+            Duration delay,
+            Duration maxDelay,
+            Duration jitter,
+            double errorRate,
+            int errorStatus,
+            Instant expiresAt
+    ) {
+
+        boolean isExpired(long nowMillis) {
+            return expiresAt != null && expiresAt.toEpochMilli() <= nowMillis;
+        }
+
+        long sampleDelayNanos(ThreadLocalRandom random) {
+            long base = delay.toNanos();
+            long sampled = switch (distribution) {
+                case FIXED -> base;
+                case UNIFORM -> base + (long) (random.nextDouble() * (maxDelay.toNanos() - base));
+                case NORMAL -> base + (long) (random.nextGaussian() * jitter.toNanos());
+                case EXPONENTIAL -> (long) (-base * Math.log(1 - random.nextDouble()));
+            };
+            long capped = maxDelay == null ? sampled : Math.min(sampled, maxDelay.toNanos());
+            return Math.max(0, capped);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.testautomation.config;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Thrown in place of a repository result by a {@link FaultInjector} error rule, so callers see the same exception
+ * family as a real transient database failure.
+ */
+public class InjectedFaultException extends TransientDataAccessResourceException {
+
+    public InjectedFaultException(String message) {
+        super(message);
+    }
+}
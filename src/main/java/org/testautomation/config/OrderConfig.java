@@ -0,0 +1,68 @@
+package org.testautomation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class OrderConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.orders")
+    public OrderProperties orderProperties() {
+        return new OrderProperties();
+    }
+
+    public static class OrderProperties {
+        private int historyMonths = 12;
+        private Partitions partitions = new Partitions();
+
+        public int getHistoryMonths() {
+            return historyMonths;
+        }
+
+        public void setHistoryMonths(int historyMonths) {
+            this.historyMonths = historyMonths;
+        }
+
+        public Partitions getPartitions() {
+            return partitions;
+        }
+
+        public void setPartitions(Partitions partitions) {
+            this.partitions = partitions;
+        }
+    }
+
+    public static class Partitions {
+        private boolean maintenanceEnabled = true;
+        private int premakeMonths = 3;
+        private int retentionMonths = 12;
+
+        public boolean isMaintenanceEnabled() {
+            return maintenanceEnabled;
+        }
+
+        public void setMaintenanceEnabled(boolean maintenanceEnabled) {
+            this.maintenanceEnabled = maintenanceEnabled;
+        }
+
+        public int getPremakeMonths() {
+            return premakeMonths;
+        }
+
+        public void setPremakeMonths(int premakeMonths) {
+            this.premakeMonths = premakeMonths;
+        }
+
+        public int getRetentionMonths() {
+            return retentionMonths;
+        }
+
+        public void setRetentionMonths(int retentionMonths) {
+            this.retentionMonths = retentionMonths;
+        }
+    }
+}
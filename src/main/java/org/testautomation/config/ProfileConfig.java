@@ -0,0 +1,28 @@
+package org.testautomation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProfileConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.profile")
+    public ProfileProperties profileProperties() {
+        return new ProfileProperties();
+    }
+
+    public static class ProfileProperties {
+        // Profile sections loading at once across all requests; each holds a pooled connection while it runs
+        private int sectionLoaders = 3;
+
+        public int getSectionLoaders() {
+            return sectionLoaders;
+        }
+
+        public void setSectionLoaders(int sectionLoaders) {
+            this.sectionLoaders = sectionLoaders;
+        }
+    }
+}
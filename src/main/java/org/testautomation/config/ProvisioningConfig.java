@@ -0,0 +1,54 @@
+package org.testautomation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProvisioningConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.provisioning")
+    public ProvisioningProperties provisioningProperties() {
+        return new ProvisioningProperties();
+    }
+
+    public static class ProvisioningProperties {
+        private boolean enabled;
+        private int maxBatchSize = 1000;
+        private int insertBatchSize = 500;
+        private int hashParallelism = Runtime.getRuntime().availableProcessors();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public int getInsertBatchSize() {
+            return insertBatchSize;
+        }
+
+        public void setInsertBatchSize(int insertBatchSize) {
+            this.insertBatchSize = insertBatchSize;
+        }
+
+        public int getHashParallelism() {
+            return hashParallelism;
+        }
+
+        public void setHashParallelism(int hashParallelism) {
+            this.hashParallelism = hashParallelism;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.testautomation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "app.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.read-replicas")
+    public ReadReplicaProperties readReplicaProperties() {
+        return new ReadReplicaProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPools replicaPools(
+            DataSourceProperties dataSourceProperties,
+            ReadReplicaProperties readReplicaProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        primary.setMetricRegistry(meterRegistry);
+
+        List<ReplicaPools.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < readReplicaProperties.getReplicas().size(); i++) {
+            Replica replica = readReplicaProperties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setMaximumPoolSize(replica.getMaxPoolSize());
+            pool.setReadOnly(true);
+            // Let the application start while a replica is down; the health check marks it unhealthy
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricRegistry(meterRegistry);
+            replicas.add(new ReplicaPools.Replica(name, pool));
+        }
+        return new ReplicaPools(primary, replicas, readReplicaProperties.getHealthCheckTimeout(),
+                readReplicaProperties.getMaxReplicationLag(), meterRegistry);
+    }
+
+    // The connection is fetched lazily so the router sees the read-only flag of the transaction
+    @Bean
+    public DataSource dataSource(
+            ReplicaPools replicaPools,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jpa.open-in-view:true}") boolean openInView
+    ) {
+        checkOpenInView(openInView);
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaPools, meterRegistry));
+    }
+
+    // An open-in-view session keeps the connection of its first transaction until the request ends, so a read-only
+    // lookup would pin every later transaction of the request, writes included, to a replica
+    static void checkOpenInView(boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("app.read-replicas routes per transaction and needs spring.jpa.open-in-view=false");
+        }
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor() {
+        return new ReadYourWritesInterceptor(readReplicaProperties().getReadYourWritesWindow(), System::nanoTime);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor()).addPathPatterns("/api/**");
+    }
+
+    public static class ReadReplicaProperties {
+        private boolean enabled;
+        private List<Replica> replicas = new ArrayList<>();
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+        private Duration healthCheckTimeout = Duration.ofSeconds(2);
+        private Duration maxReplicationLag;
+        private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<Replica> getReplicas() {
+            return replicas;
+        }
+
+        public void setReplicas(List<Replica> replicas) {
+            this.replicas = replicas;
+        }
+
+        public Duration getHealthCheckInterval() {
+            return healthCheckInterval;
+        }
+
+        public void setHealthCheckInterval(Duration healthCheckInterval) {
+            this.healthCheckInterval = healthCheckInterval;
+        }
+
+        public Duration getHealthCheckTimeout() {
+            return healthCheckTimeout;
+        }
+
+        public void setHealthCheckTimeout(Duration healthCheckTimeout) {
+            this.healthCheckTimeout = healthCheckTimeout;
+        }
+
+        public Duration getMaxReplicationLag() {
+            return maxReplicationLag;
+        }
+
+        public void setMaxReplicationLag(Duration maxReplicationLag) {
+            this.maxReplicationLag = maxReplicationLag;
+        }
+
+        public Duration getReadYourWritesWindow() {
+            return readYourWritesWindow;
+        }
+
+        public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+            this.readYourWritesWindow = readYourWritesWindow;
+        }
+    }
+
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maxPoolSize = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        public void setMaxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.testautomation.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Pins every write request to the primary, signed in or not, so its read-only lookups (sign-up checking the email
+ * is free, for one) see the same database as the write that follows. For signed-in users it also remembers the
+ * last write and keeps their requests on the primary for the configured window, so a user who just checked out
+ * reads their own order before the replicas catch up. The write is recorded before the handler runs, which also
+ * covers reads racing with the commit.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesInterceptor(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            PINNED.set(Boolean.TRUE);
+        }
+        Principal principal = request.getUserPrincipal();
+        if (principal == null || windowNanos <= 0) {
+            return true;
+        }
+        long now = nanoClock.getAsLong();
+        if (write) {
+            recordWrite(principal.getName(), now);
+        }
+        Long writtenAt = lastWrites.get(principal.getName());
+        if (writtenAt != null) {
+            if (now - writtenAt < windowNanos) {
+                PINNED.set(Boolean.TRUE);
+            } else {
+                lastWrites.remove(principal.getName(), writtenAt);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PINNED.remove();
+    }
+
+    private void recordWrite(String user, long now) {
+        if (lastWrites.size() >= PRUNE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+        lastWrites.put(user, now);
+    }
+}
@@ -0,0 +1,158 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The primary pool and the read replica pools behind {@link ReplicaRoutingDataSource}. Replicas are handed out
+ * round-robin while healthy; a scheduled check takes them out of rotation when they stop answering or, when
+ * {@code app.read-replicas.max-replication-lag} is set, fall too far behind the primary.
+ */
+public class ReplicaPools implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPools.class);
+
+    // Zero when the replica has replayed everything it received, so an idle primary does not look like lag
+    private static final String REPLICATION_LAG_QUERY = """
+            select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                        else extract(epoch from now() - pg_last_xact_replay_timestamp()) end""";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration healthCheckTimeout;
+    private final Duration maxReplicationLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPools(
+            DataSource primary,
+            List<Replica> replicas,
+            Duration healthCheckTimeout,
+            Duration maxReplicationLag,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.maxReplicationLag = maxReplicationLag;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    void markUnhealthy(Replica replica, Exception cause) {
+        if (replica.setHealthy(false)) {
+            log.warn("Read replica {} taken out of rotation: {}", replica.getName(), cause.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-replicas.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try {
+                check(replica);
+                if (replica.setHealthy(true)) {
+                    log.info("Read replica {} is back in rotation", replica.getName());
+                }
+            } catch (SQLException | IllegalStateException ex) {
+                markUnhealthy(replica, ex);
+            }
+        }
+    }
+
+    private void check(Replica replica) throws SQLException {
+        int timeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                throw new IllegalStateException("connection is not valid");
+            }
+            if (maxReplicationLag == null) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(timeoutSeconds);
+                try (ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+                    double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                    if (lagSeconds * 1000 > maxReplicationLag.toMillis()) {
+                        throw new IllegalStateException("replication lag of " + lagSeconds + "s exceeds " + maxReplicationLag);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        // Returns true when the state changed
+        boolean setHealthy(boolean healthy) {
+            boolean changed = this.healthy != healthy;
+            this.healthy = healthy;
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends connections for read-only transactions to a healthy read replica and everything else to the primary.
+ * Write requests and users inside their read-your-writes window ({@link ReadYourWritesInterceptor}) stay on the
+ * primary, and a replica that fails to hand out a connection is taken out of rotation with the read falling back to
+ * the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, otherwise the
+ * connection is fetched before the transaction is marked read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final ReplicaPools pools;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(ReplicaPools pools, MeterRegistry meterRegistry) {
+        this.pools = pools;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary("read-write");
+        }
+        if (ReadYourWritesInterceptor.isPinnedToPrimary()) {
+            return primary("read-your-writes");
+        }
+        ReplicaPools.Replica replica = pools.nextHealthyReplica();
+        while (replica != null) {
+            try {
+                Connection connection = replica.getDataSource().getConnection();
+                routed(replica.getName(), "read-only");
+                return connection;
+            } catch (SQLException ex) {
+                pools.markUnhealthy(replica, ex);
+                replica = pools.nextHealthyReplica();
+            }
+        }
+        return primary("no-healthy-replica");
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = pools.getPrimary().getConnection(username, password);
+        routed("primary", "credentials");
+        return connection;
+    }
+
+    private Connection primary(String reason) throws SQLException {
+        Connection connection = pools.getPrimary().getConnection();
+        routed("primary", reason);
+        return connection;
+    }
+
+    private void routed(String target, String reason) {
+        Counter.builder("db.connections.routed")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
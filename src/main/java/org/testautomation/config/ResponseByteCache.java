@@ -0,0 +1,64 @@
+package org.testautomation.config;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used map of encoded responses bounded by their total size in bytes. Entries are stored
+ * for one catalog version at a time; storing an entry for a newer version drops everything older.
+ */
+class ResponseByteCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long version = Long.MIN_VALUE;
+    private long bytes;
+    private long evictions;
+
+    ResponseByteCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(long catalogVersion, String key, CachedResponse response) {
+        if (catalogVersion < version || response.weight() > maxBytes) {
+            return;
+        }
+        if (catalogVersion > version) {
+            entries.clear();
+            bytes = 0;
+            version = catalogVersion;
+        }
+        CachedResponse previous = entries.put(key, response);
+        bytes += response.weight() - (previous != null ? previous.weight() : 0);
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().weight();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    record CachedResponse(String contentType, byte[] body, byte[] gzipBody) {
+
+        long weight() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+}
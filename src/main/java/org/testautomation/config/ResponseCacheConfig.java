@@ -0,0 +1,86 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.testautomation.service.CatalogVersion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.response-cache")
+    public ResponseCacheProperties responseCacheProperties() {
+        return new ResponseCacheProperties();
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCacheProperties responseCacheProperties,
+            CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(responseCacheProperties, catalogVersion, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Behind Spring Security so cached responses still get the CORS and security headers.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.setEnabled(responseCacheProperties.isEnabled());
+        return registration;
+    }
+
+    public static class ResponseCacheProperties {
+        private boolean enabled = true;
+        private boolean gzip = true;
+        private DataSize maxSize = DataSize.ofMegabytes(16);
+        private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+        private Map<String, String> routes = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isGzip() {
+            return gzip;
+        }
+
+        public void setGzip(boolean gzip) {
+            this.gzip = gzip;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public DataSize getMaxEntrySize() {
+            return maxEntrySize;
+        }
+
+        public void setMaxEntrySize(DataSize maxEntrySize) {
+            this.maxEntrySize = maxEntrySize;
+        }
+
+        public Map<String, String> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(Map<String, String> routes) {
+            this.routes = routes;
+        }
+    }
+}
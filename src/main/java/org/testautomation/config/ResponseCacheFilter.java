@@ -0,0 +1,153 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.testautomation.service.CatalogVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves repeated catalog reads from already-encoded JSON bytes, skipping the controller, the DTO mapping and
+ * Jackson on hits. Entries are keyed by route, path, query parameters and {@link CatalogVersion}, so any product
+ * or category write makes the previous responses unreachable. Only 200 JSON responses are stored.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_HEADER = "X-Response-Cache";
+    private static final int MIN_GZIP_BYTES = 256;
+
+    private final ResponseCacheConfig.ResponseCacheProperties properties;
+    private final CatalogVersion catalogVersion;
+    private final ResponseByteCache cache;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Counter> hits = new TreeMap<>();
+    private final Map<String, Counter> misses = new TreeMap<>();
+
+    public ResponseCacheFilter(
+            ResponseCacheConfig.ResponseCacheProperties properties,
+            CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.catalogVersion = catalogVersion;
+        this.cache = new ResponseByteCache(properties.getMaxSize().toBytes());
+        for (String route : properties.getRoutes().keySet()) {
+            hits.put(route, requests(meterRegistry, route, "hit"));
+            misses.put(route, requests(meterRegistry, route, "miss"));
+        }
+        Gauge.builder("http.response.cache.size", cache, ResponseByteCache::bytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("http.response.cache.entries", cache, ResponseByteCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("http.response.cache.evictions", cache, ResponseByteCache::evictions)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String route = resolve(request.getRequestURI().substring(request.getContextPath().length()));
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long version = catalogVersion.current();
+        String key = key(route, request, version);
+        ResponseByteCache.CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            hits.get(route).increment();
+            write(cached, request, response);
+            return;
+        }
+
+        misses.get(route).increment();
+        ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response);
+        capture.setHeader(CACHE_HEADER, "MISS");
+        filterChain.doFilter(request, capture);
+        byte[] body = capture.getContentAsByteArray();
+        if (capture.getStatus() == HttpServletResponse.SC_OK && isJson(capture.getContentType())
+                && body.length <= properties.getMaxEntrySize().toBytes()) {
+            byte[] gzipBody = properties.isGzip() && body.length >= MIN_GZIP_BYTES ? gzip(body) : null;
+            cache.put(version, key, new ResponseByteCache.CachedResponse(capture.getContentType(), body, gzipBody));
+        }
+        capture.copyBodyToResponse();
+    }
+
+    String resolve(String path) {
+        for (Map.Entry<String, String> route : properties.getRoutes().entrySet()) {
+            if (pathMatcher.match(route.getValue(), path)) {
+                return route.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static String key(String route, HttpServletRequest request, long version) {
+        StringBuilder key = new StringBuilder(route).append(' ').append(request.getRequestURI()).append('?');
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            for (String value : values) {
+                key.append(name).append('=').append(value).append('&');
+            }
+        });
+        return key.append('#').append(version).toString();
+    }
+
+    private static void write(ResponseByteCache.CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        byte[] body = cached.body();
+        if (cached.gzipBody() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = cached.gzipBody();
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String route, String result) {
+        return Counter.builder("http.response.cache.requests")
+                .tag("route", route)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
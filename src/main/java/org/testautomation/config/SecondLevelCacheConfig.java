@@ -0,0 +1,114 @@
+package org.testautomation.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache on Caffeine's in-memory JCache provider. Every region is created up front from
+ * {@code app.second-level-cache.regions}, bounded and expiring, and Hibernate fails on any region not listed there.
+ * Hit, miss and put counts per region are published by hibernate-micrometer.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Hibernate's region for table modification times. It must never expire, or the query cache could serve stale results.
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.second-level-cache")
+    public SecondLevelCacheProperties secondLevelCacheProperties() {
+        return new SecondLevelCacheProperties();
+    }
+
+    // One cache manager per application context: the provider's default manager is a JVM-wide singleton
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+            if (region.getTimeToLive() != null && !UPDATE_TIMESTAMPS_REGION.equals(name)) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            }
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCacheProperties properties,
+                                                                    ObjectProvider<CacheManager> hibernateCacheManager) {
+        return hibernateProperties -> {
+            CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+            // Without this, hibernate-jcache on the classpath would be picked up with an unbounded default manager
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, cacheManager != null);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, cacheManager != null);
+            if (cacheManager != null) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    public static class SecondLevelCacheProperties {
+        private boolean enabled = true;
+        private Map<String, Region> regions = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(Map<String, Region> regions) {
+            this.regions = regions;
+        }
+    }
+
+    public static class Region {
+        private long maxEntries = 10_000;
+        private Duration timeToLive;
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
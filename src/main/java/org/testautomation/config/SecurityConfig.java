@@ -14,32 +14,47 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
 import org.testautomation.repository.UserAccountRepository;
+import org.testautomation.service.StatelessSessions;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            StatelessSessions statelessSessions,
+            AdminConfig.AdminProperties adminProperties
+    ) throws Exception {
         http
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests((auth) -> auth
+                        .requestMatchers("/api/admin/**", "/api/analytics/**", "/actuator/prometheus").hasRole("ADMIN")
                         .requestMatchers("/api/auth/**", "/api/products/**", "/api/categories/**", "/health", "/api/status").permitAll()
                         .requestMatchers("/api/cart/**", "/api/checkout/**", "/api/orders/**", "/api/profile/**").authenticated()
                         .anyRequest().permitAll()
                 )
-                .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                .sessionManagement((session) -> session.sessionCreationPolicy(statelessSessions.isEnabled()
+                        ? SessionCreationPolicy.STATELESS
+                        : SessionCreationPolicy.IF_REQUIRED))
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .logout(Customizer.withDefaults());
+        if (!adminProperties.getToken().isBlank()) {
+            http.addFilterBefore(new AdminTokenFilter(adminProperties.getToken()), AnonymousAuthenticationFilter.class);
+        }
+        if (statelessSessions.isEnabled()) {
+            http.addFilterBefore(new StatelessSessionFilter(statelessSessions), AnonymousAuthenticationFilter.class);
+        }
 
         return http.build();
     }
 
     @Bean
     public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository) {
-        return (username) -> userAccountRepository.findByEmailIgnoreCase(username)
+        return (username) -> userAccountRepository.findByNormalizedEmail(username)
                 .map(user -> User.withUsername(user.getEmail())
                         .password(user.getPasswordHash())
                         .roles("USER")
@@ -0,0 +1,114 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "app.sql-accounting.enabled", havingValue = "true")
+public class SqlAccountingConfig implements WebMvcConfigurer {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.sql-accounting")
+    public SqlAccountingProperties sqlAccountingProperties() {
+        return new SqlAccountingProperties();
+    }
+
+    @Bean
+    public static SqlAccountingDataSourcePostProcessor sqlAccountingDataSourcePostProcessor() {
+        return new SqlAccountingDataSourcePostProcessor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlAccountingFilter> sqlAccountingFilter(
+            SqlAccountingProperties sqlAccountingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<SqlAccountingFilter> registration =
+                new FilterRegistrationBean<>(new SqlAccountingFilter(sqlAccountingProperties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (sqlAccountingProperties().isFailOnBudgetExceeded()) {
+            registry.addInterceptor(new SqlBudgetInterceptor(sqlAccountingProperties())).addPathPatterns("/api/**");
+        }
+    }
+
+    // PriorityOrdered so it is registered before the batch job registry post-processor initialises the DataSource
+    static class SqlAccountingDataSourcePostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource dataSource ? SqlAccountingProxy.wrap(dataSource) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    public static class SqlAccountingProperties {
+        private boolean enabled;
+        private boolean debug;
+        private int repeatedSelectThreshold = 5;
+        private boolean failOnBudgetExceeded;
+        private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isDebug() {
+            return debug;
+        }
+
+        public void setDebug(boolean debug) {
+            this.debug = debug;
+        }
+
+        public int getRepeatedSelectThreshold() {
+            return repeatedSelectThreshold;
+        }
+
+        public void setRepeatedSelectThreshold(int repeatedSelectThreshold) {
+            this.repeatedSelectThreshold = repeatedSelectThreshold;
+        }
+
+        public boolean isFailOnBudgetExceeded() {
+            return failOnBudgetExceeded;
+        }
+
+        public void setFailOnBudgetExceeded(boolean failOnBudgetExceeded) {
+            this.failOnBudgetExceeded = failOnBudgetExceeded;
+        }
+
+        public Map<String, Integer> getBudgets() {
+            return budgets;
+        }
+
+        public void setBudgets(Map<String, Integer> budgets) {
+            this.budgets = budgets;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Collects {@link SqlRequestStats} for every API request. Logs suspected N+1 selects, publishes per-route
+ * statement counts and logs requests over their statement budget; {@link SqlBudgetInterceptor} fails them instead
+ * when {@code fail-on-budget-exceeded} is set. In debug mode the numbers are also added
+ * as {@code X-SQL-*} response headers and MDC log fields.
+ */
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlAccountingFilter.class);
+
+    private final SqlAccountingConfig.SqlAccountingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlAccountingFilter(SqlAccountingConfig.SqlAccountingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Headers have to be added after the handler ran, so the body is held back until then
+        ContentCachingResponseWrapper debugResponse = properties.isDebug() ? new ContentCachingResponseWrapper(response) : null;
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, debugResponse != null ? debugResponse : response);
+        } finally {
+            SqlRequestStats.end();
+            String route = route(request);
+            List<SqlRequestStats.NPlusOneSuspect> suspects = stats.nPlusOneSuspects(properties.getRepeatedSelectThreshold());
+            record(route, stats, suspects);
+            logBudget(route, stats);
+            if (debugResponse != null) {
+                writeDebugOutput(route, response.getStatus(), stats, suspects, debugResponse);
+                debugResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(String route, SqlRequestStats stats, List<SqlRequestStats.NPlusOneSuspect> suspects) {
+        DistributionSummary.builder("sql.request.statements")
+                .tag("route", route)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        for (SqlRequestStats.NPlusOneSuspect suspect : suspects) {
+            meterRegistry.counter("sql.request.nplusone", "route", route).increment();
+            log.warn("Suspected N+1 on {}: {} executions of {}", route, suspect.executions(), suspect.sql());
+        }
+    }
+
+    private void writeDebugOutput(String route, int status, SqlRequestStats stats,
+                                  List<SqlRequestStats.NPlusOneSuspect> suspects, ContentCachingResponseWrapper response) {
+        String jdbcMillis = String.format(Locale.ROOT, "%.2f", stats.getJdbcMillis());
+        response.setHeader("X-SQL-Statements", String.valueOf(stats.getStatements()));
+        response.setHeader("X-SQL-Rows", String.valueOf(stats.getRows()));
+        response.setHeader("X-SQL-Time-Ms", jdbcMillis);
+        response.setHeader("X-SQL-N-Plus-One", String.valueOf(suspects.size()));
+
+        try (MDC.MDCCloseable ignored = MDC.putCloseable("sql.statements", String.valueOf(stats.getStatements()));
+             MDC.MDCCloseable ignoredRows = MDC.putCloseable("sql.rows", String.valueOf(stats.getRows()));
+             MDC.MDCCloseable ignoredTime = MDC.putCloseable("sql.time.ms", jdbcMillis)) {
+            log.info("{} -> {}: {} statements, {} rows, {} ms JDBC", route, status, stats.getStatements(), stats.getRows(), jdbcMillis);
+        }
+    }
+
+    // The response is committed by now, so an exceeded budget can only be reported
+    private void logBudget(String route, SqlRequestStats stats) {
+        Integer budget = properties.getBudgets().get(route);
+        if (budget != null && stats.getStatements() > budget) {
+            log.warn("{} ran {} SQL statements, budget is {}", route, stats.getStatements(), budget);
+        }
+    }
+
+    static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+}
@@ -0,0 +1,172 @@
+package org.testautomation.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * JDK proxies around the JDBC objects handed out by the pool. Executions and rows are added to the
+ * current {@link SqlRequestStats}; outside a request every call passes straight through.
+ */
+final class SqlAccountingProxy {
+
+    private SqlAccountingProxy() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return new AccountingDataSource(dataSource);
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T statement, String preparedSql) {
+        StatementState state = new StatementState(preparedSql);
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                state.parameter(index, args[1]);
+                return invoke(target, method, args);
+            }
+            if (name.equals("clearParameters")) {
+                state.clearParameters();
+                return invoke(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                Object result = invoke(target, method, args);
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            }
+
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats == null) {
+                return invoke(target, method, args);
+            }
+            stats.beforeStatement();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : state.sql;
+            long start = System.nanoTime();
+            Object result = invoke(target, method, args);
+            stats.statementExecuted(sql, state.parametersHash(), System.nanoTime() - start);
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            if (result instanceof Integer updated && updated > 0) {
+                stats.rowsRead(updated);
+            } else if (result instanceof Long updated && updated > 0) {
+                stats.rowsRead(updated);
+            } else if (result instanceof int[] batch) {
+                stats.rowsRead(Arrays.stream(batch).filter(count -> count > 0).sum());
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null) {
+            return resultSet;
+        }
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                stats.rowsRead(1);
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    // A class rather than a JDK proxy, so the bean keeps the pool's close() and is still shut down with the context
+    private static final class AccountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+        private AccountingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (obtainTargetDataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+
+    private static final class StatementState {
+        private final String sql;
+        private Object[] parameters = new Object[8];
+
+        private StatementState(String sql) {
+            this.sql = sql;
+        }
+
+        private void parameter(int index, Object value) {
+            if (index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index + 1, parameters.length * 2));
+            }
+            parameters[index] = value;
+        }
+
+        private void clearParameters() {
+            Arrays.fill(parameters, null);
+        }
+
+        private int parametersHash() {
+            return Arrays.hashCode(parameters);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.testautomation.config;
+
+/**
+ * Thrown instead of running a JDBC statement that would take a request past its
+ * {@code app.sql-accounting.budgets} entry, so the request fails before its response is written.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package org.testautomation.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Arms the statement budget of the matched route on the request's {@link SqlRequestStats}. The route pattern is
+ * only known once the handler is mapped, so statements run by earlier filters count towards the budget but
+ * cannot fail the request themselves.
+ */
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    private final SqlAccountingConfig.SqlAccountingProperties properties;
+
+    public SqlBudgetInterceptor(SqlAccountingConfig.SqlAccountingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        String route = SqlAccountingFilter.route(request);
+        Integer budget = properties.getBudgets().get(route);
+        if (stats != null && budget != null) {
+            stats.enforceBudget(route, budget);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,100 @@
+package org.testautomation.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC activity of one HTTP request. Bound to the request thread by {@link SqlAccountingFilter}; statements
+ * run on other threads (e.g. the profile bootstrap executor) are not attributed to the request.
+ */
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+    private final Map<String, Set<Integer>> selectParameters = new HashMap<>();
+    private final Map<String, Integer> selectExecutions = new HashMap<>();
+    private String budgetRoute;
+    private int budget;
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void enforceBudget(String route, int budget) {
+        this.budgetRoute = route;
+        this.budget = budget;
+    }
+
+    // Called before a statement runs, so an exceeded budget fails the request while its response can still change
+    void beforeStatement() {
+        if (budgetRoute != null && statements >= budget) {
+            throw new SqlBudgetExceededException(
+                    budgetRoute + " exceeded its budget of " + budget + " SQL statements");
+        }
+    }
+
+    void statementExecuted(String sql, int parametersHash, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        if (sql != null && isSelect(sql)) {
+            selectExecutions.merge(sql, 1, Integer::sum);
+            selectParameters.computeIfAbsent(sql, key -> new HashSet<>()).add(parametersHash);
+        }
+    }
+
+    void rowsRead(long count) {
+        rows += count;
+    }
+
+    /**
+     * SELECTs that ran at least {@code threshold} times with different parameters, the usual shape of
+     * lazy loading in a loop.
+     */
+    public List<NPlusOneSuspect> nPlusOneSuspects(int threshold) {
+        List<NPlusOneSuspect> suspects = new ArrayList<>();
+        selectParameters.forEach((sql, parameters) -> {
+            if (parameters.size() >= threshold) {
+                suspects.add(new NPlusOneSuspect(sql, selectExecutions.get(sql)));
+            }
+        });
+        return suspects;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public double getJdbcMillis() {
+        return jdbcNanos / 1_000_000.0;
+    }
+
+    private static boolean isSelect(String sql) {
+        String trimmed = sql.stripLeading();
+        return trimmed.length() >= 6 && trimmed.substring(0, 6).toLowerCase(Locale.ROOT).equals("select");
+    }
+
+    public record NPlusOneSuspect(String sql, int executions) {
+    }
+}
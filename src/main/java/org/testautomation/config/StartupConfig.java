@@ -0,0 +1,69 @@
+package org.testautomation.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+
+@Configuration
+public class StartupConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupConfig.class);
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.startup")
+    public StartupProperties startupProperties() {
+        return new StartupProperties();
+    }
+
+    // Fails startup on pending or modified migrations instead of applying them
+    @Bean
+    @ConditionalOnProperty(name = "app.startup.flyway-validate-only", havingValue = "true")
+    public FlywayMigrationStrategy validateOnlyFlywayMigrationStrategy() {
+        return flyway -> {
+            log.info("Validating Flyway migrations without migrating");
+            flyway.validate();
+        };
+    }
+
+    // One machine-readable line on stdout, parsed by the startup benchmark
+    @Bean
+    @ConditionalOnProperty(name = "app.startup.report", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> startupReporter() {
+        return event -> System.out.printf("STARTUP ready_ms=%d jvm_uptime_ms=%d aot=%s cds=%s%n",
+                event.getTimeTaken().toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                AotDetector.useGeneratedArtifacts(),
+                ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                        .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile")));
+    }
+
+    public static class StartupProperties {
+        private boolean flywayValidateOnly;
+        private boolean report;
+
+        public boolean isFlywayValidateOnly() {
+            return flywayValidateOnly;
+        }
+
+        public void setFlywayValidateOnly(boolean flywayValidateOnly) {
+            this.flywayValidateOnly = flywayValidateOnly;
+        }
+
+        public boolean isReport() {
+            return report;
+        }
+
+        public void setReport(boolean report) {
+            this.report = report;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.testautomation.repository.SessionRevocationRepository;
+import org.testautomation.service.SessionRevocationList;
+import org.testautomation.service.SessionTokenCodec;
+import org.testautomation.service.StatelessSessions;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class StatelessSessionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StatelessSessionConfig.class);
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.stateless-sessions")
+    public StatelessSessionProperties statelessSessionProperties() {
+        return new StatelessSessionProperties();
+    }
+
+    @Bean
+    public SessionTokenCodec sessionTokenCodec(StatelessSessionProperties properties) {
+        if (properties.getKeys().isEmpty()) {
+            if (properties.isEnabled()) {
+                log.warn("No app.stateless-sessions.keys configured; tokens are signed with a random key and only "
+                        + "verify on this node until it restarts");
+            }
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            return new SessionTokenCodec(List.of(new SessionTokenCodec.SigningKey("local", secret)));
+        }
+        return new SessionTokenCodec(properties.getKeys().stream()
+                .map(key -> new SessionTokenCodec.SigningKey(key.getId(), key.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .toList());
+    }
+
+    @Bean
+    public SessionRevocationList sessionRevocationList(
+            SessionRevocationRepository repository,
+            StatelessSessionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        Duration maxTokenTtl = properties.getTtl().compareTo(properties.getRememberMeTtl()) > 0
+                ? properties.getTtl()
+                : properties.getRememberMeTtl();
+        return new SessionRevocationList(repository, properties.isEnabled(), maxTokenTtl, meterRegistry);
+    }
+
+    @Bean
+    public StatelessSessions statelessSessions(
+            StatelessSessionProperties properties,
+            SessionTokenCodec codec,
+            SessionRevocationList revocations,
+            MeterRegistry meterRegistry
+    ) {
+        return new StatelessSessions(properties, codec, revocations, meterRegistry);
+    }
+
+    public static class StatelessSessionProperties {
+        private boolean enabled;
+        private String cookieName = "SESSION_TOKEN";
+        private boolean secureCookie;
+        private Duration ttl = Duration.ofHours(12);
+        private Duration rememberMeTtl = Duration.ofDays(30);
+        private Duration revocationSyncInterval = Duration.ofSeconds(5);
+        // The first key signs new tokens; all keys are accepted when verifying
+        private List<Key> keys = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getCookieName() {
+            return cookieName;
+        }
+
+        public void setCookieName(String cookieName) {
+            this.cookieName = cookieName;
+        }
+
+        public boolean isSecureCookie() {
+            return secureCookie;
+        }
+
+        public void setSecureCookie(boolean secureCookie) {
+            this.secureCookie = secureCookie;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getRememberMeTtl() {
+            return rememberMeTtl;
+        }
+
+        public void setRememberMeTtl(Duration rememberMeTtl) {
+            this.rememberMeTtl = rememberMeTtl;
+        }
+
+        public Duration getRevocationSyncInterval() {
+            return revocationSyncInterval;
+        }
+
+        public void setRevocationSyncInterval(Duration revocationSyncInterval) {
+            this.revocationSyncInterval = revocationSyncInterval;
+        }
+
+        public List<Key> getKeys() {
+            return keys;
+        }
+
+        public void setKeys(List<Key> keys) {
+            this.keys = keys;
+        }
+    }
+
+    public static class Key {
+        private String id;
+        private String secret;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+}
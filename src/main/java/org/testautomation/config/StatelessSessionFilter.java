@@ -0,0 +1,47 @@
+package org.testautomation.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.testautomation.service.SessionTokenCodec;
+import org.testautomation.service.StatelessSessions;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests from the signed session cookie. The principal is the email carried in the token, the
+ * same name the session-based login uses, and the token itself is kept as the authentication details.
+ */
+public class StatelessSessionFilter extends OncePerRequestFilter {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final StatelessSessions statelessSessions;
+
+    public StatelessSessionFilter(StatelessSessions statelessSessions) {
+        this.statelessSessions = statelessSessions;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SessionTokenCodec.SessionToken token = statelessSessions.authenticate(request).orElse(null);
+        if (token != null) {
+            UsernamePasswordAuthenticationToken authentication =
+                    UsernamePasswordAuthenticationToken.authenticated(token.email(), null, AUTHORITIES);
+            authentication.setDetails(token);
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,79 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events while virtual threads are enabled and reports
+ * each pinning site (first application frame, otherwise the top frame) once in the log and as a counter.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String APPLICATION_PACKAGE = "org.testautomation.";
+
+    private final Map<String, Counter> sites = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinning-threshold:PT0.02S}") Duration threshold,
+            MeterRegistry meterRegistry
+    ) {
+        this.meterRegistry = meterRegistry;
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        String site = site(event.getStackTrace());
+        sites.computeIfAbsent(site, key -> {
+            log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), key);
+            return Counter.builder("jvm.threads.virtual.pinned")
+                    .tag("site", key)
+                    .register(meterRegistry);
+        }).increment();
+    }
+
+    static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame chosen = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.get(0));
+        return chosen.getMethod().getType().getName() + "." + chosen.getMethod().getName() + ":" + chosen.getLineNumber();
+    }
+
+    public Map<String, Double> getPinnedSites() {
+        Map<String, Double> counts = new ConcurrentHashMap<>();
+        sites.forEach((site, counter) -> counts.put(site, counter.count()));
+        return counts;
+    }
+
+    @PreDestroy
+    public void close() {
+        stream.close();
+    }
+}
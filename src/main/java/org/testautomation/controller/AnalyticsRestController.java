@@ -0,0 +1,53 @@
+package org.testautomation.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.testautomation.domain.SalesBucketResponse;
+import org.testautomation.domain.TopProductResponse;
+import org.testautomation.service.SalesAnalyticsService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics/sales")
+public class AnalyticsRestController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    public AnalyticsRestController(SalesAnalyticsService salesAnalyticsService) {
+        this.salesAnalyticsService = salesAnalyticsService;
+    }
+
+    @GetMapping("/products")
+    public ResponseEntity<List<SalesBucketResponse>> getProductSales(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long productId
+    ) {
+        return ResponseEntity.ok(salesAnalyticsService.getProductSales(granularity, from, to, productId));
+    }
+
+    @GetMapping("/categories")
+    public ResponseEntity<List<SalesBucketResponse>> getCategorySales(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to
+    ) {
+        return ResponseEntity.ok(salesAnalyticsService.getCategorySales(granularity, from, to));
+    }
+
+    @GetMapping("/top-products")
+    public ResponseEntity<List<TopProductResponse>> getTopProducts(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String metric,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(salesAnalyticsService.getTopProducts(granularity, from, to, metric, limit));
+    }
+}
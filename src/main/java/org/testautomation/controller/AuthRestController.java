@@ -1,6 +1,7 @@
 package org.testautomation.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,8 +27,12 @@ public class AuthRestController {
     }
 
     @PostMapping("/signin")
-    public ResponseEntity<SignInResponse> signIn(@Valid @RequestBody SignInRequest request, HttpServletRequest httpServletRequest) {
-        return ResponseEntity.ok(authService.signIn(request, httpServletRequest));
+    public ResponseEntity<SignInResponse> signIn(
+            @Valid @RequestBody SignInRequest request,
+            HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse
+    ) {
+        return ResponseEntity.ok(authService.signIn(request, httpServletRequest, httpServletResponse));
     }
 
     @PostMapping("/signup")
@@ -43,8 +48,8 @@ public class AuthRestController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletRequest httpServletRequest) {
-        authService.logout(httpServletRequest);
+    public ResponseEntity<Void> logout(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
+        authService.logout(httpServletRequest, httpServletResponse);
         return ResponseEntity.noContent().build();
     }
 }
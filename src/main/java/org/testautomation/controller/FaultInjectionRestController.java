@@ -0,0 +1,53 @@
+package org.testautomation.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.testautomation.config.FaultInjector;
+import org.testautomation.domain.FaultRuleRequest;
+
+import java.util.List;
+
+// Only mapped with app.fault-injection.enabled; /api/admin/** additionally requires the X-Admin-Token header
+@RestController
+@RequestMapping("/api/admin/faults")
+@ConditionalOnProperty(name = "app.fault-injection.enabled", havingValue = "true")
+public class FaultInjectionRestController {
+
+    private final FaultInjector faultInjector;
+
+    public FaultInjectionRestController(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<FaultInjector.FaultRule>> listRules() {
+        return ResponseEntity.ok(faultInjector.rules());
+    }
+
+    @PostMapping
+    public ResponseEntity<FaultInjector.FaultRule> addRule(@Valid @RequestBody FaultRuleRequest request) {
+        return ResponseEntity.ok(faultInjector.add(request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> removeRule(@PathVariable long id) {
+        if (!faultInjector.remove(id)) {
+            throw new IllegalArgumentException("Unknown fault rule: " + id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clearRules() {
+        faultInjector.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -5,8 +5,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.testautomation.domain.OrderStatsResponse;
 import org.testautomation.domain.OrderSummaryResponse;
 import org.testautomation.service.OrderService;
+import org.testautomation.service.OrderStatsService;
 
 import java.util.List;
 
@@ -15,13 +17,20 @@ import java.util.List;
 public class OrderRestController {
 
     private final OrderService orderService;
+    private final OrderStatsService orderStatsService;
 
-    public OrderRestController(OrderService orderService) {
+    public OrderRestController(OrderService orderService, OrderStatsService orderStatsService) {
         this.orderService = orderService;
+        this.orderStatsService = orderStatsService;
     }
 
     @GetMapping
     public ResponseEntity<List<OrderSummaryResponse>> getOrders(Authentication authentication) {
         return ResponseEntity.ok(orderService.getOrders(authentication.getName()));
     }
+
+    @GetMapping("/stats")
+    public ResponseEntity<OrderStatsResponse> getStats(Authentication authentication) {
+        return ResponseEntity.ok(orderStatsService.getStats(authentication.getName()));
+    }
 }
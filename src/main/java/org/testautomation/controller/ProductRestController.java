@@ -4,16 +4,29 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.testautomation.domain.ProductDTO;
 import org.testautomation.domain.ProductPageResponse;
+import org.testautomation.domain.ProductSuggestionResponse;
 import org.testautomation.service.ProductService;
+import org.testautomation.service.ProductSuggestionService;
+import org.testautomation.service.RecommendationService;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductRestController {
 
     private final ProductService productService;
+    private final RecommendationService recommendationService;
+    private final ProductSuggestionService productSuggestionService;
 
-    public ProductRestController(ProductService productService) {
+    public ProductRestController(
+            ProductService productService,
+            RecommendationService recommendationService,
+            ProductSuggestionService productSuggestionService
+    ) {
         this.productService = productService;
+        this.recommendationService = recommendationService;
+        this.productSuggestionService = productSuggestionService;
     }
 
     @GetMapping
@@ -28,10 +41,26 @@ public class ProductRestController {
         return productService.findAll(search, categoryId, safePage, safeSize);
     }
 
+    @GetMapping("/suggestions")
+    public List<ProductSuggestionResponse> suggestions(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return productSuggestionService.suggest(query, limit);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProductDTO> get(@PathVariable Long id) {
         return productService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    @GetMapping("/{id}/frequently-bought-together")
+    public List<ProductDTO> frequentlyBoughtTogether(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return recommendationService.findFrequentlyBoughtTogether(id, limit);
+    }
 }
@@ -1,6 +1,7 @@
 package org.testautomation.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -16,8 +17,10 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.testautomation.domain.AuthUserDTO;
+import org.testautomation.domain.ProfileResponse;
 import org.testautomation.domain.UserAddressRequest;
 import org.testautomation.domain.UserAddressResponse;
 import org.testautomation.domain.UserAccountDeleteRequest;
@@ -25,7 +28,9 @@ import org.testautomation.domain.UserAccountUpdateRequest;
 import org.testautomation.domain.UserPasswordUpdateRequest;
 import org.testautomation.domain.UserPaymentMethodRequest;
 import org.testautomation.domain.UserPaymentMethodResponse;
+import org.testautomation.service.ProfileBootstrapService;
 import org.testautomation.service.ProfileService;
+import org.testautomation.service.StatelessSessions;
 
 import java.util.List;
 import java.util.Map;
@@ -35,9 +40,26 @@ import java.util.Map;
 public class ProfileRestController {
 
     private final ProfileService profileService;
+    private final ProfileBootstrapService profileBootstrapService;
+    private final StatelessSessions statelessSessions;
 
-    public ProfileRestController(ProfileService profileService) {
+    public ProfileRestController(
+            ProfileService profileService,
+            ProfileBootstrapService profileBootstrapService,
+            StatelessSessions statelessSessions
+    ) {
         this.profileService = profileService;
+        this.profileBootstrapService = profileBootstrapService;
+        this.statelessSessions = statelessSessions;
+    }
+
+    @GetMapping
+    public ResponseEntity<ProfileResponse> getProfile(
+            Authentication authentication,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer ordersLimit
+    ) {
+        return ResponseEntity.ok(profileBootstrapService.getProfile(authentication.getName(), fields, ordersLimit));
     }
 
     @GetMapping("/addresses")
@@ -49,6 +71,7 @@ public class ProfileRestController {
     public ResponseEntity<AuthUserDTO> updateAccount(
             Authentication authentication,
             HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse,
             @Valid @RequestBody UserAccountUpdateRequest request
     ) {
         AuthUserDTO updatedUser = profileService.updateAccount(authentication.getName(), request);
@@ -60,6 +83,9 @@ public class ProfileRestController {
                 authentication.getAuthorities()
         );
         updatedAuthentication.setDetails(authentication.getDetails());
+        // Signed tokens carry the email, so the old ones are revoked and the caller gets one for the new address
+        StatelessSessions.current(authentication).ifPresent(token -> updatedAuthentication.setDetails(
+                statelessSessions.reissue(token, updatedUser.getEmail(), httpServletResponse).token()));
         context.setAuthentication(updatedAuthentication);
 
         HttpSession session = httpServletRequest.getSession(false);
@@ -73,9 +99,12 @@ public class ProfileRestController {
     @PatchMapping("/account/password")
     public ResponseEntity<Map<String, String>> updatePassword(
             Authentication authentication,
+            HttpServletResponse httpServletResponse,
             @Valid @RequestBody UserPasswordUpdateRequest request
     ) {
         profileService.updatePassword(authentication.getName(), request);
+        StatelessSessions.current(authentication)
+                .ifPresent(token -> statelessSessions.reissue(token, token.email(), httpServletResponse));
         return ResponseEntity.ok(Map.of("message", "Password updated successfully"));
     }
 
@@ -83,9 +112,12 @@ public class ProfileRestController {
     public ResponseEntity<Map<String, String>> deleteAccount(
             Authentication authentication,
             HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse,
             @Valid @RequestBody UserAccountDeleteRequest request
     ) {
         profileService.deleteAccount(authentication.getName(), request);
+        StatelessSessions.current(authentication)
+                .ifPresent(token -> statelessSessions.revokeAll(token.userId(), httpServletResponse));
 
         HttpSession session = httpServletRequest.getSession(false);
         if (session != null) {
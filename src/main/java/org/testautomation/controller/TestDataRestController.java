@@ -0,0 +1,48 @@
+package org.testautomation.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.testautomation.domain.TestDataSnapshotResponse;
+import org.testautomation.service.TestDataSnapshots;
+
+import java.util.List;
+
+// Only mapped with app.test-data.enabled; /api/admin/** additionally requires the X-Admin-Token header
+@RestController
+@RequestMapping("/api/admin/test-data/snapshots")
+@ConditionalOnProperty(prefix = "app.test-data", name = "enabled", havingValue = "true")
+public class TestDataRestController {
+
+    private final TestDataSnapshots testDataSnapshots;
+
+    public TestDataRestController(TestDataSnapshots testDataSnapshots) {
+        this.testDataSnapshots = testDataSnapshots;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<String>> listSnapshots() {
+        return ResponseEntity.ok(testDataSnapshots.list());
+    }
+
+    @PostMapping("/{name}")
+    public ResponseEntity<TestDataSnapshotResponse> captureSnapshot(@PathVariable String name) {
+        return ResponseEntity.ok(testDataSnapshots.capture(name));
+    }
+
+    @PostMapping("/{name}/restore")
+    public ResponseEntity<TestDataSnapshotResponse> restoreSnapshot(@PathVariable String name) {
+        return ResponseEntity.ok(testDataSnapshots.restore(name));
+    }
+
+    @DeleteMapping("/{name}")
+    public ResponseEntity<Void> deleteSnapshot(@PathVariable String name) {
+        testDataSnapshots.delete(name);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,30 @@
+package org.testautomation.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.testautomation.domain.UserProvisioningRequest;
+import org.testautomation.domain.UserProvisioningResponse;
+import org.testautomation.service.UserProvisioningService;
+
+// Only mapped with app.provisioning.enabled, which the load-test profile sets; admin only like the other test-data endpoints
+@RestController
+@RequestMapping("/api/admin/test-data")
+@ConditionalOnProperty(prefix = "app.provisioning", name = "enabled", havingValue = "true")
+public class UserProvisioningRestController {
+
+    private final UserProvisioningService userProvisioningService;
+
+    public UserProvisioningRestController(UserProvisioningService userProvisioningService) {
+        this.userProvisioningService = userProvisioningService;
+    }
+
+    @PostMapping("/users")
+    public ResponseEntity<UserProvisioningResponse> provisionUsers(@Valid @RequestBody UserProvisioningRequest request) {
+        return ResponseEntity.ok(userProvisioningService.provision(request));
+    }
+}
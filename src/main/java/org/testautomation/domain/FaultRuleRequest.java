@@ -0,0 +1,139 @@
+package org.testautomation.domain;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+
+public class FaultRuleRequest {
+
+    public enum Target {
+        // Ant pattern on the request path, e.g. /api/products/**
+        ROUTE,
+        // Repository interface and method, e.g. ProductRepository.find*
+        REPOSITORY,
+        // Case-insensitive substring of the SQL text, or * for every statement
+        JDBC
+    }
+
+    public enum Distribution {
+        // Always delay
+        FIXED,
+        // Between delay and maxDelay
+        UNIFORM,
+        // Mean delay with standard deviation jitter
+        NORMAL,
+        // Mean delay with a long tail
+        EXPONENTIAL
+    }
+
+    @NotNull(message = "Target is required")
+    private Target target;
+
+    @NotBlank(message = "Pattern is required")
+    private String pattern;
+
+    private String method;
+
+    private Distribution distribution = Distribution.FIXED;
+
+    private Duration delay = Duration.ZERO;
+
+    private Duration maxDelay;
+
+    private Duration jitter;
+
+    @DecimalMin(value = "0.0", message = "Error rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Error rate must be between 0 and 1")
+    private double errorRate;
+
+    @Min(value = 400, message = "Error status must be between 400 and 599")
+    @Max(value = 599, message = "Error status must be between 400 and 599")
+    private int errorStatus = 503;
+
+    private Duration expiresAfter;
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public void setTarget(Target target) {
+        this.target = target;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    public void setDistribution(Distribution distribution) {
+        this.distribution = distribution;
+    }
+
+    public Duration getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    public void setJitter(Duration jitter) {
+        this.jitter = jitter;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+
+    public Duration getExpiresAfter() {
+        return expiresAfter;
+    }
+
+    public void setExpiresAfter(Duration expiresAfter) {
+        this.expiresAfter = expiresAfter;
+    }
+}
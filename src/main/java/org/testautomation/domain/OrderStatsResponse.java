@@ -0,0 +1,53 @@
+package org.testautomation.domain;
+
+import java.math.BigDecimal;
+
+public class OrderStatsResponse {
+
+    private long orderCount;
+    private BigDecimal totalSpend;
+    private String lastOrderAt;
+    private Long favouriteCategoryId;
+
+    public OrderStatsResponse() {
+    }
+
+    public OrderStatsResponse(long orderCount, BigDecimal totalSpend, String lastOrderAt, Long favouriteCategoryId) {
+        this.orderCount = orderCount;
+        this.totalSpend = totalSpend;
+        this.lastOrderAt = lastOrderAt;
+        this.favouriteCategoryId = favouriteCategoryId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getTotalSpend() {
+        return totalSpend;
+    }
+
+    public void setTotalSpend(BigDecimal totalSpend) {
+        this.totalSpend = totalSpend;
+    }
+
+    public String getLastOrderAt() {
+        return lastOrderAt;
+    }
+
+    public void setLastOrderAt(String lastOrderAt) {
+        this.lastOrderAt = lastOrderAt;
+    }
+
+    public Long getFavouriteCategoryId() {
+        return favouriteCategoryId;
+    }
+
+    public void setFavouriteCategoryId(Long favouriteCategoryId) {
+        this.favouriteCategoryId = favouriteCategoryId;
+    }
+}
@@ -0,0 +1,61 @@
+package org.testautomation.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProfileResponse {
+
+    private AuthUserDTO account;
+    private List<UserAddressResponse> addresses;
+    private List<UserPaymentMethodResponse> paymentMethods;
+    private List<OrderSummaryResponse> orders;
+
+    public ProfileResponse() {
+    }
+
+    public ProfileResponse(
+            AuthUserDTO account,
+            List<UserAddressResponse> addresses,
+            List<UserPaymentMethodResponse> paymentMethods,
+            List<OrderSummaryResponse> orders
+    ) {
+        this.account = account;
+        this.addresses = addresses;
+        this.paymentMethods = paymentMethods;
+        this.orders = orders;
+    }
+
+    public AuthUserDTO getAccount() {
+        return account;
+    }
+
+    public void setAccount(AuthUserDTO account) {
+        this.account = account;
+    }
+
+    public List<UserAddressResponse> getAddresses() {
+        return addresses;
+    }
+
+    public void setAddresses(List<UserAddressResponse> addresses) {
+        this.addresses = addresses;
+    }
+
+    public List<UserPaymentMethodResponse> getPaymentMethods() {
+        return paymentMethods;
+    }
+
+    public void setPaymentMethods(List<UserPaymentMethodResponse> paymentMethods) {
+        this.paymentMethods = paymentMethods;
+    }
+
+    public List<OrderSummaryResponse> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderSummaryResponse> orders) {
+        this.orders = orders;
+    }
+}
@@ -0,0 +1,63 @@
+package org.testautomation.domain;
+
+import java.math.BigDecimal;
+
+public class SalesBucketResponse {
+
+    private String bucketStart;
+    private Long productId;
+    private Long categoryId;
+    private long units;
+    private BigDecimal revenue;
+
+    public SalesBucketResponse() {
+    }
+
+    public SalesBucketResponse(String bucketStart, Long productId, Long categoryId, long units, BigDecimal revenue) {
+        this.bucketStart = bucketStart;
+        this.productId = productId;
+        this.categoryId = categoryId;
+        this.units = units;
+        this.revenue = revenue;
+    }
+
+    public String getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(String bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public void setUnits(long units) {
+        this.units = units;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
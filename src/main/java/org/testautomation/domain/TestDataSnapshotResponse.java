@@ -0,0 +1,50 @@
+package org.testautomation.domain;
+
+public class TestDataSnapshotResponse {
+    private String name;
+    private int tables;
+    private long rows;
+    private long durationMillis;
+
+    public TestDataSnapshotResponse() {
+    }
+
+    public TestDataSnapshotResponse(String name, int tables, long rows, long durationMillis) {
+        this.name = name;
+        this.tables = tables;
+        this.rows = rows;
+        this.durationMillis = durationMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getTables() {
+        return tables;
+    }
+
+    public void setTables(int tables) {
+        this.tables = tables;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
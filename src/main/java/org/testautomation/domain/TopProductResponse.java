@@ -0,0 +1,53 @@
+package org.testautomation.domain;
+
+import java.math.BigDecimal;
+
+public class TopProductResponse {
+
+    private Long productId;
+    private String productName;
+    private long units;
+    private BigDecimal revenue;
+
+    public TopProductResponse() {
+    }
+
+    public TopProductResponse(Long productId, String productName, long units, BigDecimal revenue) {
+        this.productId = productId;
+        this.productName = productName;
+        this.units = units;
+        this.revenue = revenue;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public void setUnits(long units) {
+        this.units = units;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
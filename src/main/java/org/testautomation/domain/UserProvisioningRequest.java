@@ -0,0 +1,21 @@
+package org.testautomation.domain;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class UserProvisioningRequest {
+
+    @NotEmpty(message = "users must not be empty")
+    @Valid
+    private List<@Valid SignUpRequest> users;
+
+    public List<SignUpRequest> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<SignUpRequest> users) {
+        this.users = users;
+    }
+}
@@ -0,0 +1,40 @@
+package org.testautomation.domain;
+
+public class UserProvisioningResponse {
+    private int requested;
+    private int created;
+    private int duplicates;
+
+    public UserProvisioningResponse() {
+    }
+
+    public UserProvisioningResponse(int requested, int created, int duplicates) {
+        this.requested = requested;
+        this.created = created;
+        this.duplicates = duplicates;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+}
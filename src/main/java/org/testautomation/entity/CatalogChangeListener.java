@@ -0,0 +1,40 @@
+package org.testautomation.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.testautomation.service.CatalogVersion;
+import org.testautomation.service.ProductSuggestionService;
+
+// Created by Hibernate through Spring; JPA test slices have no CatalogVersion or ProductSuggestionService bean
+public class CatalogChangeListener {
+
+    private final ObjectProvider<CatalogVersion> catalogVersion;
+    private final ObjectProvider<ProductSuggestionService> productSuggestions;
+
+    public CatalogChangeListener(
+            ObjectProvider<CatalogVersion> catalogVersion,
+            ObjectProvider<ProductSuggestionService> productSuggestions
+    ) {
+        this.catalogVersion = catalogVersion;
+        this.productSuggestions = productSuggestions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onChange(Object entity) {
+        catalogVersion.ifAvailable(CatalogVersion::changed);
+        if (entity instanceof Product product) {
+            productSuggestions.ifAvailable(suggestions -> suggestions.productChanged(product.getId(), product.getName()));
+        }
+    }
+
+    @PostRemove
+    void onRemove(Object entity) {
+        catalogVersion.ifAvailable(CatalogVersion::changed);
+        if (entity instanceof Product product) {
+            productSuggestions.ifAvailable(suggestions -> suggestions.productRemoved(product.getId()));
+        }
+    }
+}
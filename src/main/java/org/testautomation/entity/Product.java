@@ -4,12 +4,16 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "products")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.product")
 public class Product {
 
     @Id
@@ -0,0 +1,147 @@
+package org.testautomation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+@Entity
+@Table(name = "sales_rollups")
+@IdClass(SalesRollup.Key.class)
+public class SalesRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8)
+    private Granularity granularity;
+
+    @Id
+    private Instant bucketStart;
+
+    @Id
+    private Long productId;
+
+    @Column
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private long units;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    public SalesRollup() {
+    }
+
+    public SalesRollup(Granularity granularity, Instant bucketStart, Long productId, Long categoryId) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.productId = productId;
+        this.categoryId = categoryId;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public Instant getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(Instant bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public void setUnits(long units) {
+        this.units = units;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public Instant bucketOf(Instant instant) {
+            return instant.truncatedTo(unit);
+        }
+    }
+
+    public static class Key implements Serializable {
+        private Granularity granularity;
+        private Instant bucketStart;
+        private Long productId;
+
+        public Key() {
+        }
+
+        public Key(Granularity granularity, Instant bucketStart, Long productId) {
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+            this.productId = productId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return granularity == key.granularity
+                    && Objects.equals(bucketStart, key.bucketStart)
+                    && Objects.equals(productId, key.productId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, bucketStart, productId);
+        }
+    }
+}
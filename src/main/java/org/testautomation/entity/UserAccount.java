@@ -7,17 +7,25 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.Instant;
 
 @Entity
 @Table(name = "app_users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users.account")
+@NaturalIdCache(region = "users.account-by-email")
 public class UserAccount {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Always stored trimmed and lower-cased; changes on profile updates and soft deletion
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -33,6 +41,9 @@ public class UserAccount {
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    @Column
+    private Instant deletedAt;
+
     @PrePersist
     void onCreate() {
         if (createdAt == null) {
@@ -87,4 +98,12 @@ public class UserAccount {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
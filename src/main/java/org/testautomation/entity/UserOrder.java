@@ -80,6 +80,10 @@ public class UserOrder {
         if (createdAt == null) {
             createdAt = Instant.now();
         }
+        // Items share the order's partition key so both rows land in the same monthly partition.
+        for (UserOrderItem item : items) {
+            item.setCreatedAt(createdAt);
+        }
     }
 
     public void addItem(UserOrderItem item) {
@@ -0,0 +1,86 @@
+package org.testautomation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Entity
+@Table(name = "user_order_category_stats")
+@IdClass(UserOrderCategoryStats.Key.class)
+public class UserOrderCategoryStats {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private long units;
+
+    public UserOrderCategoryStats() {
+    }
+
+    public UserOrderCategoryStats(Long userId, Long categoryId) {
+        this.userId = userId;
+        this.categoryId = categoryId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public void setUnits(long units) {
+        this.units = units;
+    }
+
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long categoryId;
+
+        public Key() {
+        }
+
+        public Key(Long userId, Long categoryId) {
+            this.userId = userId;
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(userId, key.userId) && Objects.equals(categoryId, key.categoryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, categoryId);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.testautomation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "user_order_stats")
+public class UserOrderStats {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalSpend = BigDecimal.ZERO;
+
+    @Column
+    private Instant lastOrderAt;
+
+    @Column
+    private Long favouriteCategoryId;
+
+    @Column(nullable = false)
+    private long favouriteCategoryUnits;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public UserOrderStats() {
+    }
+
+    public UserOrderStats(Long userId) {
+        this.userId = userId;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void onWrite() {
+        updatedAt = Instant.now();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getTotalSpend() {
+        return totalSpend;
+    }
+
+    public void setTotalSpend(BigDecimal totalSpend) {
+        this.totalSpend = totalSpend;
+    }
+
+    public Instant getLastOrderAt() {
+        return lastOrderAt;
+    }
+
+    public void setLastOrderAt(Instant lastOrderAt) {
+        this.lastOrderAt = lastOrderAt;
+    }
+
+    public Long getFavouriteCategoryId() {
+        return favouriteCategoryId;
+    }
+
+    public void setFavouriteCategoryId(Long favouriteCategoryId) {
+        this.favouriteCategoryId = favouriteCategoryId;
+    }
+
+    public long getFavouriteCategoryUnits() {
+        return favouriteCategoryUnits;
+    }
+
+    public void setFavouriteCategoryUnits(long favouriteCategoryUnits) {
+        this.favouriteCategoryUnits = favouriteCategoryUnits;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
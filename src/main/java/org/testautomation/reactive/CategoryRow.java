@@ -0,0 +1,13 @@
+package org.testautomation.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import org.testautomation.domain.CategoryDTO;
+
+@Table("categories")
+public record CategoryRow(@Id Long id, String name, String description) {
+
+    CategoryDTO toDto() {
+        return new CategoryDTO(id, name, description);
+    }
+}
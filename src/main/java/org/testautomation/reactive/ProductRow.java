@@ -0,0 +1,26 @@
+package org.testautomation.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import org.testautomation.domain.CategoryDTO;
+import org.testautomation.domain.ProductDTO;
+
+import java.math.BigDecimal;
+
+// A product joined with its category, read by the queries in ReactiveProductRepository
+@Table("products")
+public record ProductRow(
+        @Id Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Long categoryId,
+        String categoryName,
+        String categoryDescription
+) {
+
+    ProductDTO toDto() {
+        CategoryDTO category = categoryId == null ? null : new CategoryDTO(categoryId, categoryName, categoryDescription);
+        return new ProductDTO(id, name, description, price, category);
+    }
+}
@@ -0,0 +1,109 @@
+package org.testautomation.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Starts a Reactor Netty server on {@code app.reactive-catalog.port} next to the servlet container. It serves the
+ * public catalog reads from R2DBC with the same JSON as the servlet endpoints; everything else stays on the
+ * servlet stack, so security, sessions and the /api filters do not apply to this port.
+ */
+@Configuration
+@Profile("reactive-catalog")
+public class ReactiveCatalogConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.reactive-catalog")
+    public ReactiveCatalogProperties reactiveCatalogProperties() {
+        return new ReactiveCatalogProperties();
+    }
+
+    @Bean
+    public ReactiveCatalogDatabase reactiveCatalogDatabase(ReactiveCatalogProperties properties) {
+        return new ReactiveCatalogDatabase(properties);
+    }
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveCatalogServer(ReactiveCatalogProperties properties, ReactiveCatalogDatabase database,
+                                                  ObjectMapper objectMapper) {
+        ReactiveCatalogHandler handler = new ReactiveCatalogHandler(database.getProductRepository(),
+                database.getCategoryRepository());
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/api/products", handler::listProducts)
+                .GET("/api/products/{id}", handler::getProduct)
+                .GET("/api/categories", handler::listCategories)
+                .GET("/api/categories/{id}", handler::getCategory)
+                .build();
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes, strategies));
+        return HttpServer.create()
+                .port(properties.getPort())
+                .handle(adapter)
+                .bindNow();
+    }
+
+    public static class ReactiveCatalogProperties {
+        private int port = 8081;
+        private String url;
+        private String username;
+        private String password;
+        private int maxPoolSize = 10;
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        public void setMaxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.testautomation.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+
+/**
+ * The R2DBC pool and repositories behind the reactive catalog. Deliberately not exposed as a ConnectionFactory bean:
+ * Boot backs off its JDBC DataSource as soon as one exists, and the rest of the application needs JDBC.
+ */
+public class ReactiveCatalogDatabase implements AutoCloseable {
+
+    private final ConnectionPool pool;
+    private final ReactiveProductRepository productRepository;
+    private final ReactiveCategoryRepository categoryRepository;
+
+    public ReactiveCatalogDatabase(ReactiveCatalogConfig.ReactiveCatalogProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-catalog")
+                .maxSize(properties.getMaxPoolSize())
+                .build());
+        R2dbcRepositoryFactory repositories = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(pool));
+        this.productRepository = repositories.getRepository(ReactiveProductRepository.class);
+        this.categoryRepository = repositories.getRepository(ReactiveCategoryRepository.class);
+    }
+
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    public ReactiveProductRepository getProductRepository() {
+        return productRepository;
+    }
+
+    public ReactiveCategoryRepository getCategoryRepository() {
+        return categoryRepository;
+    }
+
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+}
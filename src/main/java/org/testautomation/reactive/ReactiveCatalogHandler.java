@@ -0,0 +1,130 @@
+package org.testautomation.reactive;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.testautomation.domain.ProductPageResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reactive versions of the catalog reads in ProductRestController and CategoryRestController. Parameter handling,
+ * paging and response bodies follow the servlet endpoints so both can be compared request for request.
+ */
+public class ReactiveCatalogHandler {
+
+    // Same escaping as Spring Data JPA uses for ContainingIgnoreCase
+    private static final Escaper LIKE_ESCAPER = Escaper.DEFAULT;
+
+    private final ReactiveProductRepository productRepository;
+    private final ReactiveCategoryRepository categoryRepository;
+
+    public ReactiveCatalogHandler(ReactiveProductRepository productRepository, ReactiveCategoryRepository categoryRepository) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    public Mono<ServerResponse> listProducts(ServerRequest request) {
+        return badRequestOnInvalidParameter(() -> products(request));
+    }
+
+    public Mono<ServerResponse> getProduct(ServerRequest request) {
+        return badRequestOnInvalidParameter(() -> productRepository.findWithCategoryById(pathId(request))
+                .flatMap(row -> ServerResponse.ok().bodyValue(row.toDto()))
+                .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+
+    public Mono<ServerResponse> listCategories(ServerRequest request) {
+        String search = textParam(request, "search");
+        Flux<CategoryRow> rows = search != null
+                ? categoryRepository.findByNameContainingIgnoreCase(search)
+                : categoryRepository.findAll(Sort.by("id"));
+        return rows.map(CategoryRow::toDto)
+                .collectList()
+                .flatMap(body -> ServerResponse.ok().bodyValue(body));
+    }
+
+    public Mono<ServerResponse> getCategory(ServerRequest request) {
+        return badRequestOnInvalidParameter(() -> categoryRepository.findById(pathId(request))
+                .flatMap(row -> ServerResponse.ok().bodyValue(row.toDto()))
+                .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+
+    private Mono<ServerResponse> products(ServerRequest request) {
+        String search = textParam(request, "search");
+        Long categoryId = longParam(request, "categoryId");
+        int page = Math.max(0, intParam(request, "page", 0));
+        int size = Math.max(1, Math.min(intParam(request, "size", 12), 100));
+        long offset = (long) page * size;
+
+        Flux<ProductRow> rows;
+        Mono<Long> total;
+        if (categoryId != null && search != null) {
+            String pattern = likePattern(search);
+            rows = productRepository.findByCategoryIdAndNameLike(categoryId, pattern, size, offset);
+            total = productRepository.countByCategoryIdAndNameLike(categoryId, pattern);
+        } else if (categoryId != null) {
+            rows = productRepository.findByCategoryId(categoryId, size, offset);
+            total = productRepository.countByCategoryId(categoryId);
+        } else if (search != null) {
+            String pattern = likePattern(search);
+            rows = productRepository.findByNameLike(pattern, size, offset);
+            total = productRepository.countByNameLike(pattern);
+        } else {
+            rows = productRepository.findAll(size, offset);
+            total = productRepository.count();
+        }
+
+        return Mono.zip(rows.map(ProductRow::toDto).collectList(), total)
+                .map(result -> new ProductPageResponse(result.getT1(), page, size, result.getT2(),
+                        (int) Math.ceil((double) result.getT2() / size)))
+                .flatMap(body -> ServerResponse.ok().bodyValue(body));
+    }
+
+    // Mirrors ApiExceptionHandler for IllegalArgumentException
+    private static Mono<ServerResponse> badRequestOnInvalidParameter(Supplier<Mono<ServerResponse>> response) {
+        try {
+            return response.get();
+        } catch (IllegalArgumentException ex) {
+            return ServerResponse.badRequest().bodyValue(Map.of("message", ex.getMessage()));
+        }
+    }
+
+    private static String likePattern(String search) {
+        return "%" + LIKE_ESCAPER.escape(search) + "%";
+    }
+
+    private static String textParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .filter(value -> !value.isBlank())
+                .map(String::trim)
+                .orElse(null);
+    }
+
+    private static Long longParam(ServerRequest request, String name) {
+        String value = textParam(request, name);
+        return value == null ? null : parse(name, value, Long::valueOf);
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        String value = textParam(request, name);
+        return value == null ? defaultValue : parse(name, value, Integer::valueOf);
+    }
+
+    private static Long pathId(ServerRequest request) {
+        return parse("id", request.pathVariable("id"), Long::valueOf);
+    }
+
+    private static <T> T parse(String name, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.testautomation.reactive;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveCategoryRepository
+        extends ReactiveCrudRepository<CategoryRow, Long>, ReactiveSortingRepository<CategoryRow, Long> {
+
+    Flux<CategoryRow> findByNameContainingIgnoreCase(String name);
+}
@@ -0,0 +1,50 @@
+package org.testautomation.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC counterpart of {@link org.testautomation.repository.ProductRepository}. R2DBC has no associations, so
+ * every finder joins the category itself, like the entity graph on the JPA side, and counts are separate queries.
+ * Name patterns are passed already wrapped in {@code %} with wildcards escaped.
+ */
+public interface ReactiveProductRepository extends Repository<ProductRow, Long> {
+
+    String SELECT = """
+            select p.id, p.name, p.description, p.price,
+                   c.id as category_id, c.name as category_name, c.description as category_description
+            from products p left join categories c on c.id = p.category_id
+            """;
+    String PAGE = " order by p.id limit :limit offset :offset";
+    String BY_CATEGORY = "p.category_id = :categoryId";
+    String BY_NAME = "upper(p.name) like upper(:namePattern) escape '\\'";
+
+    @Query(SELECT + PAGE)
+    Flux<ProductRow> findAll(int limit, long offset);
+
+    @Query("select count(*) from products p")
+    Mono<Long> count();
+
+    @Query(SELECT + "where " + BY_CATEGORY + PAGE)
+    Flux<ProductRow> findByCategoryId(Long categoryId, int limit, long offset);
+
+    @Query("select count(*) from products p where " + BY_CATEGORY)
+    Mono<Long> countByCategoryId(Long categoryId);
+
+    @Query(SELECT + "where " + BY_NAME + PAGE)
+    Flux<ProductRow> findByNameLike(String namePattern, int limit, long offset);
+
+    @Query("select count(*) from products p where " + BY_NAME)
+    Mono<Long> countByNameLike(String namePattern);
+
+    @Query(SELECT + "where " + BY_CATEGORY + " and " + BY_NAME + PAGE)
+    Flux<ProductRow> findByCategoryIdAndNameLike(Long categoryId, String namePattern, int limit, long offset);
+
+    @Query("select count(*) from products p where " + BY_CATEGORY + " and " + BY_NAME)
+    Mono<Long> countByCategoryIdAndNameLike(Long categoryId, String namePattern);
+
+    @Query(SELECT + "where p.id = :id")
+    Mono<ProductRow> findWithCategoryById(Long id);
+}
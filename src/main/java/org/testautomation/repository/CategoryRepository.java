@@ -1,11 +1,22 @@
 package org.testautomation.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.testautomation.entity.Category;
 
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    // Served from the query cache until a category is written
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog.categories-query")
+    })
+    List<Category> findAll();
+
     List<Category> findByNameContainingIgnoreCase(String name);
 }
@@ -1,15 +1,31 @@
 package org.testautomation.repository;
 
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
 import org.testautomation.entity.Product;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findAll(Pageable pageable);
+
+    // Runs in its own read-only transaction when ProductService.findById calls it
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = "category")
+    Optional<Product> findWithCategoryById(Long id);
+
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByCategoryIdAndNameContainingIgnoreCase(Long categoryId, String name, Pageable pageable);
 }
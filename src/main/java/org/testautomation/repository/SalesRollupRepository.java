@@ -0,0 +1,88 @@
+package org.testautomation.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.testautomation.entity.SalesRollup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollup.Key>, SalesRollupRepositoryCustom {
+
+    List<SalesRollup> findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAscProductIdAsc(
+            SalesRollup.Granularity granularity,
+            Instant from,
+            Instant to
+    );
+
+    List<SalesRollup> findByGranularityAndProductIdAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+            SalesRollup.Granularity granularity,
+            Long productId,
+            Instant from,
+            Instant to
+    );
+
+    @Query("""
+            select r.bucketStart as bucketStart, r.categoryId as categoryId, sum(r.units) as units, sum(r.revenue) as revenue
+            from SalesRollup r
+            where r.granularity = :granularity and r.bucketStart >= :from and r.bucketStart < :to
+            group by r.bucketStart, r.categoryId
+            order by r.bucketStart, r.categoryId
+            """)
+    List<CategoryBucket> sumByCategory(
+            @Param("granularity") SalesRollup.Granularity granularity,
+            @Param("from") Instant from,
+            @Param("to") Instant to
+    );
+
+    @Query("""
+            select r.productId as productId, p.name as productName, sum(r.units) as units, sum(r.revenue) as revenue
+            from SalesRollup r join Product p on p.id = r.productId
+            where r.granularity = :granularity and r.bucketStart >= :from and r.bucketStart < :to
+            group by r.productId, p.name
+            order by sum(r.revenue) desc, r.productId
+            """)
+    List<ProductTotal> findTopByRevenue(
+            @Param("granularity") SalesRollup.Granularity granularity,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            Pageable pageable
+    );
+
+    @Query("""
+            select r.productId as productId, p.name as productName, sum(r.units) as units, sum(r.revenue) as revenue
+            from SalesRollup r join Product p on p.id = r.productId
+            where r.granularity = :granularity and r.bucketStart >= :from and r.bucketStart < :to
+            group by r.productId, p.name
+            order by sum(r.units) desc, r.productId
+            """)
+    List<ProductTotal> findTopByUnits(
+            @Param("granularity") SalesRollup.Granularity granularity,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            Pageable pageable
+    );
+
+    interface CategoryBucket {
+        Instant getBucketStart();
+
+        Long getCategoryId();
+
+        long getUnits();
+
+        BigDecimal getRevenue();
+    }
+
+    interface ProductTotal {
+        Long getProductId();
+
+        String getProductName();
+
+        long getUnits();
+
+        BigDecimal getRevenue();
+    }
+}
@@ -0,0 +1,13 @@
+package org.testautomation.repository;
+
+import org.testautomation.entity.SalesRollup;
+
+import java.util.Collection;
+
+public interface SalesRollupRepositoryCustom {
+
+    /**
+     * Adds the units and revenue of each delta to its rollup row, creating the row when missing.
+     */
+    void increment(Collection<SalesRollup> deltas);
+}
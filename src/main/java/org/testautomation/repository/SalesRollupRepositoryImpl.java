@@ -0,0 +1,61 @@
+package org.testautomation.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.testautomation.entity.SalesRollup;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+public class SalesRollupRepositoryImpl implements SalesRollupRepositoryCustom {
+
+    // Race-free on PostgreSQL: concurrent checkouts of the same product in a new bucket cannot collide on insert.
+    private static final String POSTGRES_UPSERT = """
+            INSERT INTO sales_rollups (granularity, bucket_start, product_id, category_id, units, revenue)
+            VALUES (:granularity, CAST(:bucketStart AS TIMESTAMPTZ), :productId, CAST(:categoryId AS BIGINT), :units, :revenue)
+            ON CONFLICT (granularity, bucket_start, product_id) DO UPDATE
+            SET units = sales_rollups.units + EXCLUDED.units,
+                revenue = sales_rollups.revenue + EXCLUDED.revenue
+            """;
+
+    private static final String STANDARD_MERGE = """
+            MERGE INTO sales_rollups t
+            USING (VALUES (CAST(:granularity AS VARCHAR(8)), CAST(:bucketStart AS TIMESTAMP WITH TIME ZONE),
+                           CAST(:productId AS BIGINT), CAST(:categoryId AS BIGINT),
+                           CAST(:units AS BIGINT), CAST(:revenue AS NUMERIC(14,2))))
+                  AS s (granularity, bucket_start, product_id, category_id, units, revenue)
+            ON t.granularity = s.granularity AND t.bucket_start = s.bucket_start AND t.product_id = s.product_id
+            WHEN MATCHED THEN UPDATE SET units = t.units + s.units, revenue = t.revenue + s.revenue
+            WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, product_id, category_id, units, revenue)
+                VALUES (s.granularity, s.bucket_start, s.product_id, s.category_id, s.units, s.revenue)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void increment(Collection<SalesRollup> deltas) {
+        String sql = isPostgres() ? POSTGRES_UPSERT : STANDARD_MERGE;
+        for (SalesRollup delta : deltas) {
+            Query query = entityManager.createNativeQuery(sql);
+            query.setParameter("granularity", delta.getGranularity().name());
+            query.setParameter("bucketStart", OffsetDateTime.ofInstant(delta.getBucketStart(), ZoneOffset.UTC));
+            query.setParameter("productId", delta.getProductId());
+            query.setParameter("categoryId", delta.getCategoryId());
+            query.setParameter("units", delta.getUnits());
+            query.setParameter("revenue", delta.getRevenue());
+            query.executeUpdate();
+        }
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
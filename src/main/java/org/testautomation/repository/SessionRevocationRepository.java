@@ -0,0 +1,21 @@
+package org.testautomation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import org.testautomation.entity.SessionRevocation;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SessionRevocationRepository extends JpaRepository<SessionRevocation, Long> {
+
+    List<SessionRevocation> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(Instant revokedSince, Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SessionRevocation r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -5,9 +5,13 @@ import org.testautomation.entity.UserAccount;
 
 import java.util.Optional;
 
-public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
+public interface UserAccountRepository extends JpaRepository<UserAccount, Long>, UserAccountRepositoryCustom {
 
     Optional<UserAccount> findByEmailIgnoreCase(String email);
 
     boolean existsByEmailIgnoreCase(String email);
+
+    Optional<UserAccount> findFirstByDeletedAtNotNullOrderByDeletedAtAscIdAsc();
+
+    long countByDeletedAtNotNull();
 }
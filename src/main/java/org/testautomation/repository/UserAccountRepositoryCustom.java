@@ -0,0 +1,14 @@
+package org.testautomation.repository;
+
+import org.testautomation.entity.UserAccount;
+
+import java.util.Optional;
+
+public interface UserAccountRepositoryCustom {
+
+    /**
+     * Looks the account up by its natural id, the trimmed and lower-cased email, so repeated lookups are served from
+     * the second-level cache without a query.
+     */
+    Optional<UserAccount> findByNormalizedEmail(String email);
+}
@@ -0,0 +1,28 @@
+package org.testautomation.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import org.testautomation.entity.UserAccount;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public class UserAccountRepositoryImpl implements UserAccountRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Outside a transaction the shared EntityManager would hand out an already closed Session
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserAccount> findByNormalizedEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(UserAccount.class)
+                .loadOptional(email.trim().toLowerCase(Locale.ROOT));
+    }
+}
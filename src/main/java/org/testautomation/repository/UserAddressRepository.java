@@ -1,6 +1,9 @@
 package org.testautomation.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.testautomation.entity.UserAddress;
 
 import java.util.List;
@@ -11,4 +14,16 @@ public interface UserAddressRepository extends JpaRepository<UserAddress, Long>
     List<UserAddress> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     Optional<UserAddress> findByIdAndUserId(Long id, Long userId);
+
+    Optional<UserAddress> findFirstByUserIdOrderByCreatedAtDesc(Long userId);
+
+    boolean existsByUserId(Long userId);
+
+    @Modifying
+    @Query("update UserAddress a set a.isDefault = false where a.user.id = :userId and a.isDefault = true")
+    int clearDefaultByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update UserAddress a set a.isDefault = false where a.user.id = :userId and a.isDefault = true and a.id <> :keepId")
+    int clearDefaultByUserIdExcept(@Param("userId") Long userId, @Param("keepId") Long keepId);
 }
@@ -0,0 +1,19 @@
+package org.testautomation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.testautomation.entity.UserOrderCategoryStats;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserOrderCategoryStatsRepository extends JpaRepository<UserOrderCategoryStats, UserOrderCategoryStats.Key> {
+
+    List<UserOrderCategoryStats> findByUserIdAndCategoryIdIn(Long userId, Collection<Long> categoryIds);
+
+    @Modifying
+    @Query("delete from UserOrderCategoryStats s where s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,13 +1,95 @@
 package org.testautomation.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.testautomation.entity.UserOrder;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserOrderRepository extends JpaRepository<UserOrder, Long> {
 
     @EntityGraph(attributePaths = {"items", "items.product"})
     List<UserOrder> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    List<UserOrder> findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(Long userId, Instant since);
+
+    @Query("select o.id from UserOrder o where o.user.id = :userId and o.createdAt >= :since order by o.createdAt desc")
+    List<Long> findRecentOrderIds(@Param("userId") Long userId, @Param("since") Instant since, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    List<UserOrder> findByIdInOrderByCreatedAtDesc(Collection<Long> ids);
+
+    @Query("select distinct o.user.id from UserOrder o where o.user.id > :afterUserId order by o.user.id")
+    List<Long> findUserIdsWithOrdersAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    @Query("""
+            select count(o) as orderCount, coalesce(sum(o.subtotal), 0) as totalSpend, max(o.createdAt) as lastOrderAt
+            from UserOrder o
+            where o.user.id = :userId
+            """)
+    OrderTotals summarizeByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            select p.category.id as categoryId, sum(i.quantity) as units
+            from UserOrderItem i join i.product p
+            where i.order.user.id = :userId and p.category is not null
+            group by p.category.id
+            """)
+    List<CategoryUnits> sumUnitsByCategoryForUserId(@Param("userId") Long userId);
+
+    @Query("""
+            select i.id as itemId, i.createdAt as createdAt, p.id as productId, c.id as categoryId,
+                   i.quantity as quantity, i.lineTotal as lineTotal
+            from UserOrderItem i join i.product p left join p.category c
+            where i.id > :afterItemId
+            order by i.id
+            """)
+    List<ItemSale> findItemSalesAfter(@Param("afterItemId") Long afterItemId, Pageable pageable);
+
+    @Query("select o.id from UserOrder o where o.id > :afterOrderId order by o.id")
+    List<Long> findOrderIdsAfter(@Param("afterOrderId") Long afterOrderId, Pageable pageable);
+
+    @Query("select i.order.id as orderId, i.product.id as productId from UserOrderItem i where i.order.id in :orderIds")
+    List<OrderProduct> findOrderProductsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    interface OrderTotals {
+        long getOrderCount();
+
+        BigDecimal getTotalSpend();
+
+        Instant getLastOrderAt();
+    }
+
+    interface CategoryUnits {
+        Long getCategoryId();
+
+        long getUnits();
+    }
+
+    interface ItemSale {
+        Long getItemId();
+
+        Instant getCreatedAt();
+
+        Long getProductId();
+
+        Long getCategoryId();
+
+        int getQuantity();
+
+        BigDecimal getLineTotal();
+    }
+
+    interface OrderProduct {
+        Long getOrderId();
+
+        Long getProductId();
+    }
 }
@@ -0,0 +1,26 @@
+package org.testautomation.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.testautomation.entity.UserOrderStats;
+
+import java.util.Optional;
+
+public interface UserOrderStatsRepository extends JpaRepository<UserOrderStats, Long> {
+
+    // Creates the row a first order can lock; concurrent first orders for one user both end up locking it
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_order_stats (user_id, order_count, total_spend, favourite_category_units, updated_at)
+            VALUES (:userId, 0, 0, 0, CURRENT_TIMESTAMP)
+            ON CONFLICT DO NOTHING""", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserOrderStats s where s.userId = :userId")
+    Optional<UserOrderStats> findByUserIdForUpdate(@Param("userId") Long userId);
+}
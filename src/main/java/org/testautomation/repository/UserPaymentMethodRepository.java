@@ -1,6 +1,9 @@
 package org.testautomation.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.testautomation.entity.UserPaymentMethod;
 
 import java.util.List;
@@ -11,4 +14,16 @@ public interface UserPaymentMethodRepository extends JpaRepository<UserPaymentMe
     List<UserPaymentMethod> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     Optional<UserPaymentMethod> findByIdAndUserId(Long id, Long userId);
+
+    Optional<UserPaymentMethod> findFirstByUserIdOrderByCreatedAtDesc(Long userId);
+
+    boolean existsByUserId(Long userId);
+
+    @Modifying
+    @Query("update UserPaymentMethod m set m.isDefault = false where m.user.id = :userId and m.isDefault = true")
+    int clearDefaultByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update UserPaymentMethod m set m.isDefault = false where m.user.id = :userId and m.isDefault = true and m.id <> :keepId")
+    int clearDefaultByUserIdExcept(@Param("userId") Long userId, @Param("keepId") Long keepId);
 }
@@ -1,6 +1,9 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -30,25 +33,44 @@ public class AuthService {
     private final UserAccountRepository userAccountRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final StatelessSessions statelessSessions;
+    private final RateLimiter emailRateLimiter;
+    private final Counter signIns;
+    private final Counter signInFailures;
+    private final Counter signUps;
 
     public AuthService(
             UserAccountRepository userAccountRepository,
             PasswordEncoder passwordEncoder,
-            AuthenticationManager authenticationManager
+            AuthenticationManager authenticationManager,
+            StatelessSessions statelessSessions,
+            RateLimiter emailRateLimiter,
+            MeterRegistry meterRegistry
     ) {
         this.userAccountRepository = userAccountRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
+        this.statelessSessions = statelessSessions;
+        this.emailRateLimiter = emailRateLimiter;
+        this.signIns = meterRegistry.counter("shop.signins", "result", "success");
+        this.signInFailures = meterRegistry.counter("shop.signins", "result", "failure");
+        this.signUps = meterRegistry.counter("shop.signups");
     }
 
-    public SignInResponse signIn(SignInRequest request, HttpServletRequest httpServletRequest) {
+    public SignInResponse signIn(
+            SignInRequest request,
+            HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse
+    ) {
         String normalizedEmail = request.getEmail().trim().toLowerCase();
+        emailRateLimiter.acquire(normalizedEmail);
         Authentication authentication;
         try {
             authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(normalizedEmail, request.getPassword())
             );
         } catch (AuthenticationException ex) {
+            signInFailures.increment();
             throw new BadCredentialsException("Invalid credentials");
         }
 
@@ -56,6 +78,16 @@ public class AuthService {
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
 
+        if (statelessSessions.isEnabled()) {
+            UserAccount userAccount = userAccountRepository.findByNormalizedEmail(normalizedEmail)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
+            StatelessSessions.IssuedToken issued = statelessSessions.issue(
+                    userAccount.getId(), userAccount.getEmail(), request.isRememberMe(), httpServletResponse);
+            AuthUserDTO user = new AuthUserDTO(userAccount.getId(), userAccount.getEmail(), userAccount.getDisplayName());
+            signIns.increment();
+            return new SignInResponse(issued.value(), user, issued.token().expiresAt().toString());
+        }
+
         int sessionTtlSeconds = (int) (request.isRememberMe()
                 ? ChronoUnit.DAYS.getDuration().multipliedBy(30).getSeconds()
                 : ChronoUnit.HOURS.getDuration().multipliedBy(12).getSeconds());
@@ -64,15 +96,20 @@ public class AuthService {
         session.setMaxInactiveInterval(sessionTtlSeconds);
         session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
 
-        UserAccount userAccount = userAccountRepository.findByEmailIgnoreCase(normalizedEmail)
+        UserAccount userAccount = userAccountRepository.findByNormalizedEmail(normalizedEmail)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         Instant expiresAt = Instant.now().plusSeconds(sessionTtlSeconds);
         AuthUserDTO user = new AuthUserDTO(userAccount.getId(), userAccount.getEmail(), userAccount.getDisplayName());
+        signIns.increment();
         return new SignInResponse(session.getId(), user, expiresAt.toString());
     }
 
     public Optional<SignInResponse> getCurrentSession(HttpServletRequest httpServletRequest) {
+        if (statelessSessions.isEnabled()) {
+            return getCurrentStatelessSession(httpServletRequest);
+        }
+
         HttpSession session = httpServletRequest.getSession(false);
         if (session == null) {
             return Optional.empty();
@@ -89,7 +126,7 @@ public class AuthService {
         }
 
         String normalizedEmail = authentication.getName().trim().toLowerCase();
-        UserAccount userAccount = userAccountRepository.findByEmailIgnoreCase(normalizedEmail).orElse(null);
+        UserAccount userAccount = userAccountRepository.findByNormalizedEmail(normalizedEmail).orElse(null);
         if (userAccount == null || !userAccount.isEnabled()) {
             return Optional.empty();
         }
@@ -100,7 +137,32 @@ public class AuthService {
         return Optional.of(new SignInResponse(session.getId(), user, expiresAt.toString()));
     }
 
-    public void logout(HttpServletRequest httpServletRequest) {
+    private Optional<SignInResponse> getCurrentStatelessSession(HttpServletRequest httpServletRequest) {
+        SessionTokenCodec.SessionToken token = StatelessSessions.current(SecurityContextHolder.getContext().getAuthentication())
+                .orElse(null);
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        UserAccount userAccount = userAccountRepository.findByNormalizedEmail(token.email()).orElse(null);
+        if (userAccount == null || !userAccount.isEnabled() || userAccount.getId() != token.userId()) {
+            return Optional.empty();
+        }
+
+        AuthUserDTO user = new AuthUserDTO(userAccount.getId(), userAccount.getEmail(), userAccount.getDisplayName());
+        return Optional.of(new SignInResponse(statelessSessions.cookieValue(httpServletRequest), user, token.expiresAt().toString()));
+    }
+
+    public void logout(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
+        if (statelessSessions.isEnabled()) {
+            StatelessSessions.current(SecurityContextHolder.getContext().getAuthentication())
+                    .ifPresentOrElse(
+                            token -> statelessSessions.revoke(token, httpServletResponse),
+                            () -> statelessSessions.clearCookie(httpServletResponse));
+            SecurityContextHolder.clearContext();
+            return;
+        }
+
         HttpSession session = httpServletRequest.getSession(false);
         if (session != null) {
             session.invalidate();
@@ -111,6 +173,7 @@ public class AuthService {
     public SignUpResponse signUp(SignUpRequest request) {
         String normalizedEmail = request.getEmail().trim().toLowerCase();
         String normalizedName = request.getName().trim();
+        emailRateLimiter.acquire(normalizedEmail);
 
         if (userAccountRepository.existsByEmailIgnoreCase(normalizedEmail)) {
             throw new IllegalArgumentException("Email is already in use");
@@ -122,6 +185,7 @@ public class AuthService {
         userAccount.setPasswordHash(passwordEncoder.encode(request.getPassword()));
         userAccount.setEnabled(true);
         userAccountRepository.save(userAccount);
+        signUps.increment();
 
         AuthUserDTO user = new AuthUserDTO(userAccount.getId(), userAccount.getEmail(), userAccount.getDisplayName());
         return new SignUpResponse(user, "Account created successfully.");
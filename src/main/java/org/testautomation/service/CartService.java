@@ -1,5 +1,7 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.testautomation.converter.ProductConverter;
@@ -24,17 +26,22 @@ public class CartService {
     private final UserAccountRepository userAccountRepository;
     private final ProductRepository productRepository;
     private final ProductConverter productConverter;
+    private final Counter cartReplacements;
+    private final Counter cartClears;
 
     public CartService(
             UserCartItemRepository userCartItemRepository,
             UserAccountRepository userAccountRepository,
             ProductRepository productRepository,
-            ProductConverter productConverter
+            ProductConverter productConverter,
+            MeterRegistry meterRegistry
     ) {
         this.userCartItemRepository = userCartItemRepository;
         this.userAccountRepository = userAccountRepository;
         this.productRepository = productRepository;
         this.productConverter = productConverter;
+        this.cartReplacements = meterRegistry.counter("shop.cart.updates", "operation", "replace");
+        this.cartClears = meterRegistry.counter("shop.cart.updates", "operation", "clear");
     }
 
     @Transactional(readOnly = true)
@@ -66,6 +73,7 @@ public class CartService {
                 .toList();
 
         userCartItemRepository.saveAllAndFlush(replacementItems);
+        cartReplacements.increment();
         return getCart(email);
     }
 
@@ -73,9 +81,10 @@ public class CartService {
     public void clearCart(String email) {
         UserAccount userAccount = getUserByEmail(email);
         userCartItemRepository.deleteByUserId(userAccount.getId());
+        cartClears.increment();
     }
 
-    private Map<Long, Integer> normalize(List<CartItemRequest> payload) {
+    Map<Long, Integer> normalize(List<CartItemRequest> payload) {
         Map<Long, Integer> quantities = new HashMap<>();
         if (payload == null) {
             return quantities;
@@ -110,7 +119,7 @@ public class CartService {
     }
 
     private UserAccount getUserByEmail(String email) {
-        return userAccountRepository.findByEmailIgnoreCase(email)
+        return userAccountRepository.findByNormalizedEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
     }
 }
@@ -15,10 +15,13 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryConverter categoryConverter;
+    private final SingleFlight<Long, Optional<CategoryDTO>> categoryLookups;
 
-    public CategoryService(CategoryRepository categoryRepository, CategoryConverter categoryConverter) {
+    public CategoryService(CategoryRepository categoryRepository, CategoryConverter categoryConverter,
+                           SingleFlight<Long, Optional<CategoryDTO>> categoryLookups) {
         this.categoryRepository = categoryRepository;
         this.categoryConverter = categoryConverter;
+        this.categoryLookups = categoryLookups;
     }
 
     @Transactional(readOnly = true)
@@ -30,10 +33,10 @@ public class CategoryService {
                 .toList();
     }
 
-    @Transactional(readOnly = true)
+    // Not @Transactional: requests waiting on a coalesced lookup must not hold a connection
     public Optional<CategoryDTO> findById(Long id) {
-        return categoryRepository.findById(id)
-                .map(categoryConverter::toDto);
+        return categoryLookups.execute(id, () -> categoryRepository.findById(id)
+                .map(categoryConverter::toDto));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,50 @@
+package org.testautomation.service;
+
+import org.testautomation.domain.CheckoutItemRequest;
+import org.testautomation.entity.UserCartItem;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks a checkout request against the cart it was built from and prices the cart. Pure functions of the loaded
+ * cart items, kept apart from {@link CheckoutService} so they can be measured without its repositories.
+ */
+final class CheckoutCart {
+
+    private CheckoutCart() {
+    }
+
+    static void requireItemsMatch(List<UserCartItem> cartItems, List<CheckoutItemRequest> checkoutItems) {
+        Map<Long, Integer> cartQuantitiesByProductId = cartItems.stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), UserCartItem::getQuantity));
+
+        Map<Long, Integer> requestQuantitiesByProductId = checkoutItems.stream()
+                .collect(Collectors.toMap(CheckoutItemRequest::getProductId, CheckoutItemRequest::getQuantity, Integer::sum));
+
+        Set<Long> cartProductIds = cartQuantitiesByProductId.keySet();
+        Set<Long> requestProductIds = requestQuantitiesByProductId.keySet();
+        if (!cartProductIds.equals(requestProductIds)) {
+            throw new IllegalArgumentException("Cart changed. Refresh and try checkout again.");
+        }
+
+        for (Long productId : cartProductIds) {
+            Integer cartQuantity = cartQuantitiesByProductId.get(productId);
+            Integer requestQuantity = requestQuantitiesByProductId.get(productId);
+            if (!cartQuantity.equals(requestQuantity)) {
+                throw new IllegalArgumentException("Cart changed. Refresh and try checkout again.");
+            }
+        }
+    }
+
+    static BigDecimal subtotal(List<UserCartItem> cartItems) {
+        return cartItems.stream()
+                .map(item -> item.getProduct().getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -1,8 +1,9 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.testautomation.domain.CheckoutItemRequest;
 import org.testautomation.domain.CheckoutPaymentRequest;
 import org.testautomation.domain.CheckoutRequest;
 import org.testautomation.domain.CheckoutResponse;
@@ -22,9 +23,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 public class CheckoutService {
@@ -36,19 +34,35 @@ public class CheckoutService {
     private final UserOrderRepository userOrderRepository;
     private final UserAddressRepository userAddressRepository;
     private final UserPaymentMethodRepository userPaymentMethodRepository;
+    private final OrderStatsService orderStatsService;
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final RecommendationService recommendationService;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary checkoutAmounts;
 
     public CheckoutService(
             UserAccountRepository userAccountRepository,
             UserCartItemRepository userCartItemRepository,
             UserOrderRepository userOrderRepository,
             UserAddressRepository userAddressRepository,
-            UserPaymentMethodRepository userPaymentMethodRepository
+            UserPaymentMethodRepository userPaymentMethodRepository,
+            OrderStatsService orderStatsService,
+            SalesAnalyticsService salesAnalyticsService,
+            RecommendationService recommendationService,
+            MeterRegistry meterRegistry
     ) {
         this.userAccountRepository = userAccountRepository;
         this.userCartItemRepository = userCartItemRepository;
         this.userOrderRepository = userOrderRepository;
         this.userAddressRepository = userAddressRepository;
         this.userPaymentMethodRepository = userPaymentMethodRepository;
+        this.orderStatsService = orderStatsService;
+        this.salesAnalyticsService = salesAnalyticsService;
+        this.recommendationService = recommendationService;
+        this.meterRegistry = meterRegistry;
+        this.checkoutAmounts = DistributionSummary.builder("shop.checkout.amount")
+                .description("Order subtotal in " + SUPPORTED_CURRENCY)
+                .register(meterRegistry);
     }
 
     @Transactional
@@ -60,9 +74,9 @@ public class CheckoutService {
         }
 
         validateCurrency(request.getCurrency());
-        validateItemsMatchCart(cartItems, request.getItems());
+        CheckoutCart.requireItemsMatch(cartItems, request.getItems());
 
-        BigDecimal subtotal = calculateSubtotal(cartItems);
+        BigDecimal subtotal = CheckoutCart.subtotal(cartItems);
         validateSubtotal(subtotal, request.getSubtotal());
 
         UserAddress resolvedAddress = resolveAddress(userAccount, request);
@@ -103,6 +117,11 @@ public class CheckoutService {
 
         UserOrder savedOrder = userOrderRepository.save(order);
         userCartItemRepository.deleteByUserId(userAccount.getId());
+        orderStatsService.recordOrder(savedOrder);
+        salesAnalyticsService.recordOrder(savedOrder);
+        recommendationService.recordOrder(savedOrder);
+        meterRegistry.counter("shop.checkouts", "payment_method", resolvedPayment.method).increment();
+        checkoutAmounts.record(subtotal.doubleValue());
 
         return new CheckoutResponse(
                 "ORD-" + savedOrder.getId(),
@@ -117,35 +136,6 @@ public class CheckoutService {
         }
     }
 
-    private void validateItemsMatchCart(List<UserCartItem> cartItems, List<CheckoutItemRequest> checkoutItems) {
-        Map<Long, Integer> cartQuantitiesByProductId = cartItems.stream()
-                .collect(Collectors.toMap(item -> item.getProduct().getId(), UserCartItem::getQuantity));
-
-        Map<Long, Integer> requestQuantitiesByProductId = checkoutItems.stream()
-                .collect(Collectors.toMap(CheckoutItemRequest::getProductId, CheckoutItemRequest::getQuantity, Integer::sum));
-
-        Set<Long> cartProductIds = cartQuantitiesByProductId.keySet();
-        Set<Long> requestProductIds = requestQuantitiesByProductId.keySet();
-        if (!cartProductIds.equals(requestProductIds)) {
-            throw new IllegalArgumentException("Cart changed. Refresh and try checkout again.");
-        }
-
-        for (Long productId : cartProductIds) {
-            Integer cartQuantity = cartQuantitiesByProductId.get(productId);
-            Integer requestQuantity = requestQuantitiesByProductId.get(productId);
-            if (!cartQuantity.equals(requestQuantity)) {
-                throw new IllegalArgumentException("Cart changed. Refresh and try checkout again.");
-            }
-        }
-    }
-
-    private BigDecimal calculateSubtotal(List<UserCartItem> cartItems) {
-        return cartItems.stream()
-                .map(item -> item.getProduct().getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .setScale(2, RoundingMode.HALF_UP);
-    }
-
     private void validateSubtotal(BigDecimal expectedSubtotal, BigDecimal providedSubtotal) {
         BigDecimal normalizedProvided = providedSubtotal.setScale(2, RoundingMode.HALF_UP);
         if (expectedSubtotal.compareTo(normalizedProvided) != 0) {
@@ -274,19 +264,19 @@ public class CheckoutService {
     }
 
     private void persistAddress(Long userId, UserAddress address) {
-        List<UserAddress> existing = userAddressRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        if (existing.isEmpty()) {
+        if (!userAddressRepository.existsByUserId(userId)) {
             address.setDefault(true);
         }
-        userAddressRepository.save(address);
+        ConcurrentUpdateException.onViolation(ProfileService.DEFAULT_ADDRESS_CONSTRAINT,
+                () -> userAddressRepository.saveAndFlush(address));
     }
 
     private void persistPaymentMethod(Long userId, UserPaymentMethod method) {
-        List<UserPaymentMethod> existing = userPaymentMethodRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        if (existing.isEmpty()) {
+        if (!userPaymentMethodRepository.existsByUserId(userId)) {
             method.setDefault(true);
         }
-        userPaymentMethodRepository.save(method);
+        ConcurrentUpdateException.onViolation(ProfileService.DEFAULT_PAYMENT_METHOD_CONSTRAINT,
+                () -> userPaymentMethodRepository.saveAndFlush(method));
     }
 
     private void requireText(String value, String message) {
@@ -296,7 +286,7 @@ public class CheckoutService {
     }
 
     private UserAccount getUserByEmail(String email) {
-        return userAccountRepository.findByEmailIgnoreCase(email)
+        return userAccountRepository.findByNormalizedEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
     }
 
@@ -0,0 +1,166 @@
+package org.testautomation.service;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sparse product-to-product co-purchase counts keyed by primitive product ids.
+ * Each product keeps at most {@code candidatesPerProduct} partners; when a row is full the
+ * weakest partner is replaced (space-saving), so heavy pairs survive while memory stays bounded.
+ */
+public class CoPurchaseIndex {
+
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_ROW_SIZE = 4;
+
+    private final int candidatesPerProduct;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] keys;
+    private Row[] rows;
+    private int size;
+
+    public CoPurchaseIndex(int candidatesPerProduct) {
+        this.candidatesPerProduct = candidatesPerProduct;
+        this.keys = new long[1024];
+        this.rows = new Row[1024];
+    }
+
+    public void addBasket(long[] productIds) {
+        long[] distinct = Arrays.stream(productIds).filter(id -> id != EMPTY).distinct().toArray();
+        if (distinct.length < 2) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (long productId : distinct) {
+                Row row = rowFor(productId);
+                for (long partnerId : distinct) {
+                    if (partnerId != productId) {
+                        row.increment(partnerId, candidatesPerProduct);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] topPartners(long productId, int limit) {
+        lock.readLock().lock();
+        try {
+            int index = indexOf(productId);
+            if (keys[index] == EMPTY) {
+                return new long[0];
+            }
+            return rows[index].top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int productCount() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Row rowFor(long productId) {
+        int index = indexOf(productId);
+        if (keys[index] == EMPTY) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                grow();
+                index = indexOf(productId);
+            }
+            keys[index] = productId;
+            rows[index] = new Row();
+            size++;
+        }
+        return rows[index];
+    }
+
+    private int indexOf(long productId) {
+        int mask = keys.length - 1;
+        int index = Long.hashCode(productId * 0x9E3779B97F4A7C15L) & mask;
+        while (keys[index] != EMPTY && keys[index] != productId) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        Row[] oldRows = rows;
+        keys = new long[oldKeys.length * 2];
+        rows = new Row[oldRows.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                rows[index] = oldRows[i];
+            }
+        }
+    }
+
+    private static final class Row {
+        private long[] partners = new long[INITIAL_ROW_SIZE];
+        private int[] counts = new int[INITIAL_ROW_SIZE];
+        private int used;
+
+        void increment(long partnerId, int capacity) {
+            int weakest = 0;
+            for (int i = 0; i < used; i++) {
+                if (partners[i] == partnerId) {
+                    counts[i]++;
+                    return;
+                }
+                if (counts[i] < counts[weakest]) {
+                    weakest = i;
+                }
+            }
+            if (used < capacity) {
+                if (used == partners.length) {
+                    int newLength = Math.min(capacity, partners.length * 2);
+                    partners = Arrays.copyOf(partners, newLength);
+                    counts = Arrays.copyOf(counts, newLength);
+                }
+                partners[used] = partnerId;
+                counts[used] = 1;
+                used++;
+                return;
+            }
+            partners[weakest] = partnerId;
+            counts[weakest]++;
+        }
+
+        long[] top(int limit) {
+            int resultSize = Math.min(limit, used);
+            long[] result = new long[resultSize];
+            int[] resultCounts = new int[resultSize];
+            int filled = 0;
+            for (int i = 0; i < used; i++) {
+                int position = filled;
+                while (position > 0 && (counts[i] > resultCounts[position - 1]
+                        || (counts[i] == resultCounts[position - 1] && partners[i] < result[position - 1]))) {
+                    position--;
+                }
+                if (position >= resultSize) {
+                    continue;
+                }
+                int shift = Math.min(filled, resultSize - 1) - position;
+                System.arraycopy(result, position, result, position + 1, shift);
+                System.arraycopy(resultCounts, position, resultCounts, position + 1, shift);
+                result[position] = partners[i];
+                resultCounts[position] = counts[i];
+                if (filled < resultSize) {
+                    filled++;
+                }
+            }
+            return result;
+        }
+    }
+}
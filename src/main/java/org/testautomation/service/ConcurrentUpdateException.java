@@ -0,0 +1,29 @@
+package org.testautomation.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.function.Supplier;
+
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(Throwable cause) {
+        super("Request conflicts with a concurrent update. Please retry.", cause);
+    }
+
+    // Runs a flushing write and reports a violation of the given unique constraint as a retryable conflict.
+    // Any other integrity violation is a bug and propagates unchanged.
+    static <T> T onViolation(String constraint, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException ex) {
+            for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConstraintViolationException violation
+                        && constraint.equalsIgnoreCase(violation.getConstraintName())) {
+                    throw new ConcurrentUpdateException(ex);
+                }
+            }
+            throw ex;
+        }
+    }
+}
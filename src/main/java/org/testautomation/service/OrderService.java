@@ -1,7 +1,9 @@
 package org.testautomation.service;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.testautomation.config.OrderConfig;
 import org.testautomation.domain.OrderItemResponse;
 import org.testautomation.domain.OrderSummaryResponse;
 import org.testautomation.entity.UserAccount;
@@ -10,6 +12,9 @@ import org.testautomation.entity.UserOrderItem;
 import org.testautomation.repository.UserAccountRepository;
 import org.testautomation.repository.UserOrderRepository;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 @Service
@@ -17,20 +22,43 @@ public class OrderService {
 
     private final UserAccountRepository userAccountRepository;
     private final UserOrderRepository userOrderRepository;
+    private final OrderConfig.OrderProperties orderProperties;
 
-    public OrderService(UserAccountRepository userAccountRepository, UserOrderRepository userOrderRepository) {
+    public OrderService(
+            UserAccountRepository userAccountRepository,
+            UserOrderRepository userOrderRepository,
+            OrderConfig.OrderProperties orderProperties
+    ) {
         this.userAccountRepository = userAccountRepository;
         this.userOrderRepository = userOrderRepository;
+        this.orderProperties = orderProperties;
     }
 
     @Transactional(readOnly = true)
     public List<OrderSummaryResponse> getOrders(String email) {
         UserAccount userAccount = getUserByEmail(email);
-        return userOrderRepository.findByUserIdOrderByCreatedAtDesc(userAccount.getId()).stream()
+        return userOrderRepository.findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(userAccount.getId(), historyStart()).stream()
                 .map(this::toDto)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<OrderSummaryResponse> getRecentOrdersByUserId(Long userId, int limit) {
+        // Page over ids first so the fetch join below does not paginate in memory.
+        List<Long> orderIds = userOrderRepository.findRecentOrderIds(userId, historyStart(), PageRequest.of(0, limit));
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return userOrderRepository.findByIdInOrderByCreatedAtDesc(orderIds).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    // Bounding created_at lets PostgreSQL prune monthly partitions outside the history window.
+    private Instant historyStart() {
+        return ZonedDateTime.now(ZoneOffset.UTC).minusMonths(orderProperties.getHistoryMonths()).toInstant();
+    }
+
     private OrderSummaryResponse toDto(UserOrder order) {
         List<OrderItemResponse> items = order.getItems().stream()
                 .map(this::toDto)
@@ -57,7 +85,7 @@ public class OrderService {
     }
 
     private UserAccount getUserByEmail(String email) {
-        return userAccountRepository.findByEmailIgnoreCase(email)
+        return userAccountRepository.findByNormalizedEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
     }
 }
@@ -0,0 +1,144 @@
+package org.testautomation.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.testautomation.domain.OrderStatsResponse;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderCategoryStats;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.entity.UserOrderStats;
+import org.testautomation.repository.UserAccountRepository;
+import org.testautomation.repository.UserOrderCategoryStatsRepository;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.repository.UserOrderStatsRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderStatsService {
+
+    private final UserAccountRepository userAccountRepository;
+    private final UserOrderRepository userOrderRepository;
+    private final UserOrderStatsRepository userOrderStatsRepository;
+    private final UserOrderCategoryStatsRepository userOrderCategoryStatsRepository;
+
+    public OrderStatsService(
+            UserAccountRepository userAccountRepository,
+            UserOrderRepository userOrderRepository,
+            UserOrderStatsRepository userOrderStatsRepository,
+            UserOrderCategoryStatsRepository userOrderCategoryStatsRepository
+    ) {
+        this.userAccountRepository = userAccountRepository;
+        this.userOrderRepository = userOrderRepository;
+        this.userOrderStatsRepository = userOrderStatsRepository;
+        this.userOrderCategoryStatsRepository = userOrderCategoryStatsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderStatsResponse getStats(String email) {
+        UserAccount userAccount = getUserByEmail(email);
+        return userOrderStatsRepository.findById(userAccount.getId())
+                .map(this::toDto)
+                .orElseGet(() -> new OrderStatsResponse(0, BigDecimal.ZERO.setScale(2), null, null));
+    }
+
+    @Transactional
+    public void recordOrder(UserOrder order) {
+        Long userId = order.getUser().getId();
+        UserOrderStats stats = lockStats(userId);
+
+        stats.setOrderCount(stats.getOrderCount() + 1);
+        stats.setTotalSpend(stats.getTotalSpend().add(order.getSubtotal()));
+        if (stats.getLastOrderAt() == null || order.getCreatedAt().isAfter(stats.getLastOrderAt())) {
+            stats.setLastOrderAt(order.getCreatedAt());
+        }
+
+        Map<Long, Long> unitsByCategoryId = new HashMap<>();
+        for (UserOrderItem item : order.getItems()) {
+            Category category = item.getProduct().getCategory();
+            if (category != null) {
+                unitsByCategoryId.merge(category.getId(), (long) item.getQuantity(), Long::sum);
+            }
+        }
+
+        if (!unitsByCategoryId.isEmpty()) {
+            Map<Long, UserOrderCategoryStats> existing = userOrderCategoryStatsRepository
+                    .findByUserIdAndCategoryIdIn(userId, unitsByCategoryId.keySet()).stream()
+                    .collect(Collectors.toMap(UserOrderCategoryStats::getCategoryId, Function.identity()));
+
+            List<UserOrderCategoryStats> updated = new ArrayList<>();
+            for (Map.Entry<Long, Long> entry : unitsByCategoryId.entrySet()) {
+                UserOrderCategoryStats categoryStats = existing.getOrDefault(
+                        entry.getKey(),
+                        new UserOrderCategoryStats(userId, entry.getKey())
+                );
+                categoryStats.setUnits(categoryStats.getUnits() + entry.getValue());
+                promoteFavourite(stats, categoryStats);
+                updated.add(categoryStats);
+            }
+            userOrderCategoryStatsRepository.saveAll(updated);
+        }
+
+        userOrderStatsRepository.save(stats);
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        UserOrderRepository.OrderTotals totals = userOrderRepository.summarizeByUserId(userId);
+        UserOrderStats stats = lockStats(userId);
+
+        stats.setOrderCount(totals.getOrderCount());
+        stats.setTotalSpend(totals.getTotalSpend());
+        stats.setLastOrderAt(totals.getLastOrderAt());
+        stats.setFavouriteCategoryId(null);
+        stats.setFavouriteCategoryUnits(0);
+
+        userOrderCategoryStatsRepository.deleteByUserId(userId);
+        List<UserOrderCategoryStats> rebuilt = new ArrayList<>();
+        for (UserOrderRepository.CategoryUnits units : userOrderRepository.sumUnitsByCategoryForUserId(userId)) {
+            UserOrderCategoryStats categoryStats = new UserOrderCategoryStats(userId, units.getCategoryId());
+            categoryStats.setUnits(units.getUnits());
+            promoteFavourite(stats, categoryStats);
+            rebuilt.add(categoryStats);
+        }
+        userOrderCategoryStatsRepository.saveAll(rebuilt);
+
+        userOrderStatsRepository.save(stats);
+    }
+
+    private UserOrderStats lockStats(Long userId) {
+        userOrderStatsRepository.insertIfAbsent(userId);
+        return userOrderStatsRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("Order stats row missing for user " + userId));
+    }
+
+    private void promoteFavourite(UserOrderStats stats, UserOrderCategoryStats categoryStats) {
+        if (categoryStats.getCategoryId().equals(stats.getFavouriteCategoryId())
+                || categoryStats.getUnits() > stats.getFavouriteCategoryUnits()) {
+            stats.setFavouriteCategoryId(categoryStats.getCategoryId());
+            stats.setFavouriteCategoryUnits(categoryStats.getUnits());
+        }
+    }
+
+    private OrderStatsResponse toDto(UserOrderStats stats) {
+        return new OrderStatsResponse(
+                stats.getOrderCount(),
+                stats.getTotalSpend(),
+                stats.getLastOrderAt() != null ? stats.getLastOrderAt().toString() : null,
+                stats.getFavouriteCategoryId()
+        );
+    }
+
+    private UserAccount getUserByEmail(String email) {
+        return userAccountRepository.findByNormalizedEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    }
+}
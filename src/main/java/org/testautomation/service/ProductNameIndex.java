@@ -0,0 +1,180 @@
+package org.testautomation.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable typeahead index over product names. Every word start of a normalized name is one entry of a sorted
+ * array, so all entries beginning with a prefix form one contiguous range found with two binary searches. Names
+ * that start with the prefix rank before names that only contain a word starting with it. {@link #update} derives a
+ * new index for a few changed products by merging their entries into the existing order instead of sorting again.
+ */
+public final class ProductNameIndex {
+
+    public static final ProductNameIndex EMPTY =
+            new ProductNameIndex(new String[0], new int[0], new boolean[0], new long[0], new String[0]);
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String[] keys;
+    private final int[] products;
+    private final boolean[] nameStarts;
+    private final long[] ids;
+    private final String[] names;
+
+    private ProductNameIndex(String[] keys, int[] products, boolean[] nameStarts, long[] ids, String[] names) {
+        this.keys = keys;
+        this.products = products;
+        this.nameStarts = nameStarts;
+        this.ids = ids;
+        this.names = names;
+    }
+
+    public static ProductNameIndex build(Map<Long, String> namesById) {
+        return EMPTY.update(namesById);
+    }
+
+    /**
+     * Returns an index with the given products replaced, or removed where the name is null. Entries of unchanged
+     * products keep their order, so only the changed names are normalized and sorted before the two runs are merged.
+     */
+    public ProductNameIndex update(Map<Long, String> changes) {
+        int[] moved = new int[ids.length];
+        long[] nextIds = new long[ids.length + changes.size()];
+        String[] nextNames = new String[nextIds.length];
+        int count = 0;
+        for (int product = 0; product < ids.length; product++) {
+            if (changes.containsKey(ids[product])) {
+                moved[product] = -1;
+            } else {
+                moved[product] = count;
+                nextIds[count] = ids[product];
+                nextNames[count++] = names[product];
+            }
+        }
+        List<Entry> added = new ArrayList<>();
+        for (Map.Entry<Long, String> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                continue;
+            }
+            nextIds[count] = change.getKey();
+            nextNames[count] = change.getValue();
+            String normalized = normalize(change.getValue());
+            for (int start = 0; start < normalized.length(); start++) {
+                if (start == 0 || normalized.charAt(start - 1) == ' ') {
+                    added.add(new Entry(normalized.substring(start), count, start == 0));
+                }
+            }
+            count++;
+        }
+        long[] finalIds = Arrays.copyOf(nextIds, count);
+        added.sort(Comparator.comparing(Entry::key).thenComparingLong(entry -> finalIds[entry.product()]));
+
+        int capacity = keys.length + added.size();
+        String[] nextKeys = new String[capacity];
+        int[] nextProducts = new int[capacity];
+        boolean[] nextNameStarts = new boolean[capacity];
+        int size = 0;
+        int old = 0;
+        int fresh = 0;
+        while (old < keys.length || fresh < added.size()) {
+            if (old < keys.length && moved[products[old]] < 0) {
+                old++;
+                continue;
+            }
+            boolean takeOld = fresh == added.size() || (old < keys.length && compare(keys[old], ids[products[old]],
+                    added.get(fresh).key(), finalIds[added.get(fresh).product()]) < 0);
+            if (takeOld) {
+                nextKeys[size] = keys[old];
+                nextProducts[size] = moved[products[old]];
+                nextNameStarts[size++] = nameStarts[old++];
+            } else {
+                Entry entry = added.get(fresh++);
+                nextKeys[size] = entry.key();
+                nextProducts[size] = entry.product();
+                nextNameStarts[size++] = entry.nameStart();
+            }
+        }
+        return new ProductNameIndex(Arrays.copyOf(nextKeys, size), Arrays.copyOf(nextProducts, size),
+                Arrays.copyOf(nextNameStarts, size), finalIds, Arrays.copyOf(nextNames, count));
+    }
+
+    static String normalize(String text) {
+        String decomposed = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    public List<Match> top(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+
+        int[] chosen = new int[limit];
+        int count = collect(from, to, true, chosen, 0);
+        count = collect(from, to, false, chosen, count);
+
+        List<Match> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            matches.add(new Match(ids[chosen[i]], names[chosen[i]]));
+        }
+        return matches;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private int collect(int from, int to, boolean nameStart, int[] chosen, int count) {
+        for (int i = from; i < to && count < chosen.length; i++) {
+            if (nameStarts[i] == nameStart && !contains(chosen, count, products[i])) {
+                chosen[count++] = products[i];
+            }
+        }
+        return count;
+    }
+
+    // First entry not less than key; keys repeat when products share a name
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(String key, long id, String otherKey, long otherId) {
+        int byKey = key.compareTo(otherKey);
+        return byKey != 0 ? byKey : Long.compare(id, otherId);
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record Match(long id, String name) {
+    }
+
+    private record Entry(String key, int product, boolean nameStart) {
+    }
+}
@@ -20,10 +20,13 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductConverter productConverter;
+    private final SingleFlight<Long, Optional<ProductDTO>> productLookups;
 
-    public ProductService(ProductRepository productRepository, ProductConverter productConverter) {
+    public ProductService(ProductRepository productRepository, ProductConverter productConverter,
+                          SingleFlight<Long, Optional<ProductDTO>> productLookups) {
         this.productRepository = productRepository;
         this.productConverter = productConverter;
+        this.productLookups = productLookups;
     }
 
     @Transactional(readOnly = true)
@@ -54,9 +57,9 @@ public class ProductService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // Not @Transactional: requests waiting on a coalesced lookup must not hold a connection
     public Optional<ProductDTO> findById(Long id) {
-        return productRepository.findById(id)
-                .map(productConverter::toDto);
+        return productLookups.execute(id, () -> productRepository.findWithCategoryById(id)
+                .map(productConverter::toDto));
     }
 }
@@ -0,0 +1,113 @@
+package org.testautomation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testautomation.domain.ProductSuggestionResponse;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Product name suggestions for search boxes, answered from a {@link ProductNameIndex} held in memory. The index is
+ * loaded from the products table with plain JDBC on startup and after a test data restore. Each committed transaction
+ * of product writes merges its changes into the index, so a suggestion never needs a database round trip. Writes
+ * before the first load, such as the seed data chunks, are skipped because that load reads them anyway.
+ */
+@Service
+public class ProductSuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSuggestionService.class);
+    private static final int DEFAULT_LIMIT = 8;
+    private static final int MAX_LIMIT = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogVersion catalogVersion;
+    private volatile ProductNameIndex index = ProductNameIndex.EMPTY;
+    // Guarded by this
+    private boolean built;
+
+    public ProductSuggestionService(JdbcTemplate jdbcTemplate, CatalogVersion catalogVersion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.catalogVersion = catalogVersion;
+    }
+
+    public List<ProductSuggestionResponse> suggest(String query, Integer limit) {
+        int resolvedLimit = limit != null ? limit : DEFAULT_LIMIT;
+        if (resolvedLimit < 1 || resolvedLimit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return index.top(query, resolvedLimit).stream()
+                .map(match -> new ProductSuggestionResponse(match.id(), match.name()))
+                .toList();
+    }
+
+    @EventListener({ApplicationReadyEvent.class, TestDataRestoredEvent.class})
+    public void rebuild() {
+        Map<Long, String> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM products", rs -> {
+            loaded.put(rs.getLong(1), rs.getString(2));
+        });
+        ProductNameIndex loadedIndex = ProductNameIndex.build(loaded);
+        synchronized (this) {
+            index = loadedIndex;
+            built = true;
+        }
+        // Suggestions answered from the previous index may have been cached under the current version, by a
+        // request racing startup or a test data restore, so they are invalidated once the new index is in place
+        catalogVersion.changed();
+        log.info("Product suggestion index built ({} products)", loaded.size());
+    }
+
+    public void productChanged(long id, String name) {
+        apply(id, name);
+    }
+
+    public void productRemoved(long id) {
+        apply(id, null);
+    }
+
+    // A null name removes the product. Inside a transaction the changes are applied together after commit.
+    private void apply(long id, String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Long, String> change = new HashMap<>();
+            change.put(id, name);
+            replace(change);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, String> pending = (Map<Long, String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Long, String> changes = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    replace(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductSuggestionService.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.put(id, name);
+    }
+
+    private synchronized void replace(Map<Long, String> changes) {
+        if (built) {
+            index = index.update(changes);
+        }
+    }
+}
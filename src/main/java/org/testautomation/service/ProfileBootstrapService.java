@@ -0,0 +1,139 @@
+package org.testautomation.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.testautomation.config.ProfileConfig;
+import org.testautomation.domain.AuthUserDTO;
+import org.testautomation.domain.OrderSummaryResponse;
+import org.testautomation.domain.ProfileResponse;
+import org.testautomation.domain.UserAddressResponse;
+import org.testautomation.domain.UserPaymentMethodResponse;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.repository.UserAccountRepository;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+@Service
+public class ProfileBootstrapService {
+
+    private static final int DEFAULT_ORDERS_LIMIT = 10;
+    private static final int MAX_ORDERS_LIMIT = 50;
+
+    private final UserAccountRepository userAccountRepository;
+    private final ProfileService profileService;
+    private final OrderService orderService;
+    private final ExecutorService executor;
+
+    public ProfileBootstrapService(
+            UserAccountRepository userAccountRepository,
+            ProfileService profileService,
+            OrderService orderService,
+            ProfileConfig.ProfileProperties profileProperties
+    ) {
+        this.userAccountRepository = userAccountRepository;
+        this.profileService = profileService;
+        this.orderService = orderService;
+        // A fixed set of virtual threads bounds the connections the fan-out takes; further sections queue
+        this.executor = Executors.newFixedThreadPool(
+                profileProperties.getSectionLoaders(),
+                Thread.ofVirtual().name("profile-section-", 0).factory()
+        );
+    }
+
+    public ProfileResponse getProfile(String email, String fields, Integer ordersLimit) {
+        Set<Section> sections = parseSections(fields);
+        int resolvedOrdersLimit = ordersLimit != null ? ordersLimit : DEFAULT_ORDERS_LIMIT;
+        if (resolvedOrdersLimit < 1 || resolvedOrdersLimit > MAX_ORDERS_LIMIT) {
+            throw new IllegalArgumentException("ordersLimit must be between 1 and " + MAX_ORDERS_LIMIT);
+        }
+
+        // The lookup runs on a section loader too, so the request thread never holds a connection while it
+        // waits for the loaders and the fan-out stays within app.profile.section-loaders connections
+        UserAccount user = join(CompletableFuture.supplyAsync(() -> userAccountRepository.findByNormalizedEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("User not found")), executor));
+        Long userId = user.getId();
+
+        // Each section is read in its own read-only transaction on one of the section loader threads.
+        CompletableFuture<List<UserAddressResponse>> addresses =
+                load(sections.contains(Section.ADDRESSES), () -> profileService.getAddressesByUserId(userId));
+        CompletableFuture<List<UserPaymentMethodResponse>> paymentMethods =
+                load(sections.contains(Section.PAYMENT_METHODS), () -> profileService.getPaymentMethodsByUserId(userId));
+        CompletableFuture<List<OrderSummaryResponse>> orders =
+                load(sections.contains(Section.ORDERS), () -> orderService.getRecentOrdersByUserId(userId, resolvedOrdersLimit));
+
+        AuthUserDTO account = sections.contains(Section.ACCOUNT)
+                ? new AuthUserDTO(user.getId(), user.getEmail(), user.getDisplayName())
+                : null;
+
+        return new ProfileResponse(account, join(addresses), join(paymentMethods), join(orders));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    private <T> CompletableFuture<T> load(boolean requested, Supplier<T> loader) {
+        if (!requested) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(loader, executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private Set<Section> parseSections(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(Section.class);
+        }
+        Set<Section> sections = EnumSet.noneOf(Section.class);
+        for (String field : fields.split(",")) {
+            String normalized = field.trim();
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            sections.add(Section.fromField(normalized));
+        }
+        return sections;
+    }
+
+    private enum Section {
+        ACCOUNT("account"),
+        ADDRESSES("addresses"),
+        PAYMENT_METHODS("paymentmethods"),
+        ORDERS("orders");
+
+        private final String field;
+
+        Section(String field) {
+            this.field = field;
+        }
+
+        static Section fromField(String field) {
+            String normalized = field.toLowerCase(Locale.ROOT);
+            for (Section section : values()) {
+                if (section.field.equals(normalized)) {
+                    return section;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported profile field: " + field);
+        }
+    }
+}
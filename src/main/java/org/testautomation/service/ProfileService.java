@@ -18,12 +18,17 @@ import org.testautomation.repository.UserAccountRepository;
 import org.testautomation.repository.UserAddressRepository;
 import org.testautomation.repository.UserPaymentMethodRepository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
 
 @Service
 public class ProfileService {
 
+    // Partial unique indexes from V9; a concurrent request that set another default wins
+    static final String DEFAULT_ADDRESS_CONSTRAINT = "uq_user_addresses_default";
+    static final String DEFAULT_PAYMENT_METHOD_CONSTRAINT = "uq_user_payment_methods_default";
+
     private final UserAccountRepository userAccountRepository;
     private final UserAddressRepository userAddressRepository;
     private final UserPaymentMethodRepository userPaymentMethodRepository;
@@ -44,7 +49,12 @@ public class ProfileService {
     @Transactional(readOnly = true)
     public List<UserAddressResponse> getAddresses(String email) {
         UserAccount user = getUserByEmail(email);
-        return userAddressRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+        return getAddressesByUserId(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserAddressResponse> getAddressesByUserId(Long userId) {
+        return userAddressRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
                 .map(this::toAddressResponse)
                 .toList();
     }
@@ -94,7 +104,12 @@ public class ProfileService {
         if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
             throw new IllegalArgumentException("Current password is incorrect");
         }
-        userAccountRepository.delete(user);
+        // Dependent rows are removed later in bounded chunks by AccountPurger. Releasing the email
+        // also strands any other sessions of this user, which resolve their principal by email.
+        user.setEnabled(false);
+        user.setDeletedAt(Instant.now());
+        user.setEmail("deleted-" + user.getId() + "@deleted.invalid");
+        userAccountRepository.save(user);
     }
 
     @Transactional
@@ -105,12 +120,12 @@ public class ProfileService {
         applyAddressRequest(address, request);
 
         if (request.isDefault()) {
-            clearDefaultAddresses(user.getId());
-        } else if (userAddressRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).isEmpty()) {
+            userAddressRepository.clearDefaultByUserId(user.getId());
+        } else if (!userAddressRepository.existsByUserId(user.getId())) {
             address.setDefault(true);
         }
 
-        return toAddressResponse(userAddressRepository.save(address));
+        return toAddressResponse(saveAddress(address));
     }
 
     @Transactional
@@ -122,11 +137,10 @@ public class ProfileService {
         userAddressRepository.delete(address);
 
         if (wasDefault) {
-            userAddressRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
-                    .findFirst()
+            userAddressRepository.findFirstByUserIdOrderByCreatedAtDesc(user.getId())
                     .ifPresent(first -> {
                         first.setDefault(true);
-                        userAddressRepository.save(first);
+                        saveAddress(first);
                     });
         }
     }
@@ -136,15 +150,20 @@ public class ProfileService {
         UserAccount user = getUserByEmail(email);
         UserAddress address = userAddressRepository.findByIdAndUserId(addressId, user.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Address not found"));
-        clearDefaultAddresses(user.getId());
+        userAddressRepository.clearDefaultByUserIdExcept(user.getId(), address.getId());
         address.setDefault(true);
-        return toAddressResponse(userAddressRepository.save(address));
+        return toAddressResponse(saveAddress(address));
     }
 
     @Transactional(readOnly = true)
     public List<UserPaymentMethodResponse> getPaymentMethods(String email) {
         UserAccount user = getUserByEmail(email);
-        return userPaymentMethodRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+        return getPaymentMethodsByUserId(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserPaymentMethodResponse> getPaymentMethodsByUserId(Long userId) {
+        return userPaymentMethodRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
                 .map(this::toPaymentMethodResponse)
                 .toList();
     }
@@ -157,12 +176,12 @@ public class ProfileService {
         applyPaymentMethodRequest(paymentMethod, request);
 
         if (request.isDefault()) {
-            clearDefaultPaymentMethods(user.getId());
-        } else if (userPaymentMethodRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).isEmpty()) {
+            userPaymentMethodRepository.clearDefaultByUserId(user.getId());
+        } else if (!userPaymentMethodRepository.existsByUserId(user.getId())) {
             paymentMethod.setDefault(true);
         }
 
-        return toPaymentMethodResponse(userPaymentMethodRepository.save(paymentMethod));
+        return toPaymentMethodResponse(savePaymentMethod(paymentMethod));
     }
 
     @Transactional
@@ -174,11 +193,10 @@ public class ProfileService {
         userPaymentMethodRepository.delete(paymentMethod);
 
         if (wasDefault) {
-            userPaymentMethodRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
-                    .findFirst()
+            userPaymentMethodRepository.findFirstByUserIdOrderByCreatedAtDesc(user.getId())
                     .ifPresent(first -> {
                         first.setDefault(true);
-                        userPaymentMethodRepository.save(first);
+                        savePaymentMethod(first);
                     });
         }
     }
@@ -188,9 +206,19 @@ public class ProfileService {
         UserAccount user = getUserByEmail(email);
         UserPaymentMethod paymentMethod = userPaymentMethodRepository.findByIdAndUserId(paymentMethodId, user.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Payment method not found"));
-        clearDefaultPaymentMethods(user.getId());
+        userPaymentMethodRepository.clearDefaultByUserIdExcept(user.getId(), paymentMethod.getId());
         paymentMethod.setDefault(true);
-        return toPaymentMethodResponse(userPaymentMethodRepository.save(paymentMethod));
+        return toPaymentMethodResponse(savePaymentMethod(paymentMethod));
+    }
+
+    private UserAddress saveAddress(UserAddress address) {
+        return ConcurrentUpdateException.onViolation(DEFAULT_ADDRESS_CONSTRAINT,
+                () -> userAddressRepository.saveAndFlush(address));
+    }
+
+    private UserPaymentMethod savePaymentMethod(UserPaymentMethod paymentMethod) {
+        return ConcurrentUpdateException.onViolation(DEFAULT_PAYMENT_METHOD_CONSTRAINT,
+                () -> userPaymentMethodRepository.saveAndFlush(paymentMethod));
     }
 
     private void applyAddressRequest(UserAddress address, UserAddressRequest request) {
@@ -243,26 +271,6 @@ public class ProfileService {
         return method.trim().toLowerCase(Locale.ROOT);
     }
 
-    private void clearDefaultAddresses(Long userId) {
-        List<UserAddress> addresses = userAddressRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        for (UserAddress current : addresses) {
-            if (current.isDefault()) {
-                current.setDefault(false);
-                userAddressRepository.save(current);
-            }
-        }
-    }
-
-    private void clearDefaultPaymentMethods(Long userId) {
-        List<UserPaymentMethod> methods = userPaymentMethodRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        for (UserPaymentMethod current : methods) {
-            if (current.isDefault()) {
-                current.setDefault(false);
-                userPaymentMethodRepository.save(current);
-            }
-        }
-    }
-
     private UserAddressResponse toAddressResponse(UserAddress address) {
         return new UserAddressResponse(
                 address.getId(),
@@ -290,7 +298,7 @@ public class ProfileService {
     }
 
     private UserAccount getUserByEmail(String email) {
-        return userAccountRepository.findByEmailIgnoreCase(email)
+        return userAccountRepository.findByNormalizedEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
     }
 }
@@ -0,0 +1,22 @@
+package org.testautomation.service;
+
+import java.time.Duration;
+
+public class RateLimitedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitedException(Duration retryAfter) {
+        super("Too many attempts. Please retry later.");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    // Whole seconds for the Retry-After header, rounded up so a client never retries too early
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,115 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for an unbounded set of keys in fixed memory. Each bucket is stored as its theoretical arrival
+ * time (GCRA): a request is allowed while that time is less than {@code capacity} refill intervals ahead of now,
+ * and moves it one interval further. Keys hash into two rows of {@code slots} timestamps, count-min style, and a
+ * key reads the later of its two slots, so a collision can only make a key's limit stricter, never looser.
+ * Updates are a single compare-and-set on the first slot; the second is raised with a lock-free max.
+ */
+public class RateLimiter {
+
+    private static final int ROWS = 2;
+
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int mask;
+    private final AtomicLongArray arrivals;
+    private final LongSupplier clock;
+    private final long origin;
+    private final Counter allowed;
+    private final Counter limited;
+
+    public RateLimiter(String name, boolean enabled, int capacity, Duration refillInterval, int slots,
+                       MeterRegistry meterRegistry) {
+        this(name, enabled, capacity, refillInterval, slots, System::nanoTime, meterRegistry);
+    }
+
+    RateLimiter(String name, boolean enabled, int capacity, Duration refillInterval, int slots, LongSupplier clock,
+                MeterRegistry meterRegistry) {
+        if (capacity < 1 || refillInterval.isNegative() || refillInterval.isZero()) {
+            throw new IllegalArgumentException("Rate limiter " + name + " needs a positive capacity and refill interval");
+        }
+        int width = Integer.highestOneBit(Math.max(slots, 2) - 1) << 1;
+        this.enabled = enabled;
+        this.intervalNanos = refillInterval.toNanos();
+        this.burstNanos = intervalNanos * capacity;
+        this.mask = width - 1;
+        this.arrivals = new AtomicLongArray(ROWS * width);
+        this.clock = clock;
+        // Slots start at zero, which must read as "long ago" however nanoTime happens to be offset
+        this.origin = clock.getAsLong() - burstNanos;
+        this.allowed = requests(meterRegistry, name, "allowed");
+        this.limited = requests(meterRegistry, name, "limited");
+        Gauge.builder("auth.rate.limit.active.buckets", this, RateLimiter::activeSlots)
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token for the key and returns zero, or returns how long until one is available without taking it.
+     */
+    public long tryAcquire(String key) {
+        if (!enabled) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        int first = spread(hash) & mask;
+        int second = mask + 1 + (spread(hash ^ 0x5bd1e995) & mask);
+        while (true) {
+            long now = clock.getAsLong() - origin;
+            long current = arrivals.get(first);
+            long next = Math.max(Math.max(current, arrivals.get(second)), now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                limited.increment();
+                return wait;
+            }
+            if (arrivals.compareAndSet(first, current, next)) {
+                arrivals.accumulateAndGet(second, next, Math::max);
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    public void acquire(String key) {
+        long wait = tryAcquire(key);
+        if (wait > 0) {
+            throw new RateLimitedException(Duration.ofNanos(wait));
+        }
+    }
+
+    // Slots still paying back tokens; the rest are full buckets and equivalent to unused ones
+    private int activeSlots() {
+        long now = clock.getAsLong() - origin;
+        int active = 0;
+        for (int i = 0; i <= mask; i++) {
+            if (arrivals.get(i) > now) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9e3779b9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("auth.rate.limit.requests")
+                .tag("limiter", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,135 @@
+package org.testautomation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testautomation.converter.ProductConverter;
+import org.testautomation.domain.ProductDTO;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.repository.ProductRepository;
+import org.testautomation.repository.UserOrderRepository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class RecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationService.class);
+
+    static final int CANDIDATES_PER_PRODUCT = 32;
+    static final int MAX_PRODUCTS_PER_ORDER = 50;
+    private static final int DEFAULT_LIMIT = 5;
+    private static final int MAX_LIMIT = 20;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final UserOrderRepository userOrderRepository;
+    private final ProductConverter productConverter;
+
+    private volatile CoPurchaseIndex index = new CoPurchaseIndex(CANDIDATES_PER_PRODUCT);
+    private volatile boolean loaded;
+
+    public RecommendationService(
+            ProductRepository productRepository,
+            UserOrderRepository userOrderRepository,
+            ProductConverter productConverter
+    ) {
+        this.productRepository = productRepository;
+        this.userOrderRepository = userOrderRepository;
+        this.productConverter = productConverter;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductDTO> findFrequentlyBoughtTogether(Long productId, Integer limit) {
+        int resolvedLimit = limit != null ? limit : DEFAULT_LIMIT;
+        if (resolvedLimit < 1 || resolvedLimit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        long[] partnerIds = index.topPartners(productId, resolvedLimit);
+        if (partnerIds.length == 0) {
+            return List.of();
+        }
+
+        Map<Long, Product> productsById = productRepository.findAllById(Arrays.stream(partnerIds).boxed().toList()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return Arrays.stream(partnerIds)
+                .mapToObj(productsById::get)
+                .filter(Objects::nonNull)
+                .map(productConverter::toDto)
+                .toList();
+    }
+
+    public void recordOrder(UserOrder order) {
+        long[] productIds = order.getItems().stream()
+                .mapToLong(item -> item.getProduct().getId())
+                .limit(MAX_PRODUCTS_PER_ORDER)
+                .toArray();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.addBasket(productIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.addBasket(productIds);
+            }
+        });
+    }
+
+    public CoPurchaseIndex newIndex() {
+        return new CoPurchaseIndex(CANDIDATES_PER_PRODUCT);
+    }
+
+    public void addOrders(CoPurchaseIndex target, Collection<Long> orderIds) {
+        Map<Long, long[]> basketsByOrderId = userOrderRepository.findOrderProductsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(
+                        UserOrderRepository.OrderProduct::getOrderId,
+                        Collectors.collectingAndThen(
+                                Collectors.toList(),
+                                products -> products.stream()
+                                        .mapToLong(UserOrderRepository.OrderProduct::getProductId)
+                                        .limit(MAX_PRODUCTS_PER_ORDER)
+                                        .toArray()
+                        )
+                ));
+        basketsByOrderId.values().forEach(target::addBasket);
+    }
+
+    // Checkouts committed while a rebuild is running are only applied to the index being replaced.
+    public void replaceIndex(CoPurchaseIndex rebuilt) {
+        index = rebuilt;
+        loaded = true;
+        log.info("Co-purchase index replaced ({} products with partners)", rebuilt.productCount());
+    }
+
+    // True once order history has been replayed into the index, by the warm-up or the coPurchaseRebuildJob
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void rebuild() {
+        CoPurchaseIndex rebuilt = newIndex();
+        long lastOrderId = 0L;
+        List<Long> orderIds;
+        do {
+            orderIds = userOrderRepository.findOrderIdsAfter(lastOrderId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (!orderIds.isEmpty()) {
+                addOrders(rebuilt, orderIds);
+                lastOrderId = orderIds.get(orderIds.size() - 1);
+            }
+        } while (orderIds.size() == REBUILD_PAGE_SIZE);
+        replaceIndex(rebuilt);
+    }
+}
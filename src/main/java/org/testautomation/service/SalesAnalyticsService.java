@@ -0,0 +1,202 @@
+package org.testautomation.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.testautomation.domain.SalesBucketResponse;
+import org.testautomation.domain.TopProductResponse;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.SalesRollup;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.repository.SalesRollupRepository;
+import org.testautomation.repository.UserOrderRepository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class SalesAnalyticsService {
+
+    private static final int DEFAULT_TOP_LIMIT = 10;
+    private static final int MAX_TOP_LIMIT = 100;
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(366);
+
+    // Upserts are applied in key order so concurrent checkouts lock rollup rows in the same sequence.
+    private static final Comparator<SalesRollup> KEY_ORDER = Comparator
+            .comparing(SalesRollup::getGranularity)
+            .thenComparing(SalesRollup::getBucketStart)
+            .thenComparing(SalesRollup::getProductId);
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    public SalesAnalyticsService(SalesRollupRepository salesRollupRepository) {
+        this.salesRollupRepository = salesRollupRepository;
+    }
+
+    @Transactional
+    public void recordOrder(UserOrder order) {
+        Map<SalesRollup.Key, SalesRollup> deltas = new HashMap<>();
+        for (UserOrderItem item : order.getItems()) {
+            Category category = item.getProduct().getCategory();
+            addDelta(
+                    deltas,
+                    order.getCreatedAt(),
+                    item.getProduct().getId(),
+                    category != null ? category.getId() : null,
+                    item.getQuantity(),
+                    item.getLineTotal()
+            );
+        }
+        increment(deltas);
+    }
+
+    @Transactional
+    public void recordItems(List<? extends UserOrderRepository.ItemSale> items) {
+        Map<SalesRollup.Key, SalesRollup> deltas = new HashMap<>();
+        for (UserOrderRepository.ItemSale item : items) {
+            addDelta(deltas, item.getCreatedAt(), item.getProductId(), item.getCategoryId(), item.getQuantity(), item.getLineTotal());
+        }
+        increment(deltas);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesBucketResponse> getProductSales(String granularity, String from, String to, Long productId) {
+        SalesRollup.Granularity resolvedGranularity = parseGranularity(granularity);
+        Range range = resolveRange(resolvedGranularity, from, to);
+
+        List<SalesRollup> rollups = productId != null
+                ? salesRollupRepository.findByGranularityAndProductIdAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        resolvedGranularity, productId, range.from, range.to)
+                : salesRollupRepository.findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAscProductIdAsc(
+                        resolvedGranularity, range.from, range.to);
+
+        return rollups.stream()
+                .map(rollup -> new SalesBucketResponse(
+                        rollup.getBucketStart().toString(),
+                        rollup.getProductId(),
+                        rollup.getCategoryId(),
+                        rollup.getUnits(),
+                        rollup.getRevenue()
+                ))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesBucketResponse> getCategorySales(String granularity, String from, String to) {
+        SalesRollup.Granularity resolvedGranularity = parseGranularity(granularity);
+        Range range = resolveRange(resolvedGranularity, from, to);
+
+        return salesRollupRepository.sumByCategory(resolvedGranularity, range.from, range.to).stream()
+                .map(bucket -> new SalesBucketResponse(
+                        bucket.getBucketStart().toString(),
+                        null,
+                        bucket.getCategoryId(),
+                        bucket.getUnits(),
+                        bucket.getRevenue()
+                ))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TopProductResponse> getTopProducts(String granularity, String from, String to, String metric, Integer limit) {
+        SalesRollup.Granularity resolvedGranularity = parseGranularity(granularity);
+        Range range = resolveRange(resolvedGranularity, from, to);
+        int resolvedLimit = limit != null ? limit : DEFAULT_TOP_LIMIT;
+        if (resolvedLimit < 1 || resolvedLimit > MAX_TOP_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+
+        PageRequest page = PageRequest.of(0, resolvedLimit);
+        String resolvedMetric = metric != null ? metric.trim().toLowerCase(Locale.ROOT) : "revenue";
+        List<SalesRollupRepository.ProductTotal> totals = switch (resolvedMetric) {
+            case "revenue" -> salesRollupRepository.findTopByRevenue(resolvedGranularity, range.from, range.to, page);
+            case "units" -> salesRollupRepository.findTopByUnits(resolvedGranularity, range.from, range.to, page);
+            default -> throw new IllegalArgumentException("Unsupported metric: " + metric);
+        };
+
+        return totals.stream()
+                .map(total -> new TopProductResponse(
+                        total.getProductId(),
+                        total.getProductName(),
+                        total.getUnits(),
+                        total.getRevenue()
+                ))
+                .toList();
+    }
+
+    private void addDelta(
+            Map<SalesRollup.Key, SalesRollup> deltas,
+            Instant soldAt,
+            Long productId,
+            Long categoryId,
+            int quantity,
+            BigDecimal lineTotal
+    ) {
+        for (SalesRollup.Granularity granularity : SalesRollup.Granularity.values()) {
+            Instant bucketStart = granularity.bucketOf(soldAt);
+            SalesRollup delta = deltas.computeIfAbsent(
+                    new SalesRollup.Key(granularity, bucketStart, productId),
+                    key -> new SalesRollup(granularity, bucketStart, productId, categoryId)
+            );
+            delta.setUnits(delta.getUnits() + quantity);
+            delta.setRevenue(delta.getRevenue().add(lineTotal));
+        }
+    }
+
+    private void increment(Map<SalesRollup.Key, SalesRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<SalesRollup> ordered = new ArrayList<>(deltas.values());
+        ordered.sort(KEY_ORDER);
+        salesRollupRepository.increment(ordered);
+    }
+
+    private SalesRollup.Granularity parseGranularity(String granularity) {
+        if (granularity == null || granularity.isBlank()) {
+            return SalesRollup.Granularity.HOUR;
+        }
+        try {
+            return SalesRollup.Granularity.valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported granularity: " + granularity);
+        }
+    }
+
+    private Range resolveRange(SalesRollup.Granularity granularity, String from, String to) {
+        boolean hourly = granularity == SalesRollup.Granularity.HOUR;
+        Instant resolvedTo = to != null ? parseInstant(to, "to") : granularity.bucketOf(Instant.now()).plus(1, hourly ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+        Instant resolvedFrom = from != null ? parseInstant(from, "from") : resolvedTo.minus(hourly ? Duration.ofHours(24) : Duration.ofDays(30));
+
+        if (!resolvedFrom.isBefore(resolvedTo)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        Duration maxRange = hourly ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if (Duration.between(resolvedFrom, resolvedTo).compareTo(maxRange) > 0) {
+            throw new IllegalArgumentException("Range exceeds " + maxRange.toDays() + " days for " + granularity.name().toLowerCase(Locale.ROOT) + " buckets");
+        }
+        return new Range(granularity.bucketOf(resolvedFrom), resolvedTo);
+    }
+
+    private Instant parseInstant(String value, String name) {
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid '" + name + "' timestamp: " + value);
+        }
+    }
+
+    private record Range(Instant from, Instant to) {
+    }
+}
@@ -0,0 +1,95 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.testautomation.entity.SessionRevocation;
+import org.testautomation.repository.SessionRevocationRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked stateless session tokens, checked in memory on every request. Revocations are written to
+ * {@code session_revocations} and applied locally right away; other nodes pick them up on their next sync. Entries
+ * are dropped once every token they cover has expired, so memory stays proportional to recent logouts and
+ * password changes rather than to issued tokens.
+ */
+public class SessionRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionRevocationList.class);
+
+    // Re-reads rows revoked shortly before the previous sync to cover slow commits and clock skew between nodes
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final SessionRevocationRepository repository;
+    private final boolean enabled;
+    private final Duration maxTokenTtl;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+    private volatile Instant syncedUntil = Instant.EPOCH;
+
+    public SessionRevocationList(
+            SessionRevocationRepository repository,
+            boolean enabled,
+            Duration maxTokenTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.maxTokenTtl = maxTokenTtl;
+        Gauge.builder("auth.session.revocations", this, list -> list.revokedTokens.size() + list.revokedBefore.size())
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(SessionTokenCodec.SessionToken token) {
+        if (revokedTokens.containsKey(token.id())) {
+            return true;
+        }
+        Long before = revokedBefore.get(token.userId());
+        return before != null && token.issuedAt().toEpochMilli() < before;
+    }
+
+    public void revoke(SessionTokenCodec.SessionToken token) {
+        apply(repository.save(new SessionRevocation(token.userId(), token.id(), Instant.now(), token.expiresAt())));
+    }
+
+    /**
+     * Revokes every token of the user issued before the given instant; tokens issued at or after it stay valid.
+     */
+    public void revokeAll(long userId, Instant issuedBefore) {
+        apply(repository.save(new SessionRevocation(userId, null, issuedBefore, issuedBefore.plus(maxTokenTtl))));
+    }
+
+    @Scheduled(fixedDelayString = "${app.stateless-sessions.revocation-sync-interval:PT5S}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        try {
+            repository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(syncedUntil.minus(SYNC_OVERLAP), now)
+                    .forEach(this::apply);
+            repository.deleteExpired(now);
+            syncedUntil = now;
+        } catch (DataAccessException ex) {
+            log.warn("Could not sync session revocations, keeping the local list: {}", ex.getMessage());
+        }
+        long nowMillis = now.toEpochMilli();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        revokedBefore.values().removeIf(revokedAt -> revokedAt + maxTokenTtl.toMillis() <= nowMillis);
+    }
+
+    private void apply(SessionRevocation revocation) {
+        if (revocation.getTokenId() != null) {
+            revokedTokens.put(revocation.getTokenId(), revocation.getExpiresAt().toEpochMilli());
+        } else {
+            revokedBefore.merge(revocation.getUserId(), revocation.getRevokedAt().toEpochMilli(), Math::max);
+        }
+    }
+}
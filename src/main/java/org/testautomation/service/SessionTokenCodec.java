@@ -0,0 +1,121 @@
+package org.testautomation.service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Signs and verifies stateless session tokens of the form {@code <key id>.<payload>.<signature>}, where the
+ * payload is the base64url encoded token id, user id, issue time, expiry and email, and the signature is
+ * HMAC-SHA256 over everything before it. The first key signs; every key verifies, which is what lets a new key be
+ * rolled out before it is promoted and an old one be kept until the tokens it signed have expired.
+ */
+public class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String signingKeyId;
+    private final Map<String, Mac> keys = new LinkedHashMap<>();
+
+    public SessionTokenCodec(List<SigningKey> signingKeys) {
+        if (signingKeys.isEmpty()) {
+            throw new IllegalArgumentException("At least one signing key is required");
+        }
+        for (SigningKey key : signingKeys) {
+            if (key.id() == null || key.id().isBlank() || key.id().contains(".")) {
+                throw new IllegalArgumentException("Signing key ids must be non-blank and must not contain '.'");
+            }
+            if (key.secret().length < MIN_SECRET_BYTES) {
+                throw new IllegalArgumentException("Signing key " + key.id() + " must be at least " + MIN_SECRET_BYTES + " bytes");
+            }
+            if (keys.put(key.id(), mac(key.secret())) != null) {
+                throw new IllegalArgumentException("Duplicate signing key id " + key.id());
+            }
+        }
+        this.signingKeyId = signingKeys.get(0).id();
+    }
+
+    public String encode(SessionToken token) {
+        String payload = String.join(":",
+                token.id(),
+                Long.toString(token.userId()),
+                Long.toString(token.issuedAt().toEpochMilli()),
+                Long.toString(token.expiresAt().toEpochMilli()),
+                token.email());
+        String signed = signingKeyId + "." + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return signed + "." + ENCODER.encodeToString(sign(keys.get(signingKeyId), signed));
+    }
+
+    /**
+     * Returns the token when it was signed by a known key and is well-formed; expiry and revocation are left to
+     * the caller.
+     */
+    public Optional<SessionToken> decode(String value) {
+        int keyEnd = value.indexOf('.');
+        int payloadEnd = value.lastIndexOf('.');
+        if (keyEnd <= 0 || payloadEnd <= keyEnd) {
+            return Optional.empty();
+        }
+        Mac key = keys.get(value.substring(0, keyEnd));
+        if (key == null) {
+            return Optional.empty();
+        }
+        try {
+            String signed = value.substring(0, payloadEnd);
+            byte[] signature = DECODER.decode(value.substring(payloadEnd + 1));
+            if (!MessageDigest.isEqual(sign(key, signed), signature)) {
+                return Optional.empty();
+            }
+            String payload = new String(DECODER.decode(value.substring(keyEnd + 1, payloadEnd)), StandardCharsets.UTF_8);
+            String[] fields = payload.split(":", 5);
+            if (fields.length != 5) {
+                return Optional.empty();
+            }
+            return Optional.of(new SessionToken(
+                    fields[0],
+                    Long.parseLong(fields[1]),
+                    fields[4],
+                    Instant.ofEpochMilli(Long.parseLong(fields[2])),
+                    Instant.ofEpochMilli(Long.parseLong(fields[3]))));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    // Mac instances are not thread-safe; cloning an initialised one skips the provider lookup and key setup
+    private static byte[] sign(Mac prototype, String signed) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(signed.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(ALGORITHM + " provider does not support cloning", ex);
+        }
+    }
+
+    private static Mac mac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ALGORITHM + " is not available", ex);
+        }
+    }
+
+    public record SigningKey(String id, byte[] secret) {
+    }
+
+    public record SessionToken(String id, long userId, String email, Instant issuedAt, Instant expiresAt) {
+    }
+}
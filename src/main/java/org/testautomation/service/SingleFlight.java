@@ -0,0 +1,88 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one: the first caller runs the loader, callers arriving while it
+ * runs wait for and share its result or exception. A waiter gives up after {@code timeout} and loads on its own, so a
+ * stuck load delays a key's followers by at most that long. Nothing is cached once the load has finished.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration timeout;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, boolean enabled, Duration timeout, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.leaders = requests(meterRegistry, name, "leader");
+        this.coalesced = requests(meterRegistry, name, "coalesced");
+        this.timeouts = requests(meterRegistry, name, "timeout");
+        Gauge.builder("lookup.coalescing.in.flight", inFlight, Map::size)
+                .tag("lookup", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, loader);
+        }
+
+        coalesced.increment();
+        try {
+            return existing.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            return loader.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced lookup", ex);
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> loader) {
+        leaders.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("lookup.coalescing.requests")
+                .tag("lookup", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
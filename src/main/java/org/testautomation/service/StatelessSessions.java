@@ -0,0 +1,151 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.testautomation.config.StatelessSessionConfig;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues, verifies and revokes the signed session cookie used instead of the HTTP session when
+ * {@code app.stateless-sessions.enabled} is set. Verification needs only the signing keys and the in-memory
+ * revocation list, so any node can serve any request without a shared session store or a database round trip.
+ */
+public class StatelessSessions {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final StatelessSessionConfig.StatelessSessionProperties properties;
+    private final SessionTokenCodec codec;
+    private final SessionRevocationList revocations;
+    private final Counter valid;
+    private final Counter invalid;
+    private final Counter expired;
+    private final Counter revoked;
+
+    public StatelessSessions(
+            StatelessSessionConfig.StatelessSessionProperties properties,
+            SessionTokenCodec codec,
+            SessionRevocationList revocations,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.codec = codec;
+        this.revocations = revocations;
+        this.valid = tokens(meterRegistry, "valid");
+        this.invalid = tokens(meterRegistry, "invalid");
+        this.expired = tokens(meterRegistry, "expired");
+        this.revoked = tokens(meterRegistry, "revoked");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public IssuedToken issue(long userId, String email, boolean rememberMe, HttpServletResponse response) {
+        Instant now = Instant.now();
+        return issue(userId, email, now, now.plus(rememberMe ? properties.getRememberMeTtl() : properties.getTtl()), response);
+    }
+
+    /**
+     * Replaces the current token after a password or email change: every token of the user issued so far is
+     * revoked and the caller gets a new one with the same expiry.
+     */
+    public IssuedToken reissue(SessionTokenCodec.SessionToken current, String email, HttpServletResponse response) {
+        Instant now = Instant.now();
+        revocations.revokeAll(current.userId(), now);
+        return issue(current.userId(), email, now, current.expiresAt(), response);
+    }
+
+    public Optional<SessionTokenCodec.SessionToken> authenticate(HttpServletRequest request) {
+        String value = cookieValue(request);
+        if (value == null) {
+            return Optional.empty();
+        }
+        SessionTokenCodec.SessionToken token = codec.decode(value).orElse(null);
+        if (token == null) {
+            invalid.increment();
+            return Optional.empty();
+        }
+        if (!token.expiresAt().isAfter(Instant.now())) {
+            expired.increment();
+            return Optional.empty();
+        }
+        if (revocations.isRevoked(token)) {
+            revoked.increment();
+            return Optional.empty();
+        }
+        valid.increment();
+        return Optional.of(token);
+    }
+
+    public void revoke(SessionTokenCodec.SessionToken token, HttpServletResponse response) {
+        revocations.revoke(token);
+        clearCookie(response);
+    }
+
+    public void revokeAll(long userId, HttpServletResponse response) {
+        revocations.revokeAll(userId, Instant.now());
+        clearCookie(response);
+    }
+
+    public void clearCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", Duration.ZERO).toString());
+    }
+
+    public String cookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (properties.getCookieName().equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    public static Optional<SessionTokenCodec.SessionToken> current(Authentication authentication) {
+        return authentication != null && authentication.getDetails() instanceof SessionTokenCodec.SessionToken token
+                ? Optional.of(token)
+                : Optional.empty();
+    }
+
+    private IssuedToken issue(long userId, String email, Instant issuedAt, Instant expiresAt, HttpServletResponse response) {
+        byte[] id = new byte[12];
+        RANDOM.nextBytes(id);
+        SessionTokenCodec.SessionToken token = new SessionTokenCodec.SessionToken(
+                Base64.getUrlEncoder().withoutPadding().encodeToString(id), userId, email, issuedAt, expiresAt);
+        String value = codec.encode(token);
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(value, Duration.between(issuedAt, expiresAt)).toString());
+        return new IssuedToken(value, token);
+    }
+
+    private ResponseCookie cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(properties.getCookieName(), value)
+                .httpOnly(true)
+                .secure(properties.isSecureCookie())
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+    }
+
+    private static Counter tokens(MeterRegistry meterRegistry, String result) {
+        return meterRegistry.counter("auth.session.tokens", "result", result);
+    }
+
+    public record IssuedToken(String value, SessionTokenCodec.SessionToken token) {
+    }
+}
@@ -0,0 +1,8 @@
+package org.testautomation.service;
+
+/**
+ * Published after {@link TestDataSnapshots} replaced the application tables, so components holding data derived
+ * from them in memory can reload it.
+ */
+public record TestDataRestoredEvent(String snapshot) {
+}
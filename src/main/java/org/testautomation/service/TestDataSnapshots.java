@@ -0,0 +1,290 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testautomation.domain.TestDataSnapshotResponse;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Named copies of the application tables for resetting test data in seconds instead of recreating the database
+ * and reseeding it. A snapshot is a schema {@code snapshot_<name>} in the same database holding one copy per
+ * table, so capture and restore are server-side {@code INSERT ... SELECT}s and work on PostgreSQL and H2 alike.
+ * Restoring truncates every application table, reloads the rows in foreign-key order and moves identity
+ * sequences past the restored ids. Spring Batch and Flyway tables are never touched.
+ */
+@Service
+public class TestDataSnapshots {
+
+    private static final Logger log = LoggerFactory.getLogger(TestDataSnapshots.class);
+    private static final Pattern NAME = Pattern.compile("[a-z0-9_]{1,40}");
+    private static final String SCHEMA_PREFIX = "snapshot_";
+
+    private static final String POSTGRES_TABLES = """
+            SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = current_schema AND c.relkind IN ('r', 'p') AND NOT c.relispartition""";
+    private static final String H2_TABLES = """
+            SELECT table_name FROM information_schema.tables
+            WHERE table_schema = current_schema AND table_type = 'BASE TABLE'""";
+    private static final String COLUMNS = """
+            SELECT table_name, column_name FROM information_schema.columns
+            WHERE table_schema = ? ORDER BY table_name, ordinal_position""";
+    private static final String IDENTITY_COLUMNS = """
+            SELECT table_name, column_name FROM information_schema.columns
+            WHERE table_schema = current_schema AND (is_identity = 'YES' OR column_default LIKE 'nextval(%')""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogVersion catalogVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Timer captures;
+    private final Timer restores;
+    private volatile Boolean postgres;
+
+    public TestDataSnapshots(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            CatalogVersion catalogVersion,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.entityManagerFactory = entityManagerFactory;
+        this.catalogVersion = catalogVersion;
+        this.eventPublisher = eventPublisher;
+        this.captures = Timer.builder("test.data.snapshots").tag("operation", "capture").register(meterRegistry);
+        this.restores = Timer.builder("test.data.snapshots").tag("operation", "restore").register(meterRegistry);
+    }
+
+    public List<String> list() {
+        return jdbcTemplate.queryForList("SELECT schema_name FROM information_schema.schemata", String.class).stream()
+                .filter(schema -> schema.startsWith(SCHEMA_PREFIX))
+                .map(schema -> schema.substring(SCHEMA_PREFIX.length()))
+                .sorted()
+                .toList();
+    }
+
+    public TestDataSnapshotResponse capture(String name) {
+        String schema = schema(name);
+        lock.lock();
+        try {
+            long started = System.nanoTime();
+            List<String> tables = liveTables();
+            long rows = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + quote(schema) + " CASCADE");
+                jdbcTemplate.execute("CREATE SCHEMA " + quote(schema));
+                long copied = 0;
+                for (String table : tables) {
+                    jdbcTemplate.execute("CREATE TABLE " + quote(schema) + "." + quote(table) + " AS SELECT * FROM " + quote(table));
+                    copied += count(quote(schema) + "." + quote(table));
+                }
+                return copied;
+            });
+            return finish(captures, "Captured", name, tables.size(), rows, started);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public TestDataSnapshotResponse restore(String name) {
+        String schema = schema(name);
+        lock.lock();
+        try {
+            long started = System.nanoTime();
+            Map<String, List<String>> snapshotColumns = columns(schema);
+            if (snapshotColumns.isEmpty()) {
+                throw new IllegalArgumentException("Unknown test data snapshot: " + name);
+            }
+            Map<String, List<String>> liveColumns = columns(currentSchema());
+            List<String> tables = loadOrder(liveTables());
+            long rows = transactionTemplate.execute(status -> {
+                clear(tables);
+                long restored = 0;
+                for (String table : tables) {
+                    List<String> columns = new ArrayList<>(snapshotColumns.getOrDefault(table, List.of()));
+                    columns.retainAll(liveColumns.getOrDefault(table, List.of()));
+                    if (columns.isEmpty()) {
+                        continue;
+                    }
+                    String columnList = String.join(", ", columns.stream().map(TestDataSnapshots::quote).toList());
+                    restored += jdbcTemplate.update("INSERT INTO " + quote(table) + " (" + columnList + ") SELECT "
+                            + columnList + " FROM " + quote(schema) + "." + quote(table));
+                }
+                resetIdentities(tables);
+                return restored;
+            });
+            entityManagerFactory.getCache().evictAll();
+            catalogVersion.changed();
+            eventPublisher.publishEvent(new TestDataRestoredEvent(name));
+            return finish(restores, "Restored", name, tables.size(), rows, started);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void delete(String name) {
+        String schema = schema(name);
+        if (!list().contains(name)) {
+            throw new IllegalArgumentException("Unknown test data snapshot: " + name);
+        }
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + quote(schema) + " CASCADE");
+        log.info("Deleted test data snapshot {}", name);
+    }
+
+    private TestDataSnapshotResponse finish(Timer timer, String verb, String name, int tables, long rows, long started) {
+        long elapsed = System.nanoTime() - started;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        log.info("{} test data snapshot {}: {} tables, {} rows in {} ms", verb, name, tables, rows, millis);
+        return new TestDataSnapshotResponse(name, tables, rows, millis);
+    }
+
+    // PostgreSQL truncates everything in one statement; H2 cannot truncate referenced tables, so it deletes children first
+    private void clear(List<String> loadOrder) {
+        if (isPostgres()) {
+            jdbcTemplate.execute("TRUNCATE " + String.join(", ", loadOrder.stream().map(TestDataSnapshots::quote).toList()));
+            return;
+        }
+        for (int i = loadOrder.size() - 1; i >= 0; i--) {
+            jdbcTemplate.execute("DELETE FROM " + quote(loadOrder.get(i)));
+        }
+    }
+
+    private void resetIdentities(List<String> tables) {
+        Set<String> restored = new TreeSet<>(tables);
+        jdbcTemplate.query(IDENTITY_COLUMNS, (ResultSet rs) -> {
+            String table = rs.getString(1);
+            String column = rs.getString(2);
+            if (!restored.contains(table)) {
+                return;
+            }
+            if (isPostgres()) {
+                jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence(?, ?), COALESCE(MAX(" + quote(column)
+                        + "), 0) + 1, false) FROM " + quote(table), Long.class, quote(table), column);
+            } else {
+                Long max = jdbcTemplate.queryForObject("SELECT MAX(" + quote(column) + ") FROM " + quote(table), Long.class);
+                jdbcTemplate.execute("ALTER TABLE " + quote(table) + " ALTER COLUMN " + quote(column)
+                        + " RESTART WITH " + (max == null ? 1 : max + 1));
+            }
+        });
+    }
+
+    private List<String> liveTables() {
+        return jdbcTemplate.queryForList(isPostgres() ? POSTGRES_TABLES : H2_TABLES, String.class).stream()
+                .map(table -> table.toLowerCase(Locale.ROOT))
+                .filter(table -> !table.startsWith("batch_") && !table.equals("flyway_schema_history"))
+                .sorted()
+                .toList();
+    }
+
+    // Parents before children, so inserts never violate a foreign key; tables in a cycle keep their name order
+    private List<String> loadOrder(List<String> tables) {
+        Map<String, Set<String>> parents = jdbcTemplate.execute((ConnectionCallback<Map<String, Set<String>>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Set<String>> references = new HashMap<>();
+            for (String table : tables) {
+                Set<String> tableParents = new TreeSet<>();
+                try (ResultSet keys = metaData.getImportedKeys(connection.getCatalog(), connection.getSchema(), table)) {
+                    while (keys.next()) {
+                        String parent = keys.getString("PKTABLE_NAME").toLowerCase(Locale.ROOT);
+                        if (!parent.equals(table) && tables.contains(parent)) {
+                            tableParents.add(parent);
+                        }
+                    }
+                }
+                references.put(table, tableParents);
+            }
+            return references;
+        });
+
+        Set<String> ordered = new LinkedHashSet<>();
+        Deque<String> ready = new ArrayDeque<>();
+        Map<String, Set<String>> pending = new TreeMap<>(parents);
+        while (!pending.isEmpty()) {
+            pending.forEach((table, tableParents) -> {
+                if (ordered.containsAll(tableParents)) {
+                    ready.add(table);
+                }
+            });
+            if (ready.isEmpty()) {
+                ready.add(pending.keySet().iterator().next());
+            }
+            while (!ready.isEmpty()) {
+                String table = ready.poll();
+                ordered.add(table);
+                pending.remove(table);
+            }
+        }
+        return List.copyOf(ordered);
+    }
+
+    private Map<String, List<String>> columns(String schema) {
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+        jdbcTemplate.query(COLUMNS, (ResultSet rs) -> {
+            columns.computeIfAbsent(rs.getString(1).toLowerCase(Locale.ROOT), table -> new ArrayList<>())
+                    .add(rs.getString(2).toLowerCase(Locale.ROOT));
+        }, schema);
+        return columns;
+    }
+
+    private long count(String table) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return rows == null ? 0 : rows;
+    }
+
+    private String currentSchema() {
+        return jdbcTemplate.queryForObject("SELECT current_schema", String.class);
+    }
+
+    private boolean isPostgres() {
+        Boolean detected = postgres;
+        if (detected == null) {
+            detected = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = detected;
+        }
+        return detected;
+    }
+
+    private static String schema(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Snapshot names are 1-40 lower-case letters, digits or underscores");
+        }
+        return SCHEMA_PREFIX + name;
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier + '"';
+    }
+}
@@ -0,0 +1,112 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testautomation.config.ProvisioningConfig;
+import org.testautomation.domain.SignUpRequest;
+import org.testautomation.domain.UserProvisioningRequest;
+import org.testautomation.domain.UserProvisioningResponse;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates accounts for load tests in bulk. Passwords are hashed on a pool sized to the cores, once per distinct
+ * password in the batch, and rows are written with batched {@code ON CONFLICT DO NOTHING} inserts, so existing
+ * emails are counted as duplicates instead of failing the batch.
+ */
+@Service
+public class UserProvisioningService {
+
+    private static final String INSERT_USER = """
+            INSERT INTO app_users (email, password_hash, display_name, enabled, created_at)
+            VALUES (?, ?, ?, TRUE, ?)
+            ON CONFLICT DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ProvisioningConfig.ProvisioningProperties properties;
+    private final Counter created;
+    private final Counter duplicates;
+
+    public UserProvisioningService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder,
+            ProvisioningConfig.ProvisioningProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.created = meterRegistry.counter("users.provisioned", "result", "created");
+        this.duplicates = meterRegistry.counter("users.provisioned", "result", "duplicate");
+    }
+
+    public UserProvisioningResponse provision(UserProvisioningRequest request) {
+        List<SignUpRequest> users = request.getUsers();
+        if (users.size() > properties.getMaxBatchSize()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxBatchSize() + " users per request");
+        }
+
+        // Later entries with an email already in the batch are duplicates like the ones already stored
+        Map<String, SignUpRequest> byEmail = new LinkedHashMap<>();
+        for (SignUpRequest user : users) {
+            byEmail.putIfAbsent(user.getEmail().trim().toLowerCase(Locale.ROOT), user);
+        }
+        Map<String, String> hashes = hash(byEmail.values().stream().map(SignUpRequest::getPassword).distinct().toList());
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(byEmail.size());
+        byEmail.forEach((email, user) -> rows.add(new Object[]{
+                email, hashes.get(user.getPassword()), user.getName().trim(), createdAt}));
+
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += properties.getInsertBatchSize()) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + properties.getInsertBatchSize(), rows.size()));
+            inserted += transactionTemplate.execute(status -> insert(chunk));
+        }
+
+        created.increment(inserted);
+        duplicates.increment(users.size() - inserted);
+        return new UserProvisioningResponse(users.size(), inserted, users.size() - inserted);
+    }
+
+    // Each row reports 1 when inserted and 0 when ON CONFLICT skipped it
+    private int insert(List<Object[]> chunk) {
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_USER, chunk)) {
+            inserted += count;
+        }
+        return inserted;
+    }
+
+    // BCrypt is CPU-bound, so it runs on platform threads rather than the caller's virtual thread
+    private Map<String, String> hash(List<String> passwords) {
+        try (ForkJoinPool pool = new ForkJoinPool(Math.max(1, properties.getHashParallelism()))) {
+            return pool.submit(() -> passwords.parallelStream()
+                            .collect(Collectors.toMap(Function.identity(), passwordEncoder::encode)))
+                    .get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Could not hash passwords", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- ==========================================================================
+-- V10 - Soft-deleted accounts awaiting the batched purge
+-- ==========================================================================
+
+ALTER TABLE app_users ADD COLUMN deleted_at TIMESTAMPTZ;
+
+CREATE INDEX idx_app_users_pending_purge ON app_users(deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,14 @@
+-- ==========================================================================
+-- V11 - Revoked stateless session tokens, replayed into memory by every node
+-- ==========================================================================
+
+CREATE TABLE session_revocations (
+    id         BIGSERIAL   PRIMARY KEY,
+    user_id    BIGINT      NOT NULL,
+    token_id   VARCHAR(32),
+    revoked_at TIMESTAMPTZ NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_session_revocations_revoked_at ON session_revocations(revoked_at);
+CREATE INDEX idx_session_revocations_expires_at ON session_revocations(expires_at);
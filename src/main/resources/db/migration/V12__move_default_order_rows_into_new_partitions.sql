@@ -0,0 +1,52 @@
+-- ==========================================================================
+-- V12 - Create monthly order partitions even when the DEFAULT partitions
+--       already hold rows for that month
+-- ==========================================================================
+-- PostgreSQL refuses to create a partition whose range overlaps rows in the
+-- DEFAULT partition. The new month is therefore built as a standalone table,
+-- filled with the matching DEFAULT rows, and attached once those rows are gone
+-- from DEFAULT. Orders and items are handled together: items are removed from
+-- DEFAULT first, since deleting an order cascades to its items.
+
+DROP FUNCTION create_monthly_partition(TEXT, DATE);
+
+-- Creates user_orders_YYYY_MM and user_order_items_YYYY_MM covering the UTC calendar month starting at month_start.
+CREATE OR REPLACE FUNCTION create_order_partitions(month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    suffix          TEXT        := to_char(month_start, 'YYYY_MM');
+    order_partition TEXT        := 'user_orders_' || suffix;
+    item_partition  TEXT        := 'user_order_items_' || suffix;
+    range_start     TIMESTAMPTZ := month_start::timestamp AT TIME ZONE 'UTC';
+    range_end       TIMESTAMPTZ := (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+    create_orders   BOOLEAN     := to_regclass(order_partition) IS NULL;
+    create_items    BOOLEAN     := to_regclass(item_partition) IS NULL;
+BEGIN
+    IF create_orders AND NOT create_items THEN
+        RAISE EXCEPTION 'Partition % exists without %; refusing to move orders out of the default partition',
+            item_partition, order_partition;
+    END IF;
+
+    IF create_orders THEN
+        EXECUTE format('CREATE TABLE %I (LIKE user_orders INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', order_partition);
+        EXECUTE format('INSERT INTO %I SELECT * FROM user_orders_default WHERE created_at >= $1 AND created_at < $2',
+                       order_partition) USING range_start, range_end;
+    END IF;
+    IF create_items THEN
+        EXECUTE format('CREATE TABLE %I (LIKE user_order_items INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', item_partition);
+        EXECUTE format('INSERT INTO %I SELECT * FROM user_order_items_default WHERE created_at >= $1 AND created_at < $2',
+                       item_partition) USING range_start, range_end;
+        DELETE FROM user_order_items_default WHERE created_at >= range_start AND created_at < range_end;
+    END IF;
+    IF create_orders THEN
+        DELETE FROM user_orders_default WHERE created_at >= range_start AND created_at < range_end;
+        EXECUTE format('ALTER TABLE user_orders ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       order_partition, range_start, range_end);
+    END IF;
+    IF create_items THEN
+        EXECUTE format('ALTER TABLE user_order_items ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       item_partition, range_start, range_end);
+    END IF;
+    RETURN order_partition;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,20 @@
+-- ==========================================================================
+-- V6 - Incrementally maintained per-user order statistics
+-- ==========================================================================
+
+CREATE TABLE user_order_stats (
+    user_id                  BIGINT        PRIMARY KEY REFERENCES app_users(id) ON DELETE CASCADE,
+    order_count              BIGINT        NOT NULL DEFAULT 0,
+    total_spend              NUMERIC(14,2) NOT NULL DEFAULT 0,
+    last_order_at            TIMESTAMPTZ,
+    favourite_category_id    BIGINT        REFERENCES categories(id) ON DELETE SET NULL,
+    favourite_category_units BIGINT        NOT NULL DEFAULT 0,
+    updated_at               TIMESTAMPTZ   NOT NULL DEFAULT now()
+);
+
+CREATE TABLE user_order_category_stats (
+    user_id     BIGINT  NOT NULL REFERENCES app_users(id) ON DELETE CASCADE,
+    category_id BIGINT  NOT NULL REFERENCES categories(id) ON DELETE CASCADE,
+    units       BIGINT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, category_id)
+);
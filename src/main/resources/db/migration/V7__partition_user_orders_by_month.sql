@@ -0,0 +1,121 @@
+-- ==========================================================================
+-- V7 - Monthly range partitions for user_orders and user_order_items
+-- ==========================================================================
+-- Both tables are partitioned on created_at. Order items carry the created_at
+-- of their order so that an order and its items always land in the same month
+-- and the (order_id, created_at) foreign key can reference the partitioned
+-- user_orders primary key.
+
+CREATE SCHEMA IF NOT EXISTS order_archive;
+
+-- Move the unpartitioned tables out of the way, keeping their id sequences.
+ALTER SEQUENCE user_orders_id_seq OWNED BY NONE;
+ALTER SEQUENCE user_order_items_id_seq OWNED BY NONE;
+
+ALTER TABLE user_order_items RENAME TO user_order_items_legacy;
+ALTER TABLE user_orders RENAME TO user_orders_legacy;
+ALTER INDEX user_order_items_pkey RENAME TO user_order_items_legacy_pkey;
+ALTER INDEX user_orders_pkey RENAME TO user_orders_legacy_pkey;
+DROP INDEX idx_user_orders_user;
+DROP INDEX idx_user_order_items_order;
+
+CREATE TABLE user_orders (
+    id                    BIGINT        NOT NULL DEFAULT nextval('user_orders_id_seq'),
+    user_id               BIGINT        NOT NULL REFERENCES app_users(id) ON DELETE CASCADE,
+    status                VARCHAR(32)   NOT NULL,
+    currency              VARCHAR(8)    NOT NULL,
+    subtotal              NUMERIC(10,2) NOT NULL CHECK (subtotal >= 0),
+    shipping_full_name    VARCHAR(255)  NOT NULL,
+    shipping_email        VARCHAR(255)  NOT NULL,
+    shipping_address      VARCHAR(255)  NOT NULL,
+    shipping_city         VARCHAR(255)  NOT NULL,
+    shipping_postal_code  VARCHAR(32)   NOT NULL,
+    shipping_country      VARCHAR(255)  NOT NULL,
+    payment_method        VARCHAR(32)   NOT NULL,
+    payment_card_last4    VARCHAR(4),
+    payment_card_expiry   VARCHAR(5),
+    payment_paypal_email  VARCHAR(255),
+    created_at            TIMESTAMPTZ   NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE user_order_items (
+    id                   BIGINT        NOT NULL DEFAULT nextval('user_order_items_id_seq'),
+    order_id             BIGINT        NOT NULL,
+    product_id           BIGINT        NOT NULL REFERENCES products(id),
+    product_name         VARCHAR(255)  NOT NULL,
+    unit_price           NUMERIC(10,2) NOT NULL CHECK (unit_price >= 0),
+    quantity             INTEGER       NOT NULL CHECK (quantity > 0),
+    line_total           NUMERIC(10,2) NOT NULL CHECK (line_total >= 0),
+    created_at           TIMESTAMPTZ   NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (order_id, created_at) REFERENCES user_orders(id, created_at) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE user_orders_id_seq OWNED BY user_orders.id;
+ALTER SEQUENCE user_order_items_id_seq OWNED BY user_order_items.id;
+
+CREATE INDEX idx_user_orders_user ON user_orders(user_id, created_at DESC);
+CREATE INDEX idx_user_order_items_order ON user_order_items(order_id);
+
+-- Rows outside every monthly range (e.g. if maintenance has not run) land here.
+CREATE TABLE user_orders_default PARTITION OF user_orders DEFAULT;
+CREATE TABLE user_order_items_default PARTITION OF user_order_items DEFAULT;
+
+-- Creates <parent>_YYYY_MM covering the UTC calendar month starting at month_start.
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    partition_name TEXT := format('%s_%s', parent_table, to_char(month_start, 'YYYY_MM'));
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name,
+            parent_table,
+            month_start::timestamp AT TIME ZONE 'UTC',
+            (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC'
+        );
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every month that already has orders, plus the next three months.
+DO $$
+DECLARE
+    first_month DATE;
+    last_month  DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date;
+    month_start DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', min(created_at) AT TIME ZONE 'UTC')::date,
+                    date_trunc('month', now() AT TIME ZONE 'UTC')::date)
+    INTO first_month
+    FROM user_orders_legacy;
+
+    month_start := first_month;
+    WHILE month_start <= last_month LOOP
+        PERFORM create_monthly_partition('user_orders', month_start);
+        PERFORM create_monthly_partition('user_order_items', month_start);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO user_orders (
+    id, user_id, status, currency, subtotal,
+    shipping_full_name, shipping_email, shipping_address, shipping_city, shipping_postal_code, shipping_country,
+    payment_method, payment_card_last4, payment_card_expiry, payment_paypal_email, created_at
+)
+SELECT id, user_id, status, currency, subtotal,
+       shipping_full_name, shipping_email, shipping_address, shipping_city, shipping_postal_code, shipping_country,
+       payment_method, payment_card_last4, payment_card_expiry, payment_paypal_email, created_at
+FROM user_orders_legacy;
+
+INSERT INTO user_order_items (id, order_id, product_id, product_name, unit_price, quantity, line_total, created_at)
+SELECT i.id, i.order_id, i.product_id, i.product_name, i.unit_price, i.quantity, i.line_total, o.created_at
+FROM user_order_items_legacy i
+JOIN user_orders_legacy o ON o.id = i.order_id;
+
+DROP TABLE user_order_items_legacy;
+DROP TABLE user_orders_legacy;
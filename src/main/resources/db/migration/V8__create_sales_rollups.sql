@@ -0,0 +1,15 @@
+-- ==========================================================================
+-- V8 - Hourly and daily sales rollups per product
+-- ==========================================================================
+
+CREATE TABLE sales_rollups (
+    granularity  VARCHAR(8)    NOT NULL CHECK (granularity IN ('HOUR', 'DAY')),
+    bucket_start TIMESTAMPTZ   NOT NULL,
+    product_id   BIGINT        NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    category_id  BIGINT        REFERENCES categories(id) ON DELETE SET NULL,
+    units        BIGINT        NOT NULL DEFAULT 0,
+    revenue      NUMERIC(14,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start, product_id)
+);
+
+CREATE INDEX idx_sales_rollups_category ON sales_rollups(granularity, bucket_start, category_id);
@@ -0,0 +1,27 @@
+-- ==========================================================================
+-- V9 - At most one default address and payment method per user
+-- ==========================================================================
+
+-- Keep only the most recent default before enforcing uniqueness
+UPDATE user_addresses a
+SET is_default = FALSE
+WHERE a.is_default
+  AND EXISTS (
+      SELECT 1 FROM user_addresses newer
+      WHERE newer.user_id = a.user_id
+        AND newer.is_default
+        AND (newer.created_at, newer.id) > (a.created_at, a.id)
+  );
+
+UPDATE user_payment_methods m
+SET is_default = FALSE
+WHERE m.is_default
+  AND EXISTS (
+      SELECT 1 FROM user_payment_methods newer
+      WHERE newer.user_id = m.user_id
+        AND newer.is_default
+        AND (newer.created_at, newer.id) > (m.created_at, m.id)
+  );
+
+CREATE UNIQUE INDEX uq_user_addresses_default ON user_addresses(user_id) WHERE is_default;
+CREATE UNIQUE INDEX uq_user_payment_methods_default ON user_payment_methods(user_id) WHERE is_default;
@@ -0,0 +1,47 @@
+package org.testautomation.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.testautomation.service.RecommendationService;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationIndexWarmUpTest {
+
+    @Mock
+    private RecommendationService recommendationService;
+
+    @InjectMocks
+    private RecommendationIndexWarmUp warmUp;
+
+    @Test
+    void startupWarmUpRebuildsIndexNotLoadedYet() {
+        when(recommendationService.isLoaded()).thenReturn(false);
+
+        warmUp.warmUpOnStartup();
+
+        verify(recommendationService).rebuild();
+    }
+
+    @Test
+    void startupWarmUpSkipsIndexLoadedByRebuildJob() {
+        when(recommendationService.isLoaded()).thenReturn(true);
+
+        warmUp.warmUpOnStartup();
+
+        verify(recommendationService, never()).rebuild();
+    }
+
+    @Test
+    void restoreAlwaysRebuilds() {
+        warmUp.warmUp();
+
+        verify(recommendationService).rebuild();
+    }
+}
@@ -0,0 +1,173 @@
+package org.testautomation.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.r2dbc.pool.ConnectionPool;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testautomation.TestAutomationTargetApplication;
+import org.testautomation.reactive.ReactiveCatalogDatabase;
+import reactor.netty.DisposableServer;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same catalog request through the servlet stack (virtual threads, JPA, Hikari) and the reactive stack
+ * (Netty, R2DBC pool) of one application at high concurrency. Both pools have the same size; bulkheads and the
+ * response cache are off so every request reaches the database. Run with {@code mvn test -Pbenchmark}.
+ * <p>
+ * In-memory H2 only shows framework overhead. Pass {@code -Dbenchmark.postgres=true} to run against the
+ * already migrated and seeded database from application.yml and application-reactive-catalog.yml instead.
+ */
+@Tag("benchmark")
+class ReactiveCatalogBenchmarkTest {
+
+    private static final Duration RUN_TIME = Duration.ofSeconds(10);
+    private static final int CLIENTS = 256;
+    private static final String PATH = "/api/products?page=3&size=12&search=e";
+    private static final boolean POSTGRES = Boolean.getBoolean("benchmark.postgres");
+
+    @Test
+    void servletVersusReactiveCatalog() throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--app.reactive-catalog.port=0",
+                "--spring.threads.virtual.enabled=true",
+                "--app.bulkheads.enabled=false",
+                "--app.response-cache.enabled=false",
+                "--app.sql-accounting.enabled=false",
+                "--app.orders.partitions.maintenance-enabled=false",
+                "--recommendations.warm-up.enabled=false"));
+        if (POSTGRES) {
+            args.addAll(List.of("--spring.batch.job.enabled=false", "--seed.enabled=false"));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:benchmark-reactive;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+                    "--app.reactive-catalog.url=r2dbc:h2:mem:///benchmark-reactive?options=MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+                    "--app.reactive-catalog.username=sa",
+                    "--app.reactive-catalog.password=",
+                    "--seed.enabled=true",
+                    "--seed.count=500",
+                    "--spring.batch.job.enabled=true",
+                    "--spring.batch.job.name=seedDataJob"));
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestAutomationTargetApplication.class)
+                .profiles(POSTGRES ? new String[]{"reactive-catalog"} : new String[]{"test", "reactive-catalog"})
+                .run(args.toArray(String[]::new))) {
+            int servletPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+            int reactivePort = context.getBean("reactiveCatalogServer", DisposableServer.class).port();
+            HikariPoolMXBean hikari = context.getBean(DataSource.class).unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            ConnectionPool r2dbc = context.getBean(ReactiveCatalogDatabase.class).getPool();
+
+            Result servlet = load("http://localhost:" + servletPort, hikari::getActiveConnections);
+            Result reactive = load("http://localhost:" + reactivePort,
+                    () -> r2dbc.getMetrics().map(metrics -> metrics.acquiredSize()).orElse(0));
+
+            System.out.println();
+            System.out.printf("%-9s %10s %10s %10s %8s %16s %14s%n",
+                    "stack", "req/s", "p50 ms", "p99 ms", "errors", "max connections", "peak threads");
+            servlet.print("servlet");
+            reactive.print("reactive");
+
+            assertThat(servlet.ok()).isPositive();
+            assertThat(reactive.ok()).isPositive();
+        }
+    }
+
+    private Result load(String baseUrl, IntSupplier activeConnections) throws Exception {
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        HttpRequest catalog = HttpRequest.newBuilder(URI.create(baseUrl + PATH)).build();
+
+        // Warm up so the comparison is not dominated by JIT and class loading
+        for (int i = 0; i < 200; i++) {
+            HttpResponse<String> response = client.send(catalog, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger maxConnections = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (running.get()) {
+                maxConnections.accumulateAndGet(activeConnections.getAsInt(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        });
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status = client.send(catalog, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 200) {
+                            latencies.add(System.nanoTime() - start);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        running.set(false);
+        sampler.join();
+        return new Result(new ArrayList<>(latencies), errors.get(), maxConnections.get(), threads.getPeakThreadCount());
+    }
+
+    private record Result(List<Long> latencies, int errors, int maxConnections, int peakThreads) {
+
+        int ok() {
+            return latencies.size();
+        }
+
+        void print(String label) {
+            System.out.printf("%-9s %10.1f %10.1f %10.1f %8d %16d %14d%n",
+                    label,
+                    latencies.size() / (double) RUN_TIME.toSeconds(),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99),
+                    errors,
+                    maxConnections,
+                    peakThreads);
+        }
+
+        private static double percentile(List<Long> values, double percentile) {
+            if (values.isEmpty()) {
+                return 0;
+            }
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.testautomation.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.testautomation.TestAutomationTargetApplication;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares platform and virtual request threads against a database that takes {@link #QUERY_DELAY}
+ * per statement. Catalog traffic saturates the server while a separate client probes /health.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final Duration QUERY_DELAY = Duration.ofMillis(20);
+    private static final Duration RUN_TIME = Duration.ofSeconds(10);
+    private static final int CLIENTS = 32;
+    private static final int TOMCAT_THREADS = 16;
+
+    @Test
+    void platformVersusVirtualThreadsUnderSlowDatabase() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.println();
+        System.out.printf("%-9s %10s %10s %10s %8s %14s %14s%n",
+                "threads", "req/s", "p50 ms", "p99 ms", "503s", "health p50 ms", "health p99 ms");
+        platform.print("platform");
+        virtual.print("virtual");
+
+        assertThat(platform.ok()).isPositive();
+        assertThat(virtual.ok()).isPositive();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TestAutomationTargetApplication.class, SlowDatabaseConfiguration.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + mode
+                                + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--seed.enabled=true",
+                        "--seed.count=200",
+                        "--spring.batch.job.enabled=true",
+                        "--spring.batch.job.name=seedDataJob",
+                        "--app.orders.partitions.maintenance-enabled=false",
+                        "--recommendations.warm-up.enabled=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return load("http://localhost:" + port);
+        }
+    }
+
+    private Result load(String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        HttpRequest catalog = HttpRequest.newBuilder(URI.create(baseUrl + "/api/products?page=0&size=5")).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/health")).build();
+
+        // Warm up so the first comparison is not dominated by JIT and class loading
+        for (int i = 0; i < 50; i++) {
+            HttpResponse<String> response = client.send(catalog, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.body()).contains("\"totalElements\":200");
+        }
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> healthLatencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status = client.send(catalog, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else {
+                            latencies.add(System.nanoTime() - start);
+                        }
+                    }
+                    return null;
+                });
+            }
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    client.send(health, HttpResponse.BodyHandlers.discarding());
+                    healthLatencies.add(System.nanoTime() - start);
+                    Thread.sleep(50);
+                }
+                return null;
+            });
+        }
+        return new Result(new ArrayList<>(latencies), new ArrayList<>(healthLatencies), rejected.get());
+    }
+
+    private record Result(List<Long> latencies, List<Long> healthLatencies, int rejected) {
+
+        int ok() {
+            return latencies.size();
+        }
+
+        void print(String label) {
+            System.out.printf("%-9s %10.1f %10.1f %10.1f %8d %14.1f %14.1f%n",
+                    label,
+                    latencies.size() / (double) RUN_TIME.toSeconds(),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99),
+                    rejected,
+                    percentile(healthLatencies, 0.50),
+                    percentile(healthLatencies, 0.99));
+        }
+
+        private static double percentile(List<Long> values, double percentile) {
+            if (values.isEmpty()) {
+                return 0;
+            }
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+
+    @Configuration
+    static class SlowDatabaseConfiguration {
+
+        @Bean
+        static SlowDataSourcePostProcessor slowDataSourcePostProcessor() {
+            return new SlowDataSourcePostProcessor();
+        }
+
+        // Registered before the batch job registry post-processor, which initialises the DataSource early
+        static class SlowDataSourcePostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource) : bean;
+            }
+
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    Thread.sleep(QUERY_DELAY);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+                if (result instanceof PreparedStatement statement && method.getReturnType() == PreparedStatement.class) {
+                    return proxy(PreparedStatement.class, statement);
+                }
+                if (result instanceof Statement statement && method.getReturnType() == Statement.class) {
+                    return proxy(Statement.class, statement);
+                }
+                if (result instanceof Connection connection && method.getReturnType() == Connection.class) {
+                    return proxy(Connection.class, connection);
+                }
+                return result;
+            });
+        }
+    }
+}
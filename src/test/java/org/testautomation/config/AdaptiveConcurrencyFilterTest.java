@@ -0,0 +1,133 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyFilterTest {
+
+    private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void growsWhileLatencyHoldsAndShrinksWhenItRises() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", routeClass("/api/cart/**", 0, 10));
+
+        for (int i = 0; i < 50; i++) {
+            limit.update(10 * MILLIS, 10, false, 0);
+        }
+        double grown = limit.getLimit();
+        assertThat(grown).isGreaterThan(10);
+
+        for (int i = 0; i < 20; i++) {
+            limit.update(40 * MILLIS, (int) grown, false, 0);
+        }
+        assertThat(limit.getLimit()).isLessThan(grown);
+    }
+
+    @Test
+    void ignoresLatencyWhenTrafficUsesLessThanHalfTheLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", routeClass("/api/cart/**", 0, 10));
+
+        for (int i = 0; i < 50; i++) {
+            limit.update(10 * MILLIS, 1, false, 0);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void backsOffMultiplicativelyOnFailures() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", routeClass("/api/cart/**", 0, 10));
+
+        limit.update(10 * MILLIS, 10, true, 0);
+
+        assertThat(limit.getLimit()).isEqualTo(9.0);
+    }
+
+    @Test
+    void rejectsWith503AndRetryAfterWhenLimitIsReached() throws Exception {
+        AdaptiveConcurrencyFilter filter = new AdaptiveConcurrencyFilter(
+                properties("test-saturated", routeClass("/api/cart/**", 0, 1)), clock::get, new SimpleMeterRegistry());
+        assertThat(filter.resolve("/api/cart").tryAcquire(1.0)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain rejectedChain = new MockFilterChain();
+        filter.doFilter(request("/api/cart/items"), rejected, rejectedChain);
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getContentAsString()).contains("\"message\"");
+        assertThat(rejectedChain.getRequest()).isNull();
+
+        filter.resolve("/api/cart").release(MILLIS, false, 0);
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(request("/api/cart"), admitted, new MockFilterChain());
+        assertThat(admitted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shedsLowerPriorityClassesWhileCheckoutLatencyRises() {
+        AdaptiveConcurrencyConfig.AdaptiveConcurrencyProperties properties =
+                properties("test-checkout", routeClass("/api/checkout/**", 2, 10));
+        properties.getClasses().put("test-catalog", routeClass("/api/products/**", 1, 10));
+        AdaptiveConcurrencyFilter filter = new AdaptiveConcurrencyFilter(properties, clock::get, new SimpleMeterRegistry());
+        AdaptiveConcurrencyLimit checkout = filter.resolve("/api/checkout");
+        AdaptiveConcurrencyLimit catalog = filter.resolve("/api/products");
+
+        checkout.update(10 * MILLIS, 1, false, clock.get());
+        for (int i = 0; i < 10; i++) {
+            checkout.update(60 * MILLIS, 1, false, clock.get());
+        }
+
+        assertThat(filter.pressure(catalog)).isLessThan(1.0);
+        assertThat(filter.pressure(checkout)).isEqualTo(1.0);
+        assertThat(catalog.effectiveLimit(filter.pressure(catalog))).isLessThan(10);
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(filter.pressure(catalog)).isEqualTo(1.0);
+    }
+
+    @Test
+    void passesThroughPathsOutsideAnyClass() throws Exception {
+        AdaptiveConcurrencyFilter filter = new AdaptiveConcurrencyFilter(
+                properties("test-unmatched", routeClass("/api/cart/**", 0, 1)), clock::get, new SimpleMeterRegistry());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/orders"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private static AdaptiveConcurrencyConfig.RouteClass routeClass(String path, int priority, int initialLimit) {
+        AdaptiveConcurrencyConfig.RouteClass routeClass = new AdaptiveConcurrencyConfig.RouteClass();
+        routeClass.setPaths(List.of(path));
+        routeClass.setPriority(priority);
+        routeClass.setInitialLimit(initialLimit);
+        routeClass.setMaxLimit(100);
+        return routeClass;
+    }
+
+    private static AdaptiveConcurrencyConfig.AdaptiveConcurrencyProperties properties(
+            String name, AdaptiveConcurrencyConfig.RouteClass routeClass) {
+        AdaptiveConcurrencyConfig.AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyConfig.AdaptiveConcurrencyProperties();
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        properties.getClasses().put(name, routeClass);
+        return properties;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRequestURI(uri);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadFilterTest {
+
+    @Test
+    void rejectsWith503WhenGroupIsSaturated() throws Exception {
+        BulkheadFilter filter = new BulkheadFilter(properties("test-saturated", "/api/cart/**", 1), new SimpleMeterRegistry());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> holder = executor.submit(() -> {
+                filter.doFilter(request("/api/cart"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                return null;
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            MockFilterChain rejectedChain = new MockFilterChain();
+            filter.doFilter(request("/api/cart/items"), rejected, rejectedChain);
+
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(rejected.getContentAsString()).contains("\"message\"");
+            assertThat(rejectedChain.getRequest()).isNull();
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        MockHttpServletResponse afterRelease = new MockHttpServletResponse();
+        filter.doFilter(request("/api/cart"), afterRelease, new MockFilterChain());
+        assertThat(afterRelease.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void passesThroughPathsOutsideAnyGroup() throws Exception {
+        BulkheadFilter filter = new BulkheadFilter(properties("test-unmatched", "/api/cart/**", 0), new SimpleMeterRegistry());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/orders"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void poolBudgetCountsGroupLimitsAndProfileSectionLoaders() {
+        BulkheadConfig.BulkheadProperties properties = properties("test-budget", "/api/cart/**", 6);
+
+        assertThatCode(() -> BulkheadConfig.checkPoolBudget(properties, 3, 10)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> BulkheadConfig.checkPoolBudget(properties, 4, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("10 connections");
+    }
+
+    @Test
+    void poolBudgetStillLimitsProfileSectionLoadersWhenBulkheadsAreOff() {
+        BulkheadConfig.BulkheadProperties properties = properties("test-budget-off", "/api/cart/**", 6);
+        properties.setEnabled(false);
+
+        assertThatCode(() -> BulkheadConfig.checkPoolBudget(properties, 9, 10)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> BulkheadConfig.checkPoolBudget(properties, 10, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("10 connections");
+    }
+
+    private static BulkheadConfig.BulkheadProperties properties(String name, String path, int maxConcurrent) {
+        BulkheadConfig.Group group = new BulkheadConfig.Group();
+        group.setPaths(List.of(path));
+        group.setMaxConcurrent(maxConcurrent);
+        group.setMaxWait(Duration.ofMillis(10));
+        BulkheadConfig.BulkheadProperties properties = new BulkheadConfig.BulkheadProperties();
+        properties.getGroups().put(name, group);
+        return properties;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRequestURI(uri);
+        return request;
+    }
+}
@@ -0,0 +1,101 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.testautomation.domain.FaultRuleRequest;
+import org.testautomation.domain.FaultRuleRequest.Distribution;
+import org.testautomation.domain.FaultRuleRequest.Target;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FaultInjectorTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final FaultInjector injector = new FaultInjector(Duration.ofSeconds(1), clock::get, new SimpleMeterRegistry());
+
+    @Test
+    void failsMatchingRoutesOnly() {
+        FaultRuleRequest request = rule(Target.ROUTE, "/api/products/**");
+        request.setMethod("get");
+        request.setErrorRate(1.0);
+        request.setErrorStatus(500);
+        injector.add(request);
+
+        assertThat(injector.beforeRoute("GET", "/api/products/7")).isEqualTo(500);
+        assertThat(injector.beforeRoute("POST", "/api/products/7")).isZero();
+        assertThat(injector.beforeRoute("GET", "/api/categories")).isZero();
+    }
+
+    @Test
+    void matchesRepositoryMethodsAndSqlText() {
+        FaultRuleRequest repository = rule(Target.REPOSITORY, "ProductRepository.find*");
+        repository.setErrorRate(1.0);
+        injector.add(repository);
+        FaultRuleRequest jdbc = rule(Target.JDBC, "FROM products");
+        jdbc.setErrorRate(1.0);
+        injector.add(jdbc);
+
+        assertThatThrownBy(() -> injector.beforeRepository("ProductRepository.findById"))
+                .isInstanceOf(InjectedFaultException.class);
+        injector.beforeRepository("ProductRepository.save");
+        injector.beforeRepository("CategoryRepository.findById");
+        assertThat(injector.beforeStatement("select p.id from products p")).isTrue();
+        assertThat(injector.beforeStatement("select c.id from categories c")).isFalse();
+    }
+
+    @Test
+    void samplesDelaysWithinTheirBounds() {
+        FaultRuleRequest uniform = rule(Target.JDBC, "*");
+        uniform.setDistribution(Distribution.UNIFORM);
+        uniform.setDelay(Duration.ofMillis(10));
+        uniform.setMaxDelay(Duration.ofMillis(20));
+        FaultInjector.FaultRule rule = injector.add(uniform);
+
+        for (int i = 0; i < 1000; i++) {
+            long delay = injector.evaluate(injector.rules(), Target.JDBC, candidate -> true).delayNanos();
+            assertThat(delay).isBetween(Duration.ofMillis(10).toNanos(), Duration.ofMillis(20).toNanos());
+        }
+
+        injector.remove(rule.id());
+        FaultRuleRequest exponential = rule(Target.JDBC, "*");
+        exponential.setDistribution(Distribution.EXPONENTIAL);
+        exponential.setDelay(Duration.ofSeconds(10));
+        injector.add(exponential);
+        assertThat(injector.evaluate(injector.rules(), Target.JDBC, candidate -> true).delayNanos())
+                .isLessThanOrEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void dropsExpiredRules() {
+        FaultRuleRequest request = rule(Target.ROUTE, "/api/**");
+        request.setErrorRate(1.0);
+        request.setExpiresAfter(Duration.ofSeconds(30));
+        injector.add(request);
+        assertThat(injector.beforeRoute("GET", "/api/status")).isEqualTo(503);
+
+        clock.addAndGet(Duration.ofSeconds(30).toMillis());
+
+        assertThat(injector.beforeRoute("GET", "/api/status")).isZero();
+        assertThat(injector.rules()).isEmpty();
+    }
+
+    @Test
+    void rejectsIncompleteDistributions() {
+        FaultRuleRequest request = rule(Target.ROUTE, "/api/**");
+        request.setDistribution(Distribution.UNIFORM);
+        request.setDelay(Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> injector.add(request)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static FaultRuleRequest rule(Target target, String pattern) {
+        FaultRuleRequest request = new FaultRuleRequest();
+        request.setTarget(target);
+        request.setPattern(pattern);
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+package org.testautomation.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReplicaPools pools;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        pools = new ReplicaPools(primary, List.of(new ReplicaPools.Replica("test-replica", replica)),
+                Duration.ofSeconds(1), null, new SimpleMeterRegistry());
+        routing = new ReplicaRoutingDataSource(pools, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void routesReadWriteWorkToPrimary() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void fallsBackToPrimaryAndSkipsReplicaUntilHealthCheckPasses() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection();
+        assertThat(pools.getReplicas().get(0).isHealthy()).isFalse();
+    }
+
+    @Test
+    void healthCheckReturnsRecoveredReplicaToRotation() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused")).thenReturn(replicaConnection);
+        when(replicaConnection.isValid(1)).thenReturn(true);
+
+        pools.checkHealth();
+        assertThat(pools.getReplicas().get(0).isHealthy()).isFalse();
+
+        pools.checkHealth();
+        assertThat(pools.getReplicas().get(0).isHealthy()).isTrue();
+    }
+
+    @Test
+    void keepsRecentWritersOnPrimaryForTheWindow() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        AtomicLong clock = new AtomicLong();
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(10), clock::get);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        interceptor.preHandle(request("POST", "writer@example.com"), new MockHttpServletResponse(), null);
+        interceptor.afterCompletion(null, null, null, null);
+
+        clock.set(Duration.ofSeconds(5).toNanos());
+        interceptor.preHandle(request("GET", "writer@example.com"), new MockHttpServletResponse(), null);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        interceptor.afterCompletion(null, null, null, null);
+
+        interceptor.preHandle(request("GET", "reader@example.com"), new MockHttpServletResponse(), null);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        interceptor.afterCompletion(null, null, null, null);
+
+        clock.set(Duration.ofSeconds(11).toNanos());
+        interceptor.preHandle(request("GET", "writer@example.com"), new MockHttpServletResponse(), null);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        interceptor.afterCompletion(null, null, null, null);
+    }
+
+    @Test
+    void keepsAnonymousWriteRequestsOnPrimary() throws Exception {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(10), System::nanoTime);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/auth/signup"), new MockHttpServletResponse(), null);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        interceptor.afterCompletion(null, null, null, null);
+
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void sendsConnectionsWithExplicitCredentialsToPrimary() throws SQLException {
+        when(primary.getConnection("sa", "")).thenReturn(primaryConnection);
+
+        assertThat(routing.getConnection("sa", "")).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void rejectsOpenInView() {
+        assertThatThrownBy(() -> ReadReplicaConfig.checkOpenInView(true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.jpa.open-in-view=false");
+    }
+
+    private static MockHttpServletRequest request(String method, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/orders");
+        request.setUserPrincipal(() -> user);
+        return request;
+    }
+}
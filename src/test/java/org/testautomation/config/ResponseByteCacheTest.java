@@ -0,0 +1,41 @@
+package org.testautomation.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseByteCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesOverByteBudget() {
+        ResponseByteCache cache = new ResponseByteCache(30);
+        cache.put(1, "a", response(10));
+        cache.put(1, "b", response(10));
+        cache.put(1, "c", response(10));
+        cache.get("a");
+
+        cache.put(1, "d", response(10));
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.bytes()).isEqualTo(30);
+        assertThat(cache.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void newerCatalogVersionDropsOlderEntriesAndIgnoresStaleWrites() {
+        ResponseByteCache cache = new ResponseByteCache(100);
+        cache.put(1, "a#1", response(10));
+
+        cache.put(2, "a#2", response(10));
+        cache.put(1, "b#1", response(10));
+
+        assertThat(cache.get("a#1")).isNull();
+        assertThat(cache.get("b#1")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static ResponseByteCache.CachedResponse response(int bytes) {
+        return new ResponseByteCache.CachedResponse("application/json", new byte[bytes], null);
+    }
+}
@@ -0,0 +1,73 @@
+package org.testautomation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.domain.SalesBucketResponse;
+import org.testautomation.domain.TopProductResponse;
+import org.testautomation.service.SalesAnalyticsService;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AnalyticsRestController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(ApiExceptionHandler.class)
+class AnalyticsRestControllerWebMvcTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Test
+    void getProductSalesReturnsBuckets() throws Exception {
+        when(salesAnalyticsService.getProductSales("hour", null, null, 4L))
+                .thenReturn(List.of(new SalesBucketResponse("2026-02-24T10:00:00Z", 4L, 2L, 3, new BigDecimal("29.97"))));
+
+        mockMvc.perform(get("/api/analytics/sales/products")
+                        .param("granularity", "hour")
+                        .param("productId", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].bucketStart").value("2026-02-24T10:00:00Z"))
+                .andExpect(jsonPath("$[0].units").value(3))
+                .andExpect(jsonPath("$[0].revenue").value(29.97));
+    }
+
+    @Test
+    void getTopProductsReturnsRankedProducts() throws Exception {
+        when(salesAnalyticsService.getTopProducts("day", null, null, "units", 2))
+                .thenReturn(List.of(
+                        new TopProductResponse(7L, "Hammer", 9, new BigDecimal("90.00")),
+                        new TopProductResponse(3L, "Novel", 4, new BigDecimal("20.00"))
+                ));
+
+        mockMvc.perform(get("/api/analytics/sales/top-products")
+                        .param("granularity", "day")
+                        .param("metric", "units")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].productName").value("Hammer"));
+    }
+
+    @Test
+    void getCategorySalesReturnsBadRequestWhenServiceThrowsIllegalArgument() throws Exception {
+        when(salesAnalyticsService.getCategorySales("week", null, null))
+                .thenThrow(new IllegalArgumentException("Unsupported granularity: week"));
+
+        mockMvc.perform(get("/api/analytics/sales/categories").param("granularity", "week"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported granularity: week"));
+    }
+}
@@ -36,7 +36,7 @@ class AuthRestControllerWebMvcTest {
 
     @Test
     void signInReturnsResponseFromService() throws Exception {
-        when(authService.signIn(any(), any())).thenReturn(new SignInResponse("token-1", new AuthUserDTO(1L, "user@example.com", "User"), "2026-12-01T00:00:00Z"));
+        when(authService.signIn(any(), any(), any())).thenReturn(new SignInResponse("token-1", new AuthUserDTO(1L, "user@example.com", "User"), "2026-12-01T00:00:00Z"));
 
         mockMvc.perform(post("/api/auth/signin")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -86,6 +86,6 @@ class AuthRestControllerWebMvcTest {
     void logoutReturnsNoContent() throws Exception {
         mockMvc.perform(post("/api/auth/logout"))
                 .andExpect(status().isNoContent());
-        verify(authService).logout(any());
+        verify(authService).logout(any(), any());
     }
 }
@@ -8,8 +8,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.domain.OrderStatsResponse;
 import org.testautomation.domain.OrderSummaryResponse;
 import org.testautomation.service.OrderService;
+import org.testautomation.service.OrderStatsService;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -30,6 +32,9 @@ class OrderRestControllerWebMvcTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderStatsService orderStatsService;
+
     @Test
     void getOrdersReturnsOrderSummaries() throws Exception {
         when(orderService.getOrders("user@example.com"))
@@ -53,4 +58,17 @@ class OrderRestControllerWebMvcTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("User not found"));
     }
+
+    @Test
+    void getStatsReturnsLifetimeOrderStats() throws Exception {
+        when(orderStatsService.getStats("user@example.com"))
+                .thenReturn(new OrderStatsResponse(3, new BigDecimal("59.97"), "2026-02-24T10:15:30Z", 7L));
+
+        mockMvc.perform(get("/api/orders/stats")
+                        .principal(new UsernamePasswordAuthenticationToken("user@example.com", "n/a")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(3))
+                .andExpect(jsonPath("$.totalSpend").value(59.97))
+                .andExpect(jsonPath("$.favouriteCategoryId").value(7));
+    }
 }
@@ -9,7 +9,10 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.testautomation.domain.ProductDTO;
 import org.testautomation.domain.ProductPageResponse;
+import org.testautomation.domain.ProductSuggestionResponse;
 import org.testautomation.service.ProductService;
+import org.testautomation.service.ProductSuggestionService;
+import org.testautomation.service.RecommendationService;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -32,6 +35,12 @@ class ProductRestControllerWebMvcTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private RecommendationService recommendationService;
+
+    @MockBean
+    private ProductSuggestionService productSuggestionService;
+
     @Test
     void listSanitizesPageAndSizeBeforeDelegating() throws Exception {
         when(productService.findAll(null, null, 0, 100))
@@ -62,4 +71,26 @@ class ProductRestControllerWebMvcTest {
                 .andExpect(jsonPath("$.id").value(10))
                 .andExpect(jsonPath("$.name").value("Keyboard"));
     }
+
+    @Test
+    void frequentlyBoughtTogetherReturnsRecommendedProducts() throws Exception {
+        when(recommendationService.findFrequentlyBoughtTogether(10L, 3))
+                .thenReturn(List.of(new ProductDTO(11L, "Mouse", "desc", new BigDecimal("19.90"), null)));
+
+        mockMvc.perform(get("/api/products/10/frequently-bought-together?limit=3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(11))
+                .andExpect(jsonPath("$[0].name").value("Mouse"));
+    }
+
+    @Test
+    void suggestionsReturnMatchingProductNames() throws Exception {
+        when(productSuggestionService.suggest("key", 5))
+                .thenReturn(List.of(new ProductSuggestionResponse(10L, "Keyboard")));
+
+        mockMvc.perform(get("/api/products/suggestions?q=key&limit=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(10))
+                .andExpect(jsonPath("$[0].name").value("Keyboard"));
+    }
 }
@@ -10,9 +10,12 @@ import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
 import org.testautomation.domain.AuthUserDTO;
+import org.testautomation.domain.ProfileResponse;
 import org.testautomation.domain.UserAddressResponse;
 import org.testautomation.domain.UserPaymentMethodResponse;
+import org.testautomation.service.ProfileBootstrapService;
 import org.testautomation.service.ProfileService;
+import org.testautomation.service.StatelessSessions;
 
 import java.util.List;
 
@@ -38,6 +41,32 @@ class ProfileRestControllerWebMvcTest {
     @MockBean
     private ProfileService profileService;
 
+    @MockBean
+    private ProfileBootstrapService profileBootstrapService;
+
+    @MockBean
+    private StatelessSessions statelessSessions;
+
+    @Test
+    void getProfileReturnsRequestedSectionsOnly() throws Exception {
+        when(profileBootstrapService.getProfile("user@example.com", "account,addresses", null))
+                .thenReturn(new ProfileResponse(
+                        new AuthUserDTO(7L, "user@example.com", "User"),
+                        List.of(new UserAddressResponse(1L, "Home", "User", "user@example.com", "Street 1", "City", "12345", "Country", true)),
+                        null,
+                        null
+                ));
+
+        mockMvc.perform(get("/api/profile")
+                        .param("fields", "account,addresses")
+                        .principal(new UsernamePasswordAuthenticationToken("user@example.com", "n/a")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.account.id").value(7))
+                .andExpect(jsonPath("$.addresses[0].label").value("Home"))
+                .andExpect(jsonPath("$.paymentMethods").doesNotExist())
+                .andExpect(jsonPath("$.orders").doesNotExist());
+    }
+
     @Test
     void getAddressesReturnsResponse() throws Exception {
         when(profileService.getAddresses("user@example.com"))
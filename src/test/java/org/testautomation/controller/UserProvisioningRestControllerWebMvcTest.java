@@ -0,0 +1,58 @@
+package org.testautomation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.domain.UserProvisioningResponse;
+import org.testautomation.service.UserProvisioningService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserProvisioningRestController.class, properties = "app.provisioning.enabled=true")
+@AutoConfigureMockMvc(addFilters = false)
+@Import(ApiExceptionHandler.class)
+class UserProvisioningRestControllerWebMvcTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserProvisioningService userProvisioningService;
+
+    @Test
+    void provisionUsersReturnsCounts() throws Exception {
+        when(userProvisioningService.provision(any())).thenReturn(new UserProvisioningResponse(2, 1, 1));
+
+        mockMvc.perform(post("/api/admin/test-data/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"users": [
+                                  {"name": "Load One", "email": "load1@example.com", "password": "secret123"},
+                                  {"name": "Load Two", "email": "load2@example.com", "password": "secret123"}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1));
+    }
+
+    @Test
+    void provisionUsersRejectsInvalidEntries() throws Exception {
+        mockMvc.perform(post("/api/admin/test-data/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"users": [{"name": "Load One", "email": "not-an-email", "password": "secret123"}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Email must be valid"));
+    }
+}
@@ -0,0 +1,167 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testautomation.batch.AccountPurger;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.entity.UserCartItem;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+import org.testautomation.repository.UserAccountRepository;
+import org.testautomation.repository.UserCartItemRepository;
+import org.testautomation.repository.UserOrderRepository;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.account-purge.enabled=true",
+        "app.account-purge.interval=PT1H",
+        "app.account-purge.chunk-size=1",
+        "app.account-purge.throttle=0s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AccountPurgeIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountPurger accountPurger;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private UserCartItemRepository userCartItemRepository;
+
+    @Autowired
+    private UserOrderRepository userOrderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void deletedAccountIsDisabledImmediatelyAndPurgedInChunks() throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "name": "Purge User",
+                                  "email": "integration.purge@example.com",
+                                  "password": "secret123"
+                                }
+                                """))
+                .andExpect(status().isOk());
+        UserAccount user = userAccountRepository.findByEmailIgnoreCase("integration.purge@example.com").orElseThrow();
+
+        Category category = categoryRepository.save(new Category("Purge Category", "desc"));
+        Product product = productRepository.save(new Product("Purge Product", "desc", new BigDecimal("5.00"), category));
+        UserCartItem cartItem = new UserCartItem();
+        cartItem.setUser(user);
+        cartItem.setProduct(product);
+        cartItem.setQuantity(1);
+        userCartItemRepository.save(cartItem);
+        createOrder(user, product);
+        createOrder(user, product);
+
+        MockHttpSession session = signInAs("integration.purge@example.com", "secret123");
+        mockMvc.perform(delete("/api/profile/account")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"currentPassword": "secret123"}
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "integration.purge@example.com", "password": "secret123", "rememberMe": false}
+                                """))
+                .andExpect(status().isUnauthorized());
+        assertThat(userAccountRepository.findById(user.getId())).get()
+                .extracting(UserAccount::isEnabled).isEqualTo(false);
+        assertThat(userOrderRepository.findByUserIdOrderByCreatedAtDesc(user.getId())).hasSize(2);
+
+        accountPurger.purge();
+
+        assertThat(userAccountRepository.findById(user.getId())).isEmpty();
+        assertThat(userCartItemRepository.findByUserId(user.getId())).isEmpty();
+        assertThat(userOrderRepository.findByUserIdOrderByCreatedAtDesc(user.getId())).isEmpty();
+        assertThat(accountPurger.getBacklog()).isZero();
+
+        mockMvc.perform(get("/api/auth/me").session(signInAsNewUser()))
+                .andExpect(status().isOk());
+    }
+
+    private MockHttpSession signInAsNewUser() throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "name": "Purge User Again",
+                                  "email": "integration.purge@example.com",
+                                  "password": "secret123"
+                                }
+                                """))
+                .andExpect(status().isOk());
+        return signInAs("integration.purge@example.com", "secret123");
+    }
+
+    private MockHttpSession signInAs(String email, String password) throws Exception {
+        MvcResult signInResult = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "%s", "rememberMe": true}
+                                """.formatted(email, password)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return (MockHttpSession) signInResult.getRequest().getSession(false);
+    }
+
+    private void createOrder(UserAccount user, Product product) {
+        UserOrder order = new UserOrder();
+        order.setUser(user);
+        order.setStatus("accepted");
+        order.setCurrency("USD");
+        order.setSubtotal(product.getPrice());
+        order.setShippingFullName("John Doe");
+        order.setShippingEmail(user.getEmail());
+        order.setShippingAddress("Street 1");
+        order.setShippingCity("City");
+        order.setShippingPostalCode("12345");
+        order.setShippingCountry("Country");
+        order.setPaymentMethod("card");
+
+        UserOrderItem item = new UserOrderItem();
+        item.setProduct(product);
+        item.setProductName(product.getName());
+        item.setUnitPrice(product.getPrice());
+        item.setQuantity(1);
+        item.setLineTotal(product.getPrice());
+        order.addItem(item);
+
+        userOrderRepository.save(order);
+    }
+}
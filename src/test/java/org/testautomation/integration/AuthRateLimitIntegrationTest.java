@@ -0,0 +1,71 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.auth-rate-limits.enabled=true",
+        "app.auth-rate-limits.per-ip.capacity=5",
+        "app.auth-rate-limits.per-ip.refill-interval=PT1M",
+        "app.auth-rate-limits.per-email.capacity=2",
+        "app.auth-rate-limits.per-email.refill-interval=PT1M"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthRateLimitIntegrationTest {
+
+    // One minute refill, less the time the failed sign-ins took to hash their passwords
+    private static final String NEXT_TOKEN_SECONDS = "5\\d|60";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void limitsAttemptsPerEmail() throws Exception {
+        signIn("10.0.0.1", "limited@example.com").andExpect(status().isUnauthorized());
+        signIn("10.0.0.1", "limited@example.com").andExpect(status().isUnauthorized());
+
+        signIn("10.0.0.1", "limited@example.com")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", matchesPattern(NEXT_TOKEN_SECONDS)))
+                .andExpect(jsonPath("$.message").value("Too many attempts. Please retry later."));
+        signIn("10.0.0.1", "LIMITED@Example.com").andExpect(status().isTooManyRequests());
+        signIn("10.0.0.1", "other@example.com").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void limitsAttemptsPerClientAddress() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            signIn("10.0.0.2", "spray" + i + "@example.com").andExpect(status().isUnauthorized());
+        }
+
+        signIn("10.0.0.2", "spray5@example.com")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", matchesPattern(NEXT_TOKEN_SECONDS)));
+        signIn("10.0.0.3", "spray5@example.com").andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions signIn(String remoteAddress, String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/signin")
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddress);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email": "%s", "password": "wrong-password"}
+                        """.formatted(email)));
+    }
+}
@@ -29,7 +29,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.admin.token=it-admin-token")
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 class CheckoutIntegrationTest {
@@ -139,6 +139,38 @@ class CheckoutIntegrationTest {
                 .andExpect(jsonPath("$[0].currency").value("USD"))
                 .andExpect(jsonPath("$[0].items.length()").value(1));
 
+        mockMvc.perform(get("/api/orders/stats").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(1))
+                .andExpect(jsonPath("$.totalSpend").value(199.80))
+                .andExpect(jsonPath("$.favouriteCategoryId").value(category.getId()));
+
+        mockMvc.perform(get("/api/analytics/sales/products").session(session))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/analytics/sales/products")
+                        .header("X-Admin-Token", "it-admin-token")
+                        .param("granularity", "day")
+                        .param("productId", product.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].units").value(2))
+                .andExpect(jsonPath("$[0].revenue").value(199.80));
+
+        mockMvc.perform(get("/api/profile").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.account.email").value("integration.checkout@example.com"))
+                .andExpect(jsonPath("$.addresses.length()").value(1))
+                .andExpect(jsonPath("$.paymentMethods.length()").value(1))
+                .andExpect(jsonPath("$.orders.length()").value(1))
+                .andExpect(jsonPath("$.orders[0].items[0].quantity").value(2));
+
+        mockMvc.perform(get("/api/profile").session(session).param("fields", "orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(1))
+                .andExpect(jsonPath("$.account").doesNotExist())
+                .andExpect(jsonPath("$.addresses").doesNotExist());
+
         mockMvc.perform(get("/api/profile/addresses").session(session))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1))
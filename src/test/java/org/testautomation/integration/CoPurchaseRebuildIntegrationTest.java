@@ -0,0 +1,123 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testautomation.domain.ProductDTO;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+import org.testautomation.repository.UserAccountRepository;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.service.RecommendationService;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "recommendations.rebuild.enabled=true",
+        "spring.batch.job.enabled=false"
+})
+@ActiveProfiles("test")
+class CoPurchaseRebuildIntegrationTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("coPurchaseRebuildJob")
+    private Job coPurchaseRebuildJob;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private UserOrderRepository userOrderRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void rebuildJobReplaysOrderHistoryIntoRecommendations() throws Exception {
+        Category tools = categoryRepository.save(new Category("Co-purchase Tools", "desc"));
+        Product hammer = productRepository.save(new Product("Co-purchase Hammer", "desc", new BigDecimal("15.00"), tools));
+        Product nails = productRepository.save(new Product("Co-purchase Nails", "desc", new BigDecimal("3.00"), tools));
+        Product saw = productRepository.save(new Product("Co-purchase Saw", "desc", new BigDecimal("40.00"), tools));
+
+        UserAccount user = createUser("co.purchase@example.com");
+        createOrder(user, hammer, nails);
+        createOrder(user, hammer, nails, saw);
+        createOrder(user, saw, hammer);
+        createOrder(user, nails, hammer);
+
+        JobExecution execution = jobLauncher.run(
+                coPurchaseRebuildJob,
+                new JobParametersBuilder()
+                        .addLong("ts", System.currentTimeMillis())
+                        .toJobParameters()
+        );
+
+        assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+        List<ProductDTO> recommendations = recommendationService.findFrequentlyBoughtTogether(hammer.getId(), 5);
+        assertThat(recommendations).extracting(ProductDTO::getName)
+                .containsExactly("Co-purchase Nails", "Co-purchase Saw");
+    }
+
+    private UserAccount createUser(String email) {
+        UserAccount user = new UserAccount();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setDisplayName(email);
+        user.setEnabled(true);
+        return userAccountRepository.save(user);
+    }
+
+    private void createOrder(UserAccount user, Product... products) {
+        UserOrder order = new UserOrder();
+        order.setUser(user);
+        order.setStatus("accepted");
+        order.setCurrency("USD");
+        order.setShippingFullName("John Doe");
+        order.setShippingEmail(user.getEmail());
+        order.setShippingAddress("Street 1");
+        order.setShippingCity("City");
+        order.setShippingPostalCode("12345");
+        order.setShippingCountry("Country");
+        order.setPaymentMethod("card");
+
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (Product product : products) {
+            UserOrderItem item = new UserOrderItem();
+            item.setProduct(product);
+            item.setProductName(product.getName());
+            item.setUnitPrice(product.getPrice());
+            item.setQuantity(1);
+            item.setLineTotal(product.getPrice());
+            order.addItem(item);
+            subtotal = subtotal.add(product.getPrice());
+        }
+        order.setSubtotal(subtotal);
+
+        userOrderRepository.save(order);
+    }
+}
@@ -0,0 +1,123 @@
+package org.testautomation.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testautomation.config.FaultInjector;
+import org.testautomation.config.InjectedFaultException;
+import org.testautomation.domain.FaultRuleRequest;
+import org.testautomation.repository.CategoryRepository;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.fault-injection.enabled=true",
+        "app.admin.token=it-admin-token"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FaultInjectionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FaultInjector faultInjector;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void clearRules() {
+        faultInjector.clear();
+    }
+
+    @Test
+    void routeRulesFailRequestsUntilRemoved() throws Exception {
+        mockMvc.perform(post("/api/admin/faults")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"target": "ROUTE", "pattern": "/api/status", "errorRate": 1.0}
+                                """))
+                .andExpect(status().isForbidden());
+
+        MvcResult added = mockMvc.perform(post("/api/admin/faults")
+                        .header("X-Admin-Token", "it-admin-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"target": "ROUTE", "pattern": "/api/status", "method": "GET", "errorRate": 1.0, "errorStatus": 503}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.target").value("ROUTE"))
+                .andReturn();
+        long id = faultInjector.rules().get(0).id();
+        assertThat(added.getResponse().getContentAsString()).contains("\"id\":" + id);
+
+        mockMvc.perform(get("/api/status")).andExpect(status().isServiceUnavailable());
+
+        mockMvc.perform(delete("/api/admin/faults/" + id).header("X-Admin-Token", "it-admin-token"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/status")).andExpect(status().isOk());
+    }
+
+    @Test
+    void repositoryRulesFailMatchingMethods() {
+        faultInjector.add(rule(FaultRuleRequest.Target.REPOSITORY, "CategoryRepository.count", 1.0, Duration.ZERO));
+
+        assertThatThrownBy(() -> categoryRepository.count()).isInstanceOf(InjectedFaultException.class);
+        categoryRepository.findAll();
+    }
+
+    @Test
+    void jdbcRulesDelayAndFailStatements() {
+        faultInjector.add(rule(FaultRuleRequest.Target.JDBC, "from categories", 0, Duration.ofMillis(150)));
+
+        long started = System.nanoTime();
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Long.class);
+        assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(Duration.ofMillis(150).toNanos());
+
+        faultInjector.clear();
+        faultInjector.add(rule(FaultRuleRequest.Target.JDBC, "from categories", 1.0, Duration.ZERO));
+        assertThatThrownBy(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Long.class))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    @Test
+    void faultInjectingDataSourceStillClosesThePool() throws Exception {
+        assertThat(dataSource).isInstanceOf(AutoCloseable.class);
+        assertThat(dataSource.unwrap(HikariDataSource.class).isClosed()).isFalse();
+    }
+
+    private static FaultRuleRequest rule(FaultRuleRequest.Target target, String pattern, double errorRate, Duration delay) {
+        FaultRuleRequest request = new FaultRuleRequest();
+        request.setTarget(target);
+        request.setPattern(pattern);
+        request.setErrorRate(errorRate);
+        request.setDelay(delay);
+        return request;
+    }
+}
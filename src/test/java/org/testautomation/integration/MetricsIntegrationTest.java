@@ -0,0 +1,125 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testautomation.entity.Product;
+import org.testautomation.repository.ProductRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "seed.enabled=true",
+        "seed.count=5",
+        "spring.batch.job.enabled=false",
+        "app.admin.token=it-admin-token"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("seedDataJob")
+    private Job seedDataJob;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void prometheusEndpointExposesRouteInfrastructureAndBusinessMetrics() throws Exception {
+        BatchStatus seedStatus = jobLauncher.run(seedDataJob, new JobParametersBuilder()
+                .addLong("run.id", System.currentTimeMillis())
+                .toJobParameters()).getStatus();
+        assertThat(seedStatus).isEqualTo(BatchStatus.COMPLETED);
+        Product product = productRepository.findAll().get(0);
+
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Metrics User", "email": "metrics@example.com", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "metrics@example.com", "password": "wrong"}
+                                """))
+                .andExpect(status().isUnauthorized());
+        MvcResult signIn = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "metrics@example.com", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) signIn.getRequest().getSession(false);
+
+        mockMvc.perform(put("/api/cart")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"productId": %d, "quantity": 1}]
+                                """.formatted(product.getId())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/checkout")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "shipping": {"fullName": "Metrics User", "email": "metrics@example.com",
+                                               "address": "Main Street 1", "city": "Oslo", "postalCode": "0150",
+                                               "country": "Norway"},
+                                  "payment": {"method": "paypal", "paypalEmail": "metrics@example.com"},
+                                  "items": [{"productId": %d, "quantity": 1, "unitPrice": %s}],
+                                  "subtotal": %s,
+                                  "currency": "USD"
+                                }
+                                """.formatted(product.getId(), product.getPrice(), product.getPrice())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").session(session)).andExpect(status().isForbidden());
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header("X-Admin-Token", "it-admin-token"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{application=\"TestAutomationTarget\"")
+                .contains("uri=\"/api/checkout\"")
+                .contains("hikaricp_connections_active")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_cache_query_requests_total")
+                .contains("spring_batch_job_seconds_count")
+                .contains("spring_batch_step_seconds_count")
+                .contains("shop_checkout_amount_count")
+                .containsPattern("shop_signins_total\\{.*result=\"success\".*} [1-9]")
+                .containsPattern("shop_signins_total\\{.*result=\"failure\".*} [1-9]")
+                .containsPattern("shop_cart_updates_total\\{.*operation=\"replace\".*} [1-9]")
+                .containsPattern("shop_checkouts_total\\{.*payment_method=\"paypal\".*} [1-9]");
+    }
+}
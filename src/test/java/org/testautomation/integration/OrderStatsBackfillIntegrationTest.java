@@ -0,0 +1,164 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.entity.UserOrderStats;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+import org.testautomation.repository.UserAccountRepository;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.repository.UserOrderStatsRepository;
+import org.testautomation.service.OrderStatsService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "order-stats.backfill.enabled=true",
+        "spring.batch.job.enabled=false"
+})
+@ActiveProfiles("test")
+class OrderStatsBackfillIntegrationTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("orderStatsBackfillJob")
+    private Job orderStatsBackfillJob;
+
+    @Autowired
+    private UserOrderStatsRepository userOrderStatsRepository;
+
+    @Autowired
+    private UserOrderRepository userOrderRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Test
+    void backfillJobBuildsStatsFromExistingOrders() throws Exception {
+        Category tools = categoryRepository.save(new Category("Backfill Tools", "desc"));
+        Category books = categoryRepository.save(new Category("Backfill Books", "desc"));
+        Product hammer = productRepository.save(new Product("Backfill Hammer", "desc", new BigDecimal("15.00"), tools));
+        Product novel = productRepository.save(new Product("Backfill Novel", "desc", new BigDecimal("5.00"), books));
+
+        UserAccount user = createUser("backfill.stats@example.com");
+        createOrder(user, hammer, 1, Instant.parse("2025-01-01T00:00:00Z"));
+        createOrder(user, novel, 4, Instant.parse("2025-03-01T00:00:00Z"));
+
+        JobExecution execution = jobLauncher.run(
+                orderStatsBackfillJob,
+                new JobParametersBuilder()
+                        .addLong("ts", System.currentTimeMillis())
+                        .toJobParameters()
+        );
+
+        assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+        UserOrderStats stats = userOrderStatsRepository.findById(user.getId()).orElseThrow();
+        assertThat(stats.getOrderCount()).isEqualTo(2);
+        assertThat(stats.getTotalSpend()).isEqualByComparingTo("35.00");
+        assertThat(stats.getLastOrderAt()).isEqualTo(Instant.parse("2025-03-01T00:00:00Z"));
+        assertThat(stats.getFavouriteCategoryId()).isEqualTo(books.getId());
+        assertThat(stats.getFavouriteCategoryUnits()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentFirstOrdersAreAllCounted() throws Exception {
+        UserAccount user = createUser("concurrent.first.order@example.com");
+        int orders = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(orders)) {
+            for (int i = 0; i < orders; i++) {
+                UserOrder order = new UserOrder();
+                order.setUser(user);
+                order.setSubtotal(new BigDecimal("10.00"));
+                order.setCreatedAt(Instant.parse("2025-05-01T00:00:00Z").plusSeconds(i));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    orderStatsService.recordOrder(order);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        UserOrderStats stats = userOrderStatsRepository.findById(user.getId()).orElseThrow();
+        assertThat(stats.getOrderCount()).isEqualTo(orders);
+        assertThat(stats.getTotalSpend()).isEqualByComparingTo("80.00");
+        assertThat(stats.getLastOrderAt()).isEqualTo(Instant.parse("2025-05-01T00:00:07Z"));
+    }
+
+    private UserAccount createUser(String email) {
+        UserAccount user = new UserAccount();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setDisplayName(email);
+        user.setEnabled(true);
+        return userAccountRepository.save(user);
+    }
+
+    private void createOrder(UserAccount user, Product product, int quantity, Instant createdAt) {
+        BigDecimal lineTotal = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+
+        UserOrder order = new UserOrder();
+        order.setUser(user);
+        order.setStatus("accepted");
+        order.setCurrency("USD");
+        order.setSubtotal(lineTotal);
+        order.setShippingFullName("John Doe");
+        order.setShippingEmail(user.getEmail());
+        order.setShippingAddress("Street 1");
+        order.setShippingCity("City");
+        order.setShippingPostalCode("12345");
+        order.setShippingCountry("Country");
+        order.setPaymentMethod("card");
+        order.setCreatedAt(createdAt);
+
+        UserOrderItem item = new UserOrderItem();
+        item.setProduct(product);
+        item.setProductName(product.getName());
+        item.setUnitPrice(product.getPrice());
+        item.setQuantity(quantity);
+        item.setLineTotal(lineTotal);
+        order.addItem(item);
+
+        userOrderRepository.save(order);
+    }
+}
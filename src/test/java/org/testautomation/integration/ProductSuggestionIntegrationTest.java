@@ -0,0 +1,73 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.entity.Product;
+import org.testautomation.repository.ProductRepository;
+import org.testautomation.service.CatalogVersion;
+import org.testautomation.service.ProductSuggestionService;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductSuggestionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSuggestionService productSuggestionService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Test
+    void suggestionsFollowProductWrites() throws Exception {
+        Product product = productRepository.save(new Product("Zephyr Typeahead Lamp", "desc", new BigDecimal("12.50")));
+
+        mockMvc.perform(get("/api/products/suggestions?q=zephyr typ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(product.getId()))
+                .andExpect(jsonPath("$[0].name").value("Zephyr Typeahead Lamp"));
+
+        product.setName("Zephyr Desk Lamp");
+        productRepository.save(product);
+        mockMvc.perform(get("/api/products/suggestions?q=lamp"))
+                .andExpect(jsonPath("$[0].name").value("Zephyr Desk Lamp"));
+
+        productRepository.delete(product);
+        mockMvc.perform(get("/api/products/suggestions?q=zephyr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/products/suggestions?q=zephyr&limit=50"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rebuildBumpsCatalogVersionAfterSwappingTheIndex() throws Exception {
+        productRepository.save(new Product("Quokka Rebuild Mug", "desc", new BigDecimal("8.00")));
+        long before = catalogVersion.current();
+
+        productSuggestionService.rebuild();
+
+        assertThat(catalogVersion.current()).isGreaterThan(before);
+        mockMvc.perform(get("/api/products/suggestions?q=quokka"))
+                .andExpect(jsonPath("$[0].name").value("Quokka Rebuild Mug"));
+    }
+}
@@ -0,0 +1,118 @@
+package org.testautomation.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+import reactor.netty.DisposableServer;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The R2DBC URL opens the same in-memory database as the JDBC pool, so both stacks read the same rows
+@SpringBootTest(properties = {
+        "app.reactive-catalog.url=r2dbc:h2:mem:///testdb?options=MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "app.reactive-catalog.username=sa",
+        "app.reactive-catalog.password=",
+        "app.reactive-catalog.port=0",
+        "app.response-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "reactive-catalog"})
+class ReactiveCatalogIntegrationTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DisposableServer reactiveCatalogServer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category tools;
+    private Product hammer;
+
+    @BeforeEach
+    void seedCatalog() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        tools = categoryRepository.save(new Category("Tools", "Hand tools"));
+        Category garden = categoryRepository.save(new Category("Garden", "Outdoor"));
+        hammer = productRepository.save(new Product("Claw Hammer", "Steel", new BigDecimal("24.90"), tools));
+        productRepository.save(new Product("Sledge hammer", "Heavy", new BigDecimal("59.00"), tools));
+        productRepository.save(new Product("Hose 50%", "Garden hose", new BigDecimal("19.95"), garden));
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(new Product("Rake " + i, "Leaf rake", new BigDecimal("12.50"), garden));
+        }
+    }
+
+    @Test
+    void productResponsesMatchServletEndpoints() throws Exception {
+        assertSameResponse("/api/products");
+        assertSameResponse("/api/products?page=1&size=3");
+        assertSameResponse("/api/products?page=-4&size=500");
+        assertSameResponse("/api/products?search=%20HAMMER%20");
+        assertSameResponse("/api/products?search=50%25");
+        assertSameResponse("/api/products?categoryId=" + tools.getId());
+        assertSameResponse("/api/products?categoryId=" + tools.getId() + "&search=sledge&size=1");
+        assertSameResponse("/api/products/" + hammer.getId());
+    }
+
+    @Test
+    void categoryResponsesMatchServletEndpoints() throws Exception {
+        assertSameResponse("/api/categories");
+        assertSameResponse("/api/categories?search=gar");
+        assertSameResponse("/api/categories/" + tools.getId());
+    }
+
+    @Test
+    void returnsNotFoundAndBadRequestLikeServletEndpoints() throws Exception {
+        assertThat(reactive("/api/products/999999").statusCode()).isEqualTo(404);
+        assertThat(reactive("/api/categories/999999").statusCode()).isEqualTo(404);
+
+        HttpResponse<String> badRequest = reactive("/api/products?categoryId=abc");
+        assertThat(badRequest.statusCode()).isEqualTo(400);
+        assertThat(objectMapper.readTree(badRequest.body()).path("message").asText()).contains("categoryId");
+    }
+
+    private void assertSameResponse(String path) throws Exception {
+        String servlet = mockMvc.perform(get(URI.create(path)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        HttpResponse<String> reactive = reactive(path);
+
+        assertThat(reactive.statusCode()).as(path).isEqualTo(200);
+        JsonNode expected = objectMapper.readTree(servlet);
+        assertThat(objectMapper.readTree(reactive.body())).as(path).isEqualTo(expected);
+    }
+
+    private HttpResponse<String> reactive(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + reactiveCatalogServer.port() + path)).build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,159 @@
+package org.testautomation.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testautomation.config.ReplicaPools;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The replica is a separate in-memory database with the primary's schema and a login that may only select, so a
+// write routed to it fails like it would on a PostgreSQL standby; routing itself is observed through the counters
+@SpringBootTest(properties = {
+        "app.read-replicas.enabled=true",
+        "app.read-replicas.replicas[0].name=it-replica",
+        "app.read-replicas.replicas[0].url=" + ReadReplicaIntegrationTest.REPLICA_URL,
+        "app.read-replicas.replicas[0].username=replica_reader",
+        "app.read-replicas.replicas[0].password=replica-secret",
+        "app.read-replicas.read-your-writes-window=PT1M"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaPools replicaPools;
+
+    // Without DB_CLOSE_DELAY, which only an admin may set; the admin connection below keeps the database open
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+    private static final String REPLICA_ADMIN_URL = REPLICA_URL + ";DB_CLOSE_DELAY=-1";
+    private static boolean schemaCopied;
+
+    // Runs before the context starts, so the replica pool never connects to a database that does not exist yet
+    @DynamicPropertySource
+    static void replicaDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_ADMIN_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE USER IF NOT EXISTS replica_reader PASSWORD 'replica-secret'");
+            statement.execute("GRANT SELECT ON SCHEMA public TO replica_reader");
+        }
+    }
+
+    @BeforeEach
+    void copySchemaToReplica() throws SQLException {
+        if (schemaCopied) {
+            return;
+        }
+        List<String> ddl = jdbcTemplate.queryForList("SCRIPT NODATA", String.class);
+        try (Connection connection = DriverManager.getConnection(REPLICA_ADMIN_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+        schemaCopied = true;
+        replicaPools.checkHealth();
+    }
+
+    @Test
+    void replicaRejectsWrites() {
+        assertThatThrownBy(() -> {
+            try (Connection connection = replicaPools.getReplicas().get(0).getDataSource().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM app_users");
+            }
+        }).isInstanceOf(SQLException.class);
+    }
+
+    @Test
+    void anonymousSignUpWritesToPrimary() throws Exception {
+        double replicaBefore = routed("it-replica", "read-only");
+
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Anonymous Signup", "email": "anonymous-signup@example.com", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk());
+
+        assertThat(routed("it-replica", "read-only")).isEqualTo(replicaBefore);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from app_users where email = 'anonymous-signup@example.com'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyRequestsUseReplica() throws Exception {
+        double before = routed("it-replica", "read-only");
+
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+
+        assertThat(routed("it-replica", "read-only")).isGreaterThan(before);
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimary() throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Replica User", "email": "replica@example.com", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk());
+        MvcResult signIn = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "replica@example.com", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) signIn.getRequest().getSession(false);
+
+        mockMvc.perform(delete("/api/cart").session(session)).andExpect(status().isNoContent());
+        double replicaBefore = routed("it-replica", "read-only");
+        double primaryBefore = routed("primary", "read-your-writes");
+
+        mockMvc.perform(get("/api/cart").session(session)).andExpect(status().isOk());
+
+        assertThat(routed("primary", "read-your-writes")).isGreaterThan(primaryBefore);
+        assertThat(routed("it-replica", "read-only")).isEqualTo(replicaBefore);
+    }
+
+    private double routed(String target, String reason) {
+        Counter counter = meterRegistry.find("db.connections.routed")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
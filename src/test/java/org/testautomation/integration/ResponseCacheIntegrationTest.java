@@ -0,0 +1,103 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResponseCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void seedCatalog() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        category = categoryRepository.save(new Category("Cached", "Category served from the response cache"));
+        for (int i = 0; i < 10; i++) {
+            productRepository.save(new Product("Cached product " + i, "Description " + i, new BigDecimal("10.00"), category));
+        }
+    }
+
+    @Test
+    void servesRepeatedReadsFromCacheWithGzipVariant() throws Exception {
+        String path = "/api/products?categoryId=" + category.getId() + "&size=12";
+        String first = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Response-Cache", "MISS"))
+                .andReturn().getResponse().getContentAsString();
+
+        String second = mockMvc.perform(get("/api/products").param("size", "12").param("categoryId", category.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Response-Cache", "HIT"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+        byte[] compressed = mockMvc.perform(get(path).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(header().string("X-Response-Cache", "HIT"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem("Accept-Encoding")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(gunzip(compressed)).isEqualTo(first);
+    }
+
+    @Test
+    void catalogWriteInvalidatesCachedResponses() throws Exception {
+        mockMvc.perform(get("/api/categories")).andExpect(header().string("X-Response-Cache", "MISS"));
+        mockMvc.perform(get("/api/categories")).andExpect(header().string("X-Response-Cache", "HIT"));
+
+        categoryRepository.save(new Category("Added later", "Written after the first read"));
+
+        String body = mockMvc.perform(get("/api/categories"))
+                .andExpect(header().string("X-Response-Cache", "MISS"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).contains("Added later");
+    }
+
+    @Test
+    void doesNotCacheNotFound() throws Exception {
+        mockMvc.perform(get("/api/products/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/products/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("X-Response-Cache", "MISS"));
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
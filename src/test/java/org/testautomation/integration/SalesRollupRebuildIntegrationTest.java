@@ -0,0 +1,135 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testautomation.domain.SalesBucketResponse;
+import org.testautomation.domain.TopProductResponse;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+import org.testautomation.repository.UserAccountRepository;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.service.SalesAnalyticsService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "analytics.rollup-rebuild.enabled=true",
+        "spring.batch.job.enabled=false"
+})
+@ActiveProfiles("test")
+class SalesRollupRebuildIntegrationTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("salesRollupRebuildJob")
+    private Job salesRollupRebuildJob;
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired
+    private UserOrderRepository userOrderRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void rebuildJobAggregatesExistingOrderItemsIntoRollups() throws Exception {
+        Category tools = categoryRepository.save(new Category("Rollup Tools", "desc"));
+        Product hammer = productRepository.save(new Product("Rollup Hammer", "desc", new BigDecimal("15.00"), tools));
+        Product saw = productRepository.save(new Product("Rollup Saw", "desc", new BigDecimal("40.00"), tools));
+
+        UserAccount user = createUser("rollup.rebuild@example.com");
+        createOrder(user, hammer, 2, Instant.parse("2025-04-01T09:10:00Z"));
+        createOrder(user, hammer, 1, Instant.parse("2025-04-01T09:50:00Z"));
+        createOrder(user, saw, 1, Instant.parse("2025-04-02T12:00:00Z"));
+
+        JobExecution execution = jobLauncher.run(
+                salesRollupRebuildJob,
+                new JobParametersBuilder()
+                        .addLong("ts", System.currentTimeMillis())
+                        .toJobParameters()
+        );
+
+        assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+
+        List<SalesBucketResponse> hourly = salesAnalyticsService.getProductSales(
+                "hour", "2025-04-01T00:00:00Z", "2025-04-02T00:00:00Z", hammer.getId());
+        assertThat(hourly).hasSize(1);
+        assertThat(hourly.get(0).getBucketStart()).isEqualTo("2025-04-01T09:00:00Z");
+        assertThat(hourly.get(0).getUnits()).isEqualTo(3);
+        assertThat(hourly.get(0).getRevenue()).isEqualByComparingTo("45.00");
+
+        List<TopProductResponse> top = salesAnalyticsService.getTopProducts(
+                "day", "2025-04-01T00:00:00Z", "2025-04-03T00:00:00Z", "revenue", 2);
+        assertThat(top).extracting(TopProductResponse::getProductName).containsExactly("Rollup Hammer", "Rollup Saw");
+
+        List<SalesBucketResponse> categories = salesAnalyticsService.getCategorySales(
+                "day", "2025-04-01T00:00:00Z", "2025-04-03T00:00:00Z");
+        assertThat(categories).extracting(SalesBucketResponse::getCategoryId).containsOnly(tools.getId());
+        assertThat(categories).extracting(SalesBucketResponse::getUnits).containsExactly(3L, 1L);
+    }
+
+    private UserAccount createUser(String email) {
+        UserAccount user = new UserAccount();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setDisplayName(email);
+        user.setEnabled(true);
+        return userAccountRepository.save(user);
+    }
+
+    private void createOrder(UserAccount user, Product product, int quantity, Instant createdAt) {
+        BigDecimal lineTotal = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+
+        UserOrder order = new UserOrder();
+        order.setUser(user);
+        order.setStatus("accepted");
+        order.setCurrency("USD");
+        order.setSubtotal(lineTotal);
+        order.setShippingFullName("John Doe");
+        order.setShippingEmail(user.getEmail());
+        order.setShippingAddress("Street 1");
+        order.setShippingCity("City");
+        order.setShippingPostalCode("12345");
+        order.setShippingCountry("Country");
+        order.setPaymentMethod("card");
+        order.setCreatedAt(createdAt);
+
+        UserOrderItem item = new UserOrderItem();
+        item.setProduct(product);
+        item.setProductName(product.getName());
+        item.setUnitPrice(product.getPrice());
+        item.setQuantity(quantity);
+        item.setLineTotal(lineTotal);
+        order.addItem(item);
+
+        userOrderRepository.save(order);
+    }
+}
@@ -0,0 +1,123 @@
+package org.testautomation.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.batch.AccountPurger;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+import org.testautomation.repository.UserAccountRepository;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.second-level-cache.enabled=true",
+        "app.response-cache.enabled=false",
+        "app.account-purge.enabled=true",
+        "app.account-purge.interval=PT1H",
+        "app.account-purge.throttle=0s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private AccountPurger accountPurger;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void categoryListIsServedFromQueryCacheUntilACategoryIsWritten() throws Exception {
+        categoryRepository.save(new Category("Cached A", "first"));
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+        long statements = statistics.getPrepareStatementCount();
+        long hits = statistics.getQueryCacheHitCount();
+
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Cached A"));
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+        categoryRepository.save(new Category("Cached B", "second"));
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void accountLookupByEmailIsServedFromNaturalIdCache() {
+        userAccountRepository.save(account("natural.id@example.com"));
+        assertThat(userAccountRepository.findByNormalizedEmail("natural.id@example.com")).isPresent();
+        long statements = statistics.getPrepareStatementCount();
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+
+        assertThat(userAccountRepository.findByNormalizedEmail("  Natural.ID@Example.com "))
+                .get()
+                .extracting(UserAccount::getEmail)
+                .isEqualTo("natural.id@example.com");
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThan(naturalIdHits);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    void purgedAccountIsEvictedFromCache() {
+        UserAccount account = account("purged.cache@example.com");
+        account.setDeletedAt(Instant.now());
+        Long id = userAccountRepository.save(account).getId();
+        assertThat(userAccountRepository.findByNormalizedEmail("purged.cache@example.com")).isPresent();
+        assertThat(entityManagerFactory.getCache().contains(UserAccount.class, id)).isTrue();
+
+        accountPurger.purge();
+
+        assertThat(entityManagerFactory.getCache().contains(UserAccount.class, id)).isFalse();
+        assertThat(userAccountRepository.findByNormalizedEmail("purged.cache@example.com")).isEmpty();
+        assertThat(userAccountRepository.findById(id)).isEmpty();
+    }
+
+    private static UserAccount account(String email) {
+        UserAccount account = new UserAccount();
+        account.setEmail(email);
+        account.setPasswordHash("hash");
+        account.setDisplayName("Cache User");
+        return account;
+    }
+}
@@ -0,0 +1,85 @@
+package org.testautomation.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.repository.CategoryRepository;
+import org.testautomation.repository.ProductRepository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.sql-accounting.debug=true",
+        "app.sql-accounting.budgets[GET\\ /api/categories/{id}]=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlAccountingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Category firstCategory;
+
+    @BeforeEach
+    void seedCatalog() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        for (int i = 0; i < 6; i++) {
+            Category category = categoryRepository.save(new Category("Category " + i, "Category " + i));
+            if (firstCategory == null) {
+                firstCategory = category;
+            }
+            productRepository.save(new Product("Product " + i, "Description", new BigDecimal("10.00"), category));
+        }
+    }
+
+    @Test
+    void productPageReportsStatementsWithoutLazyLoadingCategories() throws Exception {
+        mockMvc.perform(get("/api/products").param("size", "12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(6))
+                .andExpect(header().string("X-SQL-Statements", "1"))
+                .andExpect(header().string("X-SQL-Rows", "6"))
+                .andExpect(header().exists("X-SQL-Time-Ms"))
+                .andExpect(header().string("X-SQL-N-Plus-One", "0"));
+    }
+
+    @Test
+    void accountingDataSourceStillClosesThePool() throws Exception {
+        // Spring only infers the pool's destroy method if the wrapped bean can still be closed
+        assertThat(dataSource).isInstanceOf(AutoCloseable.class);
+        assertThat(dataSource.unwrap(HikariDataSource.class).isClosed()).isFalse();
+    }
+
+    @Test
+    void failsWhenRouteExceedsStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/categories/{id}", firstCategory.getId()))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("GET /api/categories/{id} exceeded its budget of 0 SQL statements"))
+                .andExpect(header().string("X-SQL-Statements", "0"));
+    }
+}
@@ -0,0 +1,149 @@
+package org.testautomation.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testautomation.repository.SessionRevocationRepository;
+import org.testautomation.service.SessionRevocationList;
+import org.testautomation.service.SessionTokenCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.stateless-sessions.enabled=true",
+        "app.stateless-sessions.revocation-sync-interval=PT1H",
+        "app.stateless-sessions.keys[0].id=it-current",
+        "app.stateless-sessions.keys[0].secret=integration-test-secret-0123456789",
+        "app.stateless-sessions.keys[1].id=it-previous",
+        "app.stateless-sessions.keys[1].secret=previous-integration-secret-987654"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatelessSessionIntegrationTest {
+
+    private static final String COOKIE = "SESSION_TOKEN";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionTokenCodec codec;
+
+    @Autowired
+    private SessionRevocationRepository revocationRepository;
+
+    @Test
+    void signInIssuesSignedCookieInsteadOfSession() throws Exception {
+        signUp("stateless.signin@example.com");
+
+        MvcResult signIn = signIn("stateless.signin@example.com", "secret123", true);
+        Cookie cookie = signIn.getResponse().getCookie(COOKIE);
+
+        assertThat(signIn.getRequest().getSession(false)).isNull();
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getMaxAge()).isEqualTo((int) Duration.ofDays(30).toSeconds());
+        assertThat(cookie.getValue()).startsWith("it-current.");
+        assertThat(signIn.getResponse().getContentAsString()).contains(cookie.getValue());
+        assertThat(signIn("stateless.signin@example.com", "secret123", false).getResponse().getCookie(COOKIE).getMaxAge())
+                .isEqualTo((int) Duration.ofHours(12).toSeconds());
+
+        mockMvc.perform(get("/api/cart").cookie(cookie)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/auth/me").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.email").value("stateless.signin@example.com"))
+                .andExpect(jsonPath("$.token").value(cookie.getValue()));
+        mockMvc.perform(get("/api/cart")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/cart").cookie(new Cookie(COOKIE, cookie.getValue() + "x")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void logoutRevokesTheToken() throws Exception {
+        signUp("stateless.logout@example.com");
+        Cookie cookie = signIn("stateless.logout@example.com", "secret123", true).getResponse().getCookie(COOKIE);
+
+        MvcResult logout = mockMvc.perform(post("/api/auth/logout").cookie(cookie))
+                .andExpect(status().isNoContent())
+                .andReturn();
+
+        assertThat(logout.getResponse().getCookie(COOKIE).getMaxAge()).isZero();
+        mockMvc.perform(get("/api/cart").cookie(cookie)).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/auth/me").cookie(cookie)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void passwordChangeRevokesOtherTokensAndReissuesTheCallers() throws Exception {
+        signUp("stateless.password@example.com");
+        Cookie laptop = signIn("stateless.password@example.com", "secret123", true).getResponse().getCookie(COOKIE);
+        Cookie phone = signIn("stateless.password@example.com", "secret123", false).getResponse().getCookie(COOKIE);
+
+        MvcResult change = mockMvc.perform(patch("/api/profile/account/password")
+                        .cookie(laptop)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"currentPassword": "secret123", "newPassword": "changed123"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn();
+        Cookie reissued = change.getResponse().getCookie(COOKIE);
+
+        mockMvc.perform(get("/api/cart").cookie(phone)).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/cart").cookie(laptop)).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/cart").cookie(reissued)).andExpect(status().isOk());
+        assertThat(codec.decode(reissued.getValue()).orElseThrow().expiresAt())
+                .isEqualTo(codec.decode(laptop.getValue()).orElseThrow().expiresAt());
+
+        // Another node learns about the revocation from the shared table on its next sync
+        SessionRevocationList otherNode = new SessionRevocationList(revocationRepository, true, Duration.ofDays(30), new SimpleMeterRegistry());
+        otherNode.sync();
+        assertThat(otherNode.isRevoked(codec.decode(phone.getValue()).orElseThrow())).isTrue();
+        assertThat(otherNode.isRevoked(codec.decode(reissued.getValue()).orElseThrow())).isFalse();
+    }
+
+    @Test
+    void acceptsTokensSignedWithThePreviousKey() throws Exception {
+        signUp("stateless.rotation@example.com");
+        Cookie cookie = signIn("stateless.rotation@example.com", "secret123", false).getResponse().getCookie(COOKIE);
+        SessionTokenCodec.SessionToken token = codec.decode(cookie.getValue()).orElseThrow();
+        SessionTokenCodec previous = new SessionTokenCodec(List.of(new SessionTokenCodec.SigningKey(
+                "it-previous", "previous-integration-secret-987654".getBytes(StandardCharsets.UTF_8))));
+
+        mockMvc.perform(get("/api/cart").cookie(new Cookie(COOKIE, previous.encode(token)))).andExpect(status().isOk());
+    }
+
+    private void signUp(String email) throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Stateless User", "email": "%s", "password": "secret123"}
+                                """.formatted(email)))
+                .andExpect(status().isOk());
+    }
+
+    private MvcResult signIn(String email, String password, boolean rememberMe) throws Exception {
+        return mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "%s", "rememberMe": %s}
+                                """.formatted(email, password, rememberMe)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
@@ -0,0 +1,91 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.test-data.enabled=true",
+        "app.admin.token=it-admin-token"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TestDataSnapshotIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rejectsRequestsWithoutAdminToken() throws Exception {
+        mockMvc.perform(get("/api/admin/test-data/snapshots")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/test-data/snapshots").header("X-Admin-Token", "wrong")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void restoresCapturedRowsAndKeepsIdsUsable() throws Exception {
+        signUp("snapshot.kept@example.com");
+        mockMvc.perform(admin(post("/api/admin/test-data/snapshots/it_baseline")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("it_baseline"));
+        signUp("snapshot.discarded@example.com");
+
+        mockMvc.perform(admin(post("/api/admin/test-data/snapshots/it_baseline/restore")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tables").isNumber());
+
+        signIn("snapshot.kept@example.com").andExpect(status().isOk());
+        signIn("snapshot.discarded@example.com").andExpect(status().isUnauthorized());
+        signUp("snapshot.after@example.com");
+        signIn("snapshot.after@example.com").andExpect(status().isOk());
+
+        mockMvc.perform(admin(get("/api/admin/test-data/snapshots")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasItem("it_baseline")));
+        mockMvc.perform(admin(delete("/api/admin/test-data/snapshots/it_baseline"))).andExpect(status().isNoContent());
+        mockMvc.perform(admin(get("/api/admin/test-data/snapshots")))
+                .andExpect(jsonPath("$", not(hasItem("it_baseline"))));
+        mockMvc.perform(admin(post("/api/admin/test-data/snapshots/it_baseline/restore")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsInvalidSnapshotNames() throws Exception {
+        mockMvc.perform(admin(post("/api/admin/test-data/snapshots/Bad-Name")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static MockHttpServletRequestBuilder admin(MockHttpServletRequestBuilder request) {
+        return request.header("X-Admin-Token", "it-admin-token");
+    }
+
+    private void signUp(String email) throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Snapshot User", "email": "%s", "password": "secret123"}
+                                """.formatted(email)))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions signIn(String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email": "%s", "password": "secret123"}
+                        """.formatted(email)));
+    }
+}
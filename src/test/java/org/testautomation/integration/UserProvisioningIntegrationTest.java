@@ -0,0 +1,79 @@
+package org.testautomation.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.provisioning.enabled=true",
+        "app.provisioning.insert-batch-size=2",
+        "app.admin.token=it-admin-token"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserProvisioningIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void createsNewUsersAndCountsDuplicates() throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Existing", "email": "bulk.existing@example.com", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/admin/test-data/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"users": [{"name": "Bulk One", "email": "bulk.one@example.com", "password": "secret123"}]}
+                                """))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/admin/test-data/users")
+                        .header("X-Admin-Token", "it-admin-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"users": [
+                                  {"name": "Bulk One", "email": "bulk.one@example.com", "password": "secret123"},
+                                  {"name": "Bulk Two", "email": "Bulk.Two@Example.com", "password": "other-secret"},
+                                  {"name": "Existing", "email": "bulk.existing@example.com", "password": "secret123"},
+                                  {"name": "Bulk One Again", "email": "BULK.ONE@example.com", "password": "secret123"},
+                                  {"name": "Bulk Three", "email": "bulk.three@example.com", "password": "secret123"}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(5))
+                .andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.duplicates").value(2));
+
+        signIn("bulk.two@example.com", "other-secret");
+        signIn("bulk.three@example.com", "secret123");
+        mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "bulk.existing@example.com", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    private void signIn(String email, String password) throws Exception {
+        mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "%s"}
+                                """.formatted(email, password)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.email").value(email));
+    }
+}
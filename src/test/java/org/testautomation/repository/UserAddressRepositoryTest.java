@@ -3,6 +3,7 @@ package org.testautomation.repository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.testautomation.entity.UserAccount;
 import org.testautomation.entity.UserAddress;
@@ -22,6 +23,9 @@ class UserAddressRepositoryTest {
     @Autowired
     private UserAccountRepository userAccountRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void findByUserIdOrderByCreatedAtDescReturnsOnlyUsersAddressesInDescendingOrder() {
         UserAccount owner = createUser("owner.addresses@example.com");
@@ -47,6 +51,30 @@ class UserAddressRepositoryTest {
         assertThat(userAddressRepository.findByIdAndUserId(address.getId(), other.getId())).isEmpty();
     }
 
+    @Test
+    void clearDefaultByUserIdExceptKeepsOnlyTheGivenDefault() {
+        UserAccount owner = createUser("owner.defaults@example.com");
+        UserAccount other = createUser("other.defaults@example.com");
+        UserAddress previous = createAddress(owner, "Home", Instant.parse("2025-01-01T00:00:00Z"));
+        UserAddress kept = createAddress(owner, "Work", Instant.parse("2025-02-01T00:00:00Z"));
+        UserAddress otherDefault = createAddress(other, "Other", Instant.parse("2025-03-01T00:00:00Z"));
+        for (UserAddress address : List.of(previous, kept, otherDefault)) {
+            address.setDefault(true);
+        }
+        userAddressRepository.saveAllAndFlush(List.of(previous, kept, otherDefault));
+
+        int cleared = userAddressRepository.clearDefaultByUserIdExcept(owner.getId(), kept.getId());
+        entityManager.clear();
+
+        assertThat(cleared).isEqualTo(1);
+        assertThat(userAddressRepository.findById(previous.getId())).get().extracting(UserAddress::isDefault).isEqualTo(false);
+        assertThat(userAddressRepository.findById(kept.getId())).get().extracting(UserAddress::isDefault).isEqualTo(true);
+        assertThat(userAddressRepository.findById(otherDefault.getId())).get().extracting(UserAddress::isDefault).isEqualTo(true);
+        assertThat(userAddressRepository.existsByUserId(owner.getId())).isTrue();
+        assertThat(userAddressRepository.findFirstByUserIdOrderByCreatedAtDesc(owner.getId())).get()
+                .extracting(UserAddress::getId).isEqualTo(kept.getId());
+    }
+
     private UserAccount createUser(String email) {
         UserAccount user = new UserAccount();
         user.setEmail(email);
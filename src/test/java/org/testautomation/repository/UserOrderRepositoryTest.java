@@ -63,6 +63,26 @@ class UserOrderRepositoryTest {
         assertThat(firstOrder.getItems().get(0).getProduct().getName()).isEqualTo("Laptop");
     }
 
+    @Test
+    void findByUserIdAndCreatedAtGreaterThanEqualExcludesOrdersOutsideHistoryWindow() {
+        UserAccount owner = createUser("orders.window@example.com");
+        Product product = createProduct("Monitor");
+
+        createOrder(owner, product, "accepted", Instant.parse("2024-06-01T00:00:00Z"));
+        UserOrder recent = createOrder(owner, product, "accepted", Instant.parse("2025-02-01T00:00:00Z"));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UserOrder> orders = userOrderRepository.findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                owner.getId(),
+                Instant.parse("2025-01-01T00:00:00Z")
+        );
+
+        assertThat(orders).extracting(UserOrder::getId).containsExactly(recent.getId());
+        assertThat(orders.get(0).getItems().get(0).getCreatedAt()).isEqualTo(Instant.parse("2025-02-01T00:00:00Z"));
+    }
+
     private UserAccount createUser(String email) {
         UserAccount user = new UserAccount();
         user.setEmail(email);
@@ -1,6 +1,9 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -23,11 +27,13 @@ import org.testautomation.domain.SignUpRequest;
 import org.testautomation.entity.UserAccount;
 import org.testautomation.repository.UserAccountRepository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,12 +52,24 @@ class AuthServiceTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    @Mock
+    private HttpServletResponse httpServletResponse;
+
     @Mock
     private HttpSession httpSession;
 
+    @Mock
+    private StatelessSessions statelessSessions;
+
+    @Mock
+    private RateLimiter emailRateLimiter;
+
     @Mock
     private Authentication authentication;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AuthService authService;
 
@@ -104,7 +122,7 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new BadCredentialsException("bad"));
 
-        assertThrows(BadCredentialsException.class, () -> authService.signIn(request, httpServletRequest));
+        assertThrows(BadCredentialsException.class, () -> authService.signIn(request, httpServletRequest, httpServletResponse));
     }
 
     @Test
@@ -122,9 +140,9 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
         when(httpServletRequest.getSession(true)).thenReturn(httpSession);
         when(httpSession.getId()).thenReturn("session-id");
-        when(userAccountRepository.findByEmailIgnoreCase("user@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("user@example.com")).thenReturn(Optional.of(user));
 
-        SignInResponse response = authService.signIn(request, httpServletRequest);
+        SignInResponse response = authService.signIn(request, httpServletRequest, httpServletResponse);
 
         verify(httpSession).setMaxInactiveInterval(2592000);
         verify(httpSession).setAttribute(any(String.class), any(SecurityContext.class));
@@ -133,6 +151,32 @@ class AuthServiceTest {
         assertThat(response.getUser().getName()).isEqualTo("User Name");
     }
 
+    @Test
+    void signInIssuesSignedTokenWithoutSessionWhenStateless() {
+        SignInRequest request = new SignInRequest();
+        request.setEmail("user@example.com");
+        request.setPassword("secret");
+
+        UserAccount user = new UserAccount();
+        user.setId(12L);
+        user.setEmail("user@example.com");
+        user.setDisplayName("User Name");
+        SessionTokenCodec.SessionToken token = new SessionTokenCodec.SessionToken(
+                "token-id", 12L, "user@example.com", Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-01-01T12:00:00Z"));
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
+        when(statelessSessions.isEnabled()).thenReturn(true);
+        when(userAccountRepository.findByNormalizedEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(statelessSessions.issue(12L, "user@example.com", false, httpServletResponse))
+                .thenReturn(new StatelessSessions.IssuedToken("signed-token", token));
+
+        SignInResponse response = authService.signIn(request, httpServletRequest, httpServletResponse);
+
+        verify(httpServletRequest, never()).getSession(true);
+        assertThat(response.getToken()).isEqualTo("signed-token");
+        assertThat(response.getExpiresAt()).isEqualTo("2026-01-01T12:00:00Z");
+    }
+
     @Test
     void getCurrentSessionReturnsEmptyWhenNoSessionExists() {
         when(httpServletRequest.getSession(false)).thenReturn(null);
@@ -157,7 +201,7 @@ class AuthServiceTest {
         when(httpSession.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY)).thenReturn(context);
         when(httpSession.getId()).thenReturn("session-id");
         when(httpSession.getMaxInactiveInterval()).thenReturn(3600);
-        when(userAccountRepository.findByEmailIgnoreCase("session.user@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("session.user@example.com")).thenReturn(Optional.of(user));
 
         Optional<SignInResponse> response = authService.getCurrentSession(httpServletRequest);
 
@@ -171,7 +215,7 @@ class AuthServiceTest {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         when(httpServletRequest.getSession(false)).thenReturn(httpSession);
 
-        authService.logout(httpServletRequest);
+        authService.logout(httpServletRequest, httpServletResponse);
 
         verify(httpSession).invalidate();
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
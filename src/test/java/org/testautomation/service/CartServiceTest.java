@@ -1,10 +1,13 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.testautomation.converter.ProductConverter;
 import org.testautomation.domain.CartItemRequest;
@@ -43,6 +46,9 @@ class CartServiceTest {
     @Mock
     private ProductConverter productConverter;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private CartService cartService;
 
@@ -57,7 +63,7 @@ class CartServiceTest {
 
         ProductDTO dto = new ProductDTO(10L, "Keyboard", "desc", new BigDecimal("99.90"), new CategoryDTO(1L, "Cat", "Desc"));
 
-        when(userAccountRepository.findByEmailIgnoreCase("cart@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("cart@example.com")).thenReturn(Optional.of(user));
         when(userCartItemRepository.findByUserId(1L)).thenReturn(List.of(cartItem));
         when(productConverter.toDto(product)).thenReturn(dto);
 
@@ -80,7 +86,7 @@ class CartServiceTest {
         itemB.setProductId(50L);
         itemB.setQuantity(2);
 
-        when(userAccountRepository.findByEmailIgnoreCase("replace@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("replace@example.com")).thenReturn(Optional.of(user));
         when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
         when(userCartItemRepository.findByUserId(2L)).thenReturn(List.of());
 
@@ -101,7 +107,7 @@ class CartServiceTest {
         item.setProductId(999L);
         item.setQuantity(1);
 
-        when(userAccountRepository.findByEmailIgnoreCase("unknown@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("unknown@example.com")).thenReturn(Optional.of(user));
         when(productRepository.findAllById(anyIterable())).thenReturn(List.of());
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> cartService.replaceCart("unknown@example.com", List.of(item)));
@@ -115,7 +121,7 @@ class CartServiceTest {
         item.setProductId(1L);
         item.setQuantity(0);
 
-        when(userAccountRepository.findByEmailIgnoreCase("qty@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("qty@example.com")).thenReturn(Optional.of(user));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> cartService.replaceCart("qty@example.com", List.of(item)));
         assertThat(exception.getMessage()).isEqualTo("quantity must be at least 1");
@@ -124,7 +130,7 @@ class CartServiceTest {
     @Test
     void clearCartDeletesByUserId() {
         UserAccount user = user(5L, "clear@example.com");
-        when(userAccountRepository.findByEmailIgnoreCase("clear@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("clear@example.com")).thenReturn(Optional.of(user));
 
         cartService.clearCart("clear@example.com");
 
@@ -1,15 +1,18 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.testautomation.converter.CategoryConverter;
 import org.testautomation.domain.CategoryDTO;
 import org.testautomation.entity.Category;
 import org.testautomation.repository.CategoryRepository;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryConverter categoryConverter;
 
+    @Spy
+    private SingleFlight<Long, Optional<CategoryDTO>> categoryLookups = new SingleFlight<>("test", true, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -1,10 +1,13 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.testautomation.domain.CheckoutItemRequest;
 import org.testautomation.domain.CheckoutPaymentRequest;
@@ -46,6 +49,15 @@ class CheckoutServiceTest {
     private UserAddressRepository userAddressRepository;
     @Mock
     private UserPaymentMethodRepository userPaymentMethodRepository;
+    @Mock
+    private OrderStatsService orderStatsService;
+    @Mock
+    private SalesAnalyticsService salesAnalyticsService;
+    @Mock
+    private RecommendationService recommendationService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private CheckoutService checkoutService;
@@ -53,7 +65,7 @@ class CheckoutServiceTest {
     @Test
     void checkoutThrowsWhenCartIsEmpty() {
         UserAccount user = user(1L, "empty@example.com");
-        when(userAccountRepository.findByEmailIgnoreCase("empty@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("empty@example.com")).thenReturn(Optional.of(user));
         when(userCartItemRepository.findByUserId(1L)).thenReturn(List.of());
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> checkoutService.checkout("empty@example.com", new CheckoutRequest()));
@@ -65,7 +77,7 @@ class CheckoutServiceTest {
         UserAccount user = user(2L, "subtotal@example.com");
         Product product = product(100L, "Laptop", "999.99");
         UserCartItem cartItem = cartItem(user, product, 1);
-        when(userAccountRepository.findByEmailIgnoreCase("subtotal@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("subtotal@example.com")).thenReturn(Optional.of(user));
         when(userCartItemRepository.findByUserId(2L)).thenReturn(List.of(cartItem));
 
         CheckoutRequest request = checkoutRequestCardWithNewShipping("USD", new BigDecimal("10.00"), 100L, 1);
@@ -79,7 +91,7 @@ class CheckoutServiceTest {
         UserAccount user = user(3L, "saved.address@example.com");
         Product product = product(101L, "Mouse", "20.00");
         UserCartItem cartItem = cartItem(user, product, 1);
-        when(userAccountRepository.findByEmailIgnoreCase("saved.address@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("saved.address@example.com")).thenReturn(Optional.of(user));
         when(userCartItemRepository.findByUserId(3L)).thenReturn(List.of(cartItem));
         when(userAddressRepository.findByIdAndUserId(777L, 3L)).thenReturn(Optional.empty());
 
@@ -104,7 +116,7 @@ class CheckoutServiceTest {
         method.setCardLast4("4242");
         method.setCardExpiry("01/30");
 
-        when(userAccountRepository.findByEmailIgnoreCase("saved.payment@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("saved.payment@example.com")).thenReturn(Optional.of(user));
         when(userCartItemRepository.findByUserId(4L)).thenReturn(List.of(cartItem));
         when(userAddressRepository.findByIdAndUserId(5L, 4L)).thenReturn(Optional.of(address));
         when(userPaymentMethodRepository.findByIdAndUserId(9L, 4L)).thenReturn(Optional.of(method));
@@ -125,6 +137,9 @@ class CheckoutServiceTest {
         assertThat(response.getOrderId()).isEqualTo("ORD-88");
         assertThat(response.getStatus()).isEqualTo("accepted");
         verify(userCartItemRepository).deleteByUserId(4L);
+        verify(orderStatsService).recordOrder(any(UserOrder.class));
+        verify(salesAnalyticsService).recordOrder(any(UserOrder.class));
+        verify(recommendationService).recordOrder(any(UserOrder.class));
 
         ArgumentCaptor<UserOrder> orderCaptor = ArgumentCaptor.forClass(UserOrder.class);
         verify(userOrderRepository).save(orderCaptor.capture());
@@ -137,9 +152,9 @@ class CheckoutServiceTest {
         UserAccount user = user(5L, "new.payment@example.com");
         Product product = product(103L, "Monitor", "250.00");
         UserCartItem cartItem = cartItem(user, product, 1);
-        when(userAccountRepository.findByEmailIgnoreCase("new.payment@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("new.payment@example.com")).thenReturn(Optional.of(user));
         when(userCartItemRepository.findByUserId(5L)).thenReturn(List.of(cartItem));
-        when(userPaymentMethodRepository.findByUserIdOrderByCreatedAtDesc(5L)).thenReturn(List.of());
+        when(userPaymentMethodRepository.existsByUserId(5L)).thenReturn(false);
         when(userOrderRepository.save(any(UserOrder.class))).thenAnswer(invocation -> {
             UserOrder order = invocation.getArgument(0);
             order.setId(99L);
@@ -153,7 +168,7 @@ class CheckoutServiceTest {
         checkoutService.checkout("new.payment@example.com", request);
 
         ArgumentCaptor<UserPaymentMethod> paymentCaptor = ArgumentCaptor.forClass(UserPaymentMethod.class);
-        verify(userPaymentMethodRepository).save(paymentCaptor.capture());
+        verify(userPaymentMethodRepository).saveAndFlush(paymentCaptor.capture());
         assertThat(paymentCaptor.getValue().getCardLast4()).isEqualTo("1111");
         assertThat(paymentCaptor.getValue().getLabel()).isEqualTo("Primary Card");
         assertThat(paymentCaptor.getValue().isDefault()).isTrue();
@@ -0,0 +1,49 @@
+package org.testautomation.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoPurchaseIndexTest {
+
+    @Test
+    void topPartnersAreOrderedByCoPurchaseCount() {
+        CoPurchaseIndex index = new CoPurchaseIndex(8);
+        index.addBasket(new long[]{1, 2, 3});
+        index.addBasket(new long[]{1, 3});
+        index.addBasket(new long[]{1, 3, 4});
+        index.addBasket(new long[]{1, 4, 4});
+
+        assertThat(index.topPartners(1, 5)).containsExactly(3, 4, 2);
+        assertThat(index.topPartners(1, 1)).containsExactly(3);
+        assertThat(index.topPartners(4, 5)).containsExactly(1, 3);
+        assertThat(index.topPartners(99, 5)).isEmpty();
+    }
+
+    @Test
+    void fullRowReplacesWeakestPartnerAndKeepsHeavyPairs() {
+        CoPurchaseIndex index = new CoPurchaseIndex(2);
+        for (int i = 0; i < 5; i++) {
+            index.addBasket(new long[]{1, 2});
+        }
+        index.addBasket(new long[]{1, 3});
+        index.addBasket(new long[]{1, 4});
+
+        long[] partners = index.topPartners(1, 5);
+        assertThat(partners).hasSize(2);
+        assertThat(partners[0]).isEqualTo(2);
+        assertThat(partners[1]).isEqualTo(4);
+    }
+
+    @Test
+    void indexGrowsBeyondInitialCapacity() {
+        CoPurchaseIndex index = new CoPurchaseIndex(4);
+        for (long productId = 1; productId <= 5_000; productId++) {
+            index.addBasket(new long[]{productId, productId + 100_000});
+        }
+
+        assertThat(index.productCount()).isEqualTo(10_000);
+        assertThat(index.topPartners(2_500, 3)).containsExactly(102_500);
+        assertThat(index.topPartners(102_500, 3)).containsExactly(2_500);
+    }
+}
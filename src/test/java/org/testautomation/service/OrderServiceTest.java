@@ -4,7 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.testautomation.config.OrderConfig;
 import org.testautomation.domain.OrderSummaryResponse;
 import org.testautomation.entity.Product;
 import org.testautomation.entity.UserAccount;
@@ -15,11 +19,18 @@ import org.testautomation.repository.UserOrderRepository;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +42,9 @@ class OrderServiceTest {
     @Mock
     private UserOrderRepository userOrderRepository;
 
+    @Spy
+    private OrderConfig.OrderProperties orderProperties = new OrderConfig.OrderProperties();
+
     @InjectMocks
     private OrderService orderService;
 
@@ -59,8 +73,9 @@ class OrderServiceTest {
         order.setSubtotal(new BigDecimal("199.80"));
         order.setItems(List.of(item));
 
-        when(userAccountRepository.findByEmailIgnoreCase("orders@example.com")).thenReturn(Optional.of(user));
-        when(userOrderRepository.findByUserIdOrderByCreatedAtDesc(9L)).thenReturn(List.of(order));
+        when(userAccountRepository.findByNormalizedEmail("orders@example.com")).thenReturn(Optional.of(user));
+        when(userOrderRepository.findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(eq(9L), any(Instant.class)))
+                .thenReturn(List.of(order));
 
         List<OrderSummaryResponse> responses = orderService.getOrders("orders@example.com");
 
@@ -70,10 +85,44 @@ class OrderServiceTest {
         assertThat(responses.get(0).getItems().get(0).getProductId()).isEqualTo(101L);
     }
 
+    @Test
+    void getOrdersOnlyReadsConfiguredHistoryMonths() {
+        UserAccount user = new UserAccount();
+        user.setId(9L);
+        orderProperties.setHistoryMonths(3);
+        when(userAccountRepository.findByNormalizedEmail("orders@example.com")).thenReturn(Optional.of(user));
+
+        orderService.getOrders("orders@example.com");
+
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(userOrderRepository).findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(eq(9L), since.capture());
+        Instant expected = ZonedDateTime.now(ZoneOffset.UTC).minusMonths(3).toInstant();
+        assertThat(since.getValue()).isCloseTo(expected, within(1, ChronoUnit.MINUTES));
+    }
+
     @Test
     void getOrdersThrowsWhenUserDoesNotExist() {
-        when(userAccountRepository.findByEmailIgnoreCase("missing@example.com")).thenReturn(Optional.empty());
+        when(userAccountRepository.findByNormalizedEmail("missing@example.com")).thenReturn(Optional.empty());
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> orderService.getOrders("missing@example.com"));
         assertThat(exception.getMessage()).isEqualTo("User not found");
     }
+
+    @Test
+    void getRecentOrdersByUserIdPagesIdsBeforeFetchingItems() {
+        UserOrder order = new UserOrder();
+        order.setId(45L);
+        order.setStatus("accepted");
+        order.setCreatedAt(Instant.parse("2025-01-02T00:00:00Z"));
+        order.setCurrency("USD");
+        order.setSubtotal(new BigDecimal("5.00"));
+        order.setItems(List.of());
+
+        when(userOrderRepository.findRecentOrderIds(eq(9L), any(Instant.class), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(45L));
+        when(userOrderRepository.findByIdInOrderByCreatedAtDesc(List.of(45L))).thenReturn(List.of(order));
+
+        List<OrderSummaryResponse> responses = orderService.getRecentOrdersByUserId(9L, 3);
+
+        assertThat(responses).extracting(OrderSummaryResponse::getOrderId).containsExactly("ORD-45");
+    }
 }
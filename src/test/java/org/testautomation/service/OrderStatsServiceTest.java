@@ -0,0 +1,119 @@
+package org.testautomation.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.testautomation.domain.OrderStatsResponse;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderCategoryStats;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.entity.UserOrderStats;
+import org.testautomation.repository.UserAccountRepository;
+import org.testautomation.repository.UserOrderCategoryStatsRepository;
+import org.testautomation.repository.UserOrderRepository;
+import org.testautomation.repository.UserOrderStatsRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatsServiceTest {
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private UserOrderRepository userOrderRepository;
+    @Mock
+    private UserOrderStatsRepository userOrderStatsRepository;
+    @Mock
+    private UserOrderCategoryStatsRepository userOrderCategoryStatsRepository;
+
+    @InjectMocks
+    private OrderStatsService orderStatsService;
+
+    @Test
+    void getStatsReturnsZerosWhenUserHasNoOrders() {
+        UserAccount user = user(1L, "new@example.com");
+        when(userAccountRepository.findByNormalizedEmail("new@example.com")).thenReturn(Optional.of(user));
+        when(userOrderStatsRepository.findById(1L)).thenReturn(Optional.empty());
+
+        OrderStatsResponse response = orderStatsService.getStats("new@example.com");
+
+        assertThat(response.getOrderCount()).isZero();
+        assertThat(response.getTotalSpend()).isEqualByComparingTo("0.00");
+        assertThat(response.getLastOrderAt()).isNull();
+        assertThat(response.getFavouriteCategoryId()).isNull();
+    }
+
+    @Test
+    void recordOrderAccumulatesTotalsAndPromotesFavouriteCategory() {
+        UserAccount user = user(2L, "stats@example.com");
+        UserOrderStats existing = new UserOrderStats(2L);
+        existing.setOrderCount(1);
+        existing.setTotalSpend(new BigDecimal("10.00"));
+        existing.setLastOrderAt(Instant.parse("2025-01-01T00:00:00Z"));
+        existing.setFavouriteCategoryId(10L);
+        existing.setFavouriteCategoryUnits(2);
+
+        UserOrderCategoryStats books = new UserOrderCategoryStats(2L, 20L);
+        books.setUnits(1);
+
+        UserOrder order = new UserOrder();
+        order.setUser(user);
+        order.setSubtotal(new BigDecimal("30.00"));
+        order.setCreatedAt(Instant.parse("2025-02-01T00:00:00Z"));
+        order.addItem(item(product(20L), 3));
+
+        when(userOrderStatsRepository.findByUserIdForUpdate(2L)).thenReturn(Optional.of(existing));
+        when(userOrderCategoryStatsRepository.findByUserIdAndCategoryIdIn(eq(2L), anyCollection())).thenReturn(List.of(books));
+
+        orderStatsService.recordOrder(order);
+
+        verify(userOrderStatsRepository).insertIfAbsent(2L);
+        ArgumentCaptor<UserOrderStats> statsCaptor = ArgumentCaptor.forClass(UserOrderStats.class);
+        verify(userOrderStatsRepository).save(statsCaptor.capture());
+        UserOrderStats saved = statsCaptor.getValue();
+        assertThat(saved.getOrderCount()).isEqualTo(2);
+        assertThat(saved.getTotalSpend()).isEqualByComparingTo("40.00");
+        assertThat(saved.getLastOrderAt()).isEqualTo(Instant.parse("2025-02-01T00:00:00Z"));
+        assertThat(saved.getFavouriteCategoryId()).isEqualTo(20L);
+        assertThat(saved.getFavouriteCategoryUnits()).isEqualTo(4);
+        assertThat(books.getUnits()).isEqualTo(4);
+    }
+
+    private UserAccount user(Long id, String email) {
+        UserAccount user = new UserAccount();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+
+    private Product product(Long categoryId) {
+        Category category = new Category("Category " + categoryId, "desc");
+        category.setId(categoryId);
+        Product product = new Product("Product", "desc", new BigDecimal("10.00"), category);
+        product.setId(100L + categoryId);
+        return product;
+    }
+
+    private UserOrderItem item(Product product, int quantity) {
+        UserOrderItem item = new UserOrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
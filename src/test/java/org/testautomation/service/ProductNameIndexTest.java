@@ -0,0 +1,80 @@
+package org.testautomation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductNameIndexTest {
+
+    private final ProductNameIndex index = ProductNameIndex.build(names(
+            1L, "Widget Pro 100",
+            2L, "Alpha Widget",
+            3L, "Crème Brûlée Kit",
+            4L, "Widget-Kit Deluxe",
+            5L, "Widget Pro 100",
+            6L, "Gadget Lite"));
+
+    @Test
+    void ranksNamesStartingWithThePrefixFirst() {
+        assertThat(ids(index.top("wid", 10))).containsExactly(4L, 1L, 5L, 2L);
+    }
+
+    @Test
+    void matchesAnyWordIgnoringCaseAccentsAndPunctuation() {
+        assertThat(ids(index.top("CREME b", 10))).containsExactly(3L);
+        assertThat(ids(index.top("brulee", 10))).containsExactly(3L);
+        assertThat(ids(index.top("kit", 10))).containsExactly(3L, 4L);
+        assertThat(ids(index.top("widget kit", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void limitsAndDeduplicatesResults() {
+        assertThat(ids(index.top("widget pro", 1))).containsExactly(1L);
+        assertThat(ids(index.top("pro 1", 10))).containsExactly(1L, 5L);
+        assertThat(index.top("zzz", 10)).isEmpty();
+        assertThat(index.top("  ", 10)).isEmpty();
+        assertThat(ProductNameIndex.EMPTY.top("widget", 10)).isEmpty();
+    }
+
+    @Test
+    void updateMergesChangedProductsIntoTheExistingOrder() {
+        Map<Long, String> changes = new HashMap<>();
+        changes.put(2L, "Widget Alpha");
+        changes.put(4L, null);
+        changes.put(7L, "Pro Widget Stand");
+        changes.put(8L, null);
+
+        ProductNameIndex updated = index.update(changes);
+        ProductNameIndex rebuilt = ProductNameIndex.build(names(
+                1L, "Widget Pro 100",
+                2L, "Widget Alpha",
+                3L, "Crème Brûlée Kit",
+                5L, "Widget Pro 100",
+                6L, "Gadget Lite",
+                7L, "Pro Widget Stand"));
+
+        assertThat(updated.size()).isEqualTo(6);
+        assertThat(ids(updated.top("wid", 10))).containsExactly(2L, 1L, 5L, 7L);
+        for (String query : List.of("wid", "kit", "pro", "alpha", "g", "widget p")) {
+            assertThat(updated.top(query, 10)).isEqualTo(rebuilt.top(query, 10));
+        }
+        assertThat(ids(index.top("wid", 10))).containsExactly(4L, 1L, 5L, 2L);
+    }
+
+    private static List<Long> ids(List<ProductNameIndex.Match> matches) {
+        return matches.stream().map(ProductNameIndex.Match::id).toList();
+    }
+
+    private static Map<Long, String> names(Object... idsAndNames) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        for (int i = 0; i < idsAndNames.length; i += 2) {
+            names.put((Long) idsAndNames[i], (String) idsAndNames[i + 1]);
+        }
+        return names;
+    }
+}
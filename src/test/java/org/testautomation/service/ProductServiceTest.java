@@ -1,9 +1,11 @@
 package org.testautomation.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -15,6 +17,7 @@ import org.testautomation.entity.Product;
 import org.testautomation.repository.ProductRepository;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,9 @@ class ProductServiceTest {
     @Mock
     private ProductConverter productConverter;
 
+    @Spy
+    private SingleFlight<Long, Optional<ProductDTO>> productLookups = new SingleFlight<>("test", true, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
     @InjectMocks
     private ProductService productService;
 
@@ -71,7 +77,7 @@ class ProductServiceTest {
         product.setId(20L);
         ProductDTO dto = new ProductDTO(20L, "Monitor", "desc", new BigDecimal("199.90"), null);
 
-        when(productRepository.findById(20L)).thenReturn(Optional.of(product));
+        when(productRepository.findWithCategoryById(20L)).thenReturn(Optional.of(product));
         when(productConverter.toDto(product)).thenReturn(dto);
 
         Optional<ProductDTO> response = productService.findById(20L);
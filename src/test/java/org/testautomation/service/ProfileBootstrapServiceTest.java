@@ -0,0 +1,125 @@
+package org.testautomation.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.testautomation.config.ProfileConfig;
+import org.testautomation.domain.OrderSummaryResponse;
+import org.testautomation.domain.ProfileResponse;
+import org.testautomation.domain.UserAddressResponse;
+import org.testautomation.domain.UserPaymentMethodResponse;
+import org.testautomation.entity.UserAccount;
+import org.testautomation.repository.UserAccountRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileBootstrapServiceTest {
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private ProfileService profileService;
+    @Mock
+    private OrderService orderService;
+    @Spy
+    private ProfileConfig.ProfileProperties profileProperties = new ProfileConfig.ProfileProperties();
+
+    @InjectMocks
+    private ProfileBootstrapService profileBootstrapService;
+
+    @Test
+    void getProfileLoadsAllSectionsByDefault() {
+        when(userAccountRepository.findByNormalizedEmail("profile@example.com")).thenReturn(Optional.of(user(3L, "profile@example.com")));
+        when(profileService.getAddressesByUserId(3L))
+                .thenReturn(List.of(new UserAddressResponse(1L, "Home", "User", "profile@example.com", "Street 1", "City", "12345", "Country", true)));
+        when(profileService.getPaymentMethodsByUserId(3L))
+                .thenReturn(List.of(new UserPaymentMethodResponse(2L, "Card", "card", "4242", "01/30", null, true)));
+        when(orderService.getRecentOrdersByUserId(3L, 10))
+                .thenReturn(List.of(new OrderSummaryResponse("ORD-5", "accepted", "2026-01-01T00:00:00Z", "USD", new BigDecimal("10.00"), List.of())));
+
+        ProfileResponse response = profileBootstrapService.getProfile("profile@example.com", null, null);
+
+        assertThat(response.getAccount().getEmail()).isEqualTo("profile@example.com");
+        assertThat(response.getAddresses()).hasSize(1);
+        assertThat(response.getPaymentMethods()).hasSize(1);
+        assertThat(response.getOrders()).extracting(OrderSummaryResponse::getOrderId).containsExactly("ORD-5");
+    }
+
+    @Test
+    void getProfileSkipsSectionsThatWereNotRequested() {
+        when(userAccountRepository.findByNormalizedEmail("profile@example.com")).thenReturn(Optional.of(user(3L, "profile@example.com")));
+        when(orderService.getRecentOrdersByUserId(3L, 5)).thenReturn(List.of());
+
+        ProfileResponse response = profileBootstrapService.getProfile("profile@example.com", " orders , paymentMethods", 5);
+
+        assertThat(response.getAccount()).isNull();
+        assertThat(response.getAddresses()).isNull();
+        assertThat(response.getOrders()).isEmpty();
+        verify(profileService, never()).getAddressesByUserId(anyLong());
+        verify(profileService).getPaymentMethodsByUserId(3L);
+    }
+
+    @Test
+    void getProfileRejectsUnknownField() {
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> profileBootstrapService.getProfile("profile@example.com", "account,wishlist", null)
+        );
+
+        assertEquals("Unsupported profile field: wishlist", ex.getMessage());
+    }
+
+    @Test
+    void getProfilePropagatesSectionFailure() {
+        when(userAccountRepository.findByNormalizedEmail("profile@example.com")).thenReturn(Optional.of(user(3L, "profile@example.com")));
+        when(profileService.getAddressesByUserId(3L)).thenThrow(new IllegalArgumentException("boom"));
+
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> profileBootstrapService.getProfile("profile@example.com", "addresses", null)
+        );
+
+        assertEquals("boom", ex.getMessage());
+    }
+
+    @Test
+    void getProfileLooksUpAccountOffTheRequestThread() {
+        Thread requestThread = Thread.currentThread();
+        List<Thread> lookupThreads = new ArrayList<>();
+        when(userAccountRepository.findByNormalizedEmail("missing@example.com")).thenAnswer(invocation -> {
+            lookupThreads.add(Thread.currentThread());
+            return Optional.empty();
+        });
+
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> profileBootstrapService.getProfile("missing@example.com", null, null)
+        );
+
+        assertEquals("User not found", ex.getMessage());
+        assertThat(lookupThreads).hasSize(1).doesNotContain(requestThread);
+    }
+
+    private UserAccount user(Long id, String email) {
+        UserAccount user = new UserAccount();
+        user.setId(id);
+        user.setEmail(email);
+        user.setDisplayName("Profile User");
+        return user;
+    }
+}
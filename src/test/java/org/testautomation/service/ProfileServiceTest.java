@@ -5,6 +5,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.testautomation.domain.AuthUserDTO;
 import org.testautomation.domain.UserAccountDeleteRequest;
@@ -19,12 +21,14 @@ import org.testautomation.repository.UserAccountRepository;
 import org.testautomation.repository.UserAddressRepository;
 import org.testautomation.repository.UserPaymentMethodRepository;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,7 +54,7 @@ class ProfileServiceTest {
         request.setName("New Name");
         request.setEmail("taken@example.com");
 
-        when(userAccountRepository.findByEmailIgnoreCase("existing@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("existing@example.com")).thenReturn(Optional.of(user));
         when(userAccountRepository.existsByEmailIgnoreCase("taken@example.com")).thenReturn(true);
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> profileService.updateAccount("existing@example.com", request));
@@ -64,7 +68,7 @@ class ProfileServiceTest {
         request.setName("  Jane Doe ");
         request.setEmail("  JANE@EXAMPLE.COM ");
 
-        when(userAccountRepository.findByEmailIgnoreCase("user@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("user@example.com")).thenReturn(Optional.of(user));
         when(userAccountRepository.save(any(UserAccount.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         AuthUserDTO dto = profileService.updateAccount("user@example.com", request);
@@ -81,7 +85,7 @@ class ProfileServiceTest {
         request.setCurrentPassword("wrong");
         request.setNewPassword("new-password");
 
-        when(userAccountRepository.findByEmailIgnoreCase("password@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("password@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("wrong", "stored-hash")).thenReturn(false);
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> profileService.updatePassword("password@example.com", request));
@@ -96,7 +100,7 @@ class ProfileServiceTest {
         request.setCurrentPassword("current123");
         request.setNewPassword("current123");
 
-        when(userAccountRepository.findByEmailIgnoreCase("same@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("same@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("current123", "stored-hash")).thenReturn(true);
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> profileService.updatePassword("same@example.com", request));
@@ -116,9 +120,9 @@ class ProfileServiceTest {
         request.setCountry("Country");
         request.setDefault(false);
 
-        when(userAccountRepository.findByEmailIgnoreCase("address@example.com")).thenReturn(Optional.of(user));
-        when(userAddressRepository.findByUserIdOrderByCreatedAtDesc(5L)).thenReturn(List.of());
-        when(userAddressRepository.save(any(UserAddress.class))).thenAnswer(invocation -> {
+        when(userAccountRepository.findByNormalizedEmail("address@example.com")).thenReturn(Optional.of(user));
+        when(userAddressRepository.existsByUserId(5L)).thenReturn(false);
+        when(userAddressRepository.saveAndFlush(any(UserAddress.class))).thenAnswer(invocation -> {
             UserAddress address = invocation.getArgument(0);
             address.setId(1L);
             return address;
@@ -143,14 +147,61 @@ class ProfileServiceTest {
         promoted.setUser(user);
         promoted.setDefault(false);
 
-        when(userAccountRepository.findByEmailIgnoreCase("delete.address@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("delete.address@example.com")).thenReturn(Optional.of(user));
         when(userAddressRepository.findByIdAndUserId(9L, 6L)).thenReturn(Optional.of(deleted));
-        when(userAddressRepository.findByUserIdOrderByCreatedAtDesc(6L)).thenReturn(List.of(promoted));
+        when(userAddressRepository.findFirstByUserIdOrderByCreatedAtDesc(6L)).thenReturn(Optional.of(promoted));
 
         profileService.deleteAddress("delete.address@example.com", 9L);
 
         assertThat(promoted.isDefault()).isTrue();
-        verify(userAddressRepository).save(promoted);
+        verify(userAddressRepository).saveAndFlush(promoted);
+    }
+
+    @Test
+    void setDefaultAddressClearsOtherDefaultsWithSingleBulkUpdate() {
+        UserAccount user = user(8L, "default.address@example.com");
+        UserAddress address = new UserAddress();
+        address.setId(12L);
+        address.setUser(user);
+        address.setDefault(false);
+
+        when(userAccountRepository.findByNormalizedEmail("default.address@example.com")).thenReturn(Optional.of(user));
+        when(userAddressRepository.findByIdAndUserId(12L, 8L)).thenReturn(Optional.of(address));
+        when(userAddressRepository.saveAndFlush(address)).thenReturn(address);
+
+        UserAddressResponse response = profileService.setDefaultAddress("default.address@example.com", 12L);
+
+        assertThat(response.isDefault()).isTrue();
+        verify(userAddressRepository).clearDefaultByUserIdExcept(8L, 12L);
+        verify(userAddressRepository, never()).findByUserIdOrderByCreatedAtDesc(8L);
+    }
+
+    @Test
+    void setDefaultAddressReportsConflictWhenConcurrentRequestSetAnotherDefault() {
+        UserAccount user = user(8L, "default.address@example.com");
+        UserAddress address = new UserAddress();
+        address.setId(12L);
+        address.setUser(user);
+
+        when(userAccountRepository.findByNormalizedEmail("default.address@example.com")).thenReturn(Optional.of(user));
+        when(userAddressRepository.findByIdAndUserId(12L, 8L)).thenReturn(Optional.of(address));
+        when(userAddressRepository.saveAndFlush(address)).thenThrow(violation("uq_user_addresses_default"));
+
+        assertThrows(ConcurrentUpdateException.class, () -> profileService.setDefaultAddress("default.address@example.com", 12L));
+    }
+
+    @Test
+    void setDefaultAddressPropagatesOtherIntegrityViolations() {
+        UserAccount user = user(8L, "default.address@example.com");
+        UserAddress address = new UserAddress();
+        address.setId(12L);
+        address.setUser(user);
+
+        when(userAccountRepository.findByNormalizedEmail("default.address@example.com")).thenReturn(Optional.of(user));
+        when(userAddressRepository.findByIdAndUserId(12L, 8L)).thenReturn(Optional.of(address));
+        when(userAddressRepository.saveAndFlush(address)).thenThrow(violation("user_addresses_user_id_fkey"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> profileService.setDefaultAddress("default.address@example.com", 12L));
     }
 
     @Test
@@ -162,25 +213,35 @@ class ProfileServiceTest {
         request.setCardLast4(" ");
         request.setCardExpiry("01/30");
 
-        when(userAccountRepository.findByEmailIgnoreCase("payment@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("payment@example.com")).thenReturn(Optional.of(user));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> profileService.addPaymentMethod("payment@example.com", request));
         assertThat(exception.getMessage()).isEqualTo("cardLast4 is required for card payment methods");
     }
 
     @Test
-    void deleteAccountDeletesUserWhenPasswordMatches() {
+    void deleteAccountSoftDeletesUserWhenPasswordMatches() {
         UserAccount user = user(8L, "delete@example.com");
         user.setPasswordHash("stored-hash");
         UserAccountDeleteRequest request = new UserAccountDeleteRequest();
         request.setCurrentPassword("secret");
 
-        when(userAccountRepository.findByEmailIgnoreCase("delete@example.com")).thenReturn(Optional.of(user));
+        when(userAccountRepository.findByNormalizedEmail("delete@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("secret", "stored-hash")).thenReturn(true);
 
         profileService.deleteAccount("delete@example.com", request);
 
-        verify(userAccountRepository).delete(user);
+        verify(userAccountRepository).save(user);
+        verify(userAccountRepository, never()).delete(user);
+        assertThat(user.isEnabled()).isFalse();
+        assertThat(user.getDeletedAt()).isNotNull();
+        assertThat(user.getEmail()).isEqualTo("deleted-8@deleted.invalid");
+    }
+
+    private DataIntegrityViolationException violation(String constraint) {
+        SQLException sqlException = new SQLException("duplicate key", "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraint));
     }
 
     private UserAccount user(Long id, String email) {
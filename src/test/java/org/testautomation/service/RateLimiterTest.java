@@ -0,0 +1,90 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(-5_000_000_000L);
+
+    @Test
+    void allowsBurstThenRefillsOneTokenPerInterval() {
+        RateLimiter limiter = new RateLimiter("test-burst", true, 3, Duration.ofSeconds(2), 64, clock::get, new SimpleMeterRegistry());
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(Duration.ofSeconds(2).toNanos());
+
+        clock.addAndGet(Duration.ofMillis(1500).toNanos());
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(Duration.ofMillis(500).toNanos());
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        RateLimiter limiter = new RateLimiter("test-keys", true, 1, Duration.ofMinutes(1), 1024, clock::get, new SimpleMeterRegistry());
+
+        assertThat(limiter.tryAcquire("a@example.com")).isZero();
+        assertThat(limiter.tryAcquire("a@example.com")).isPositive();
+        assertThat(limiter.tryAcquire("b@example.com")).isZero();
+    }
+
+    @Test
+    void acquireThrowsWithRetryAfterRoundedUpToSeconds() {
+        RateLimiter limiter = new RateLimiter("test-acquire", true, 1, Duration.ofMillis(1500), 64, clock::get, new SimpleMeterRegistry());
+        limiter.acquire("user@example.com");
+
+        RateLimitedException limited = assertThrows(RateLimitedException.class, () -> limiter.acquire("user@example.com"));
+
+        assertThat(limited.getRetryAfterSeconds()).isEqualTo(2);
+    }
+
+    @Test
+    void admitsExactlyCapacityUnderContention() throws Exception {
+        RateLimiter limiter = new RateLimiter("test-contention", true, 50, Duration.ofHours(1), 64, clock::get, new SimpleMeterRegistry());
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    int allowed = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("shared") == 0) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get();
+            }
+            assertThat(allowed).isEqualTo(50);
+        }
+    }
+
+    @Test
+    void disabledLimiterAlwaysAllows() {
+        RateLimiter limiter = new RateLimiter("test-disabled", false, 1, Duration.ofHours(1), 64, clock::get, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("same")).isZero();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.testautomation.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.testautomation.domain.TopProductResponse;
+import org.testautomation.entity.Category;
+import org.testautomation.entity.Product;
+import org.testautomation.entity.SalesRollup;
+import org.testautomation.entity.UserOrder;
+import org.testautomation.entity.UserOrderItem;
+import org.testautomation.repository.SalesRollupRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SalesAnalyticsServiceTest {
+
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @InjectMocks
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordOrderMergesItemsIntoHourlyAndDailyDeltas() {
+        UserOrder order = new UserOrder();
+        order.setCreatedAt(Instant.parse("2025-05-10T14:25:00Z"));
+        order.addItem(item(product(1L, 10L), 2, "20.00"));
+        order.addItem(item(product(1L, 10L), 1, "10.00"));
+        order.addItem(item(product(2L, null), 3, "4.50"));
+
+        salesAnalyticsService.recordOrder(order);
+
+        ArgumentCaptor<Collection<SalesRollup>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(salesRollupRepository).increment(captor.capture());
+        List<SalesRollup> deltas = new ArrayList<>(captor.getValue());
+
+        assertThat(deltas).hasSize(4);
+        SalesRollup hourly = deltas.get(0);
+        assertThat(hourly.getGranularity()).isEqualTo(SalesRollup.Granularity.HOUR);
+        assertThat(hourly.getBucketStart()).isEqualTo(Instant.parse("2025-05-10T14:00:00Z"));
+        assertThat(hourly.getProductId()).isEqualTo(1L);
+        assertThat(hourly.getCategoryId()).isEqualTo(10L);
+        assertThat(hourly.getUnits()).isEqualTo(3);
+        assertThat(hourly.getRevenue()).isEqualByComparingTo("30.00");
+
+        SalesRollup daily = deltas.get(3);
+        assertThat(daily.getGranularity()).isEqualTo(SalesRollup.Granularity.DAY);
+        assertThat(daily.getBucketStart()).isEqualTo(Instant.parse("2025-05-10T00:00:00Z"));
+        assertThat(daily.getProductId()).isEqualTo(2L);
+        assertThat(daily.getCategoryId()).isNull();
+        assertThat(daily.getUnits()).isEqualTo(3);
+    }
+
+    @Test
+    void getTopProductsUsesRequestedMetricAndLimit() {
+        SalesRollupRepository.ProductTotal total = mock(SalesRollupRepository.ProductTotal.class);
+        when(total.getProductId()).thenReturn(5L);
+        when(total.getProductName()).thenReturn("Hammer");
+        when(total.getUnits()).thenReturn(12L);
+        when(total.getRevenue()).thenReturn(new BigDecimal("120.00"));
+        when(salesRollupRepository.findTopByUnits(
+                eq(SalesRollup.Granularity.DAY),
+                eq(Instant.parse("2025-05-01T00:00:00Z")),
+                eq(Instant.parse("2025-05-08T00:00:00Z")),
+                any(Pageable.class)
+        )).thenReturn(List.of(total));
+
+        List<TopProductResponse> response = salesAnalyticsService.getTopProducts(
+                "day", "2025-05-01T06:00:00Z", "2025-05-08T00:00:00Z", "units", 5);
+
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getProductName()).isEqualTo("Hammer");
+        assertThat(response.get(0).getUnits()).isEqualTo(12L);
+    }
+
+    @Test
+    void getProductSalesRejectsInvertedRange() {
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> salesAnalyticsService.getProductSales("hour", "2025-05-02T00:00:00Z", "2025-05-01T00:00:00Z", null)
+        );
+
+        assertEquals("'from' must be before 'to'", ex.getMessage());
+    }
+
+    @Test
+    void getCategorySalesRejectsHourlyRangeLongerThanLimit() {
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> salesAnalyticsService.getCategorySales("hour", "2025-01-01T00:00:00Z", "2025-03-01T00:00:00Z")
+        );
+
+        assertEquals("Range exceeds 31 days for hour buckets", ex.getMessage());
+    }
+
+    private Product product(Long id, Long categoryId) {
+        Category category = null;
+        if (categoryId != null) {
+            category = new Category("Category " + categoryId, "desc");
+            category.setId(categoryId);
+        }
+        Product product = new Product("Product " + id, "desc", BigDecimal.ONE, category);
+        product.setId(id);
+        return product;
+    }
+
+    private UserOrderItem item(Product product, int quantity, String lineTotal) {
+        UserOrderItem item = new UserOrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        item.setLineTotal(new BigDecimal(lineTotal));
+        return item;
+    }
+}
@@ -0,0 +1,64 @@
+package org.testautomation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SessionTokenCodecTest {
+
+    private static final SessionTokenCodec.SigningKey OLD_KEY = key("2025-q4", "old-secret-old-secret-old-secret!");
+    private static final SessionTokenCodec.SigningKey NEW_KEY = key("2026-q1", "new-secret-new-secret-new-secret!");
+    private static final SessionTokenCodec.SessionToken TOKEN = new SessionTokenCodec.SessionToken(
+            "abc123", 42L, "user:name@example.com", Instant.ofEpochMilli(1_700_000_000_123L), Instant.ofEpochMilli(1_700_043_200_123L));
+
+    @Test
+    void decodesWhatItEncodes() {
+        SessionTokenCodec codec = new SessionTokenCodec(List.of(NEW_KEY));
+
+        String value = codec.encode(TOKEN);
+
+        assertThat(value).startsWith("2026-q1.");
+        assertThat(codec.decode(value)).contains(TOKEN);
+    }
+
+    @Test
+    void rejectsTamperedPayloadAndSignature() {
+        SessionTokenCodec codec = new SessionTokenCodec(List.of(NEW_KEY));
+        String value = codec.encode(TOKEN);
+        String forged = codec.encode(new SessionTokenCodec.SessionToken(
+                "abc123", 1L, TOKEN.email(), TOKEN.issuedAt(), TOKEN.expiresAt()));
+        String forgedPayload = forged.substring(forged.indexOf('.') + 1, forged.lastIndexOf('.'));
+
+        assertThat(codec.decode(value.replace(value.substring(value.indexOf('.') + 1, value.lastIndexOf('.')), forgedPayload)))
+                .isEmpty();
+        assertThat(codec.decode(value.substring(0, value.length() - 2) + "AA")).isEmpty();
+        assertThat(codec.decode("not-a-token")).isEmpty();
+        assertThat(codec.decode("2026-q1.%%%.%%%")).isEmpty();
+    }
+
+    @Test
+    void verifiesTokensOfEveryConfiguredKeyButSignsWithTheFirst() {
+        String signedWithOldKey = new SessionTokenCodec(List.of(OLD_KEY)).encode(TOKEN);
+        SessionTokenCodec rotated = new SessionTokenCodec(List.of(NEW_KEY, OLD_KEY));
+
+        assertThat(rotated.decode(signedWithOldKey)).contains(TOKEN);
+        assertThat(rotated.encode(TOKEN)).startsWith("2026-q1.");
+        assertThat(new SessionTokenCodec(List.of(NEW_KEY)).decode(signedWithOldKey)).isEmpty();
+    }
+
+    @Test
+    void rejectsShortSecretsAndDuplicateKeyIds() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionTokenCodec(List.of(key("short", "too-short"))));
+        assertThrows(IllegalArgumentException.class, () -> new SessionTokenCodec(List.of(NEW_KEY, NEW_KEY)));
+        assertThrows(IllegalArgumentException.class, () -> new SessionTokenCodec(List.of()));
+    }
+
+    private static SessionTokenCodec.SigningKey key(String id, String secret) {
+        return new SessionTokenCodec.SigningKey(id, secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package org.testautomation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentLookupsOfSameKeyShareOneLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test-shared", true, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "product-1";
+                })));
+            }
+            // Let every caller arrive while the first load is still running
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product-1");
+            }
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.execute(1L, () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void waiterLoadsOnItsOwnAfterTimeout() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test-timeout", true, Duration.ofMillis(50), new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(singleFlight.execute(1L, () -> "own")).isEqualTo("own");
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        }
+    }
+
+    @Test
+    void waitersReceiveTheLeadersException() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test-failure", true, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw new IllegalArgumentException("database unavailable");
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> waiter = executor.submit(() -> singleFlight.execute(1L, () -> "unexpected"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class)
+                    .hasRootCauseMessage("database unavailable");
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void disabledSingleFlightAlwaysLoads() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test-disabled", false, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        assertThat(singleFlight.execute(1L, () -> "a")).isEqualTo("a");
+        assertThat(singleFlight.execute(1L, () -> "b")).isEqualTo("b");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}